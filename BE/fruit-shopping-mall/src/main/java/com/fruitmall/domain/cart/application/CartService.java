@@ -7,6 +7,7 @@ import com.fruitmall.domain.cart.application.dto.UpdateCartQuantityRequestDto;
 import com.fruitmall.domain.cart.application.mapper.CartMapper;
 import com.fruitmall.domain.cart.domain.Cart;
 import com.fruitmall.domain.cart.domain.CartRepository;
+import com.fruitmall.domain.fruit.application.FruitStockCache;
 import com.fruitmall.domain.fruit.domain.Fruit;
 import com.fruitmall.domain.fruit.domain.FruitRepository;
 import com.fruitmall.domain.member.domain.Member;
@@ -27,6 +28,7 @@ public class CartService {
     private final CartRepository cartRepository;
     private final MemberRepository memberRepository;
     private final FruitRepository fruitRepository;
+    private final FruitStockCache fruitStockCache;
     private final CartMapper cartMapper;
 
     // 장바구니에 상품 추가
@@ -41,7 +43,7 @@ public class CartService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.FRUIT_NOT_FOUND));
         
         // 재고 확인
-        if (fruit.getStockQuantity() < dto.getQuantity()) {
+        if (fruitStockCache.get(fruit.getId()) < dto.getQuantity()) {
             throw new BusinessException(ErrorCode.OUT_OF_STOCK);
         }
         
@@ -110,8 +112,7 @@ public class CartService {
         }
         
         // 재고 확인
-        Fruit fruit = cart.getFruit();
-        if (fruit.getStockQuantity() < dto.getQuantity()) {
+        if (fruitStockCache.get(cart.getFruit().getId()) < dto.getQuantity()) {
             throw new BusinessException(ErrorCode.OUT_OF_STOCK);
         }
         
@@ -6,6 +6,8 @@ import com.fruitmall.domain.delivery.domain.Address;
 import com.fruitmall.domain.delivery.domain.Delivery;
 import com.fruitmall.domain.delivery.domain.DeliveryRepository;
 import com.fruitmall.domain.delivery.domain.DeliveryStatus;
+import com.fruitmall.domain.order.application.InventoryRestorer;
+import com.fruitmall.domain.order.application.OrderSummaryUpdater;
 import com.fruitmall.domain.order.domain.Order;
 import com.fruitmall.domain.order.domain.OrderRepository;
 import com.fruitmall.domain.order.domain.OrderStatus;
@@ -25,6 +27,8 @@ public class DeliveryService {
 
     private final DeliveryRepository deliveryRepository;
     private final OrderRepository orderRepository;
+    private final OrderSummaryUpdater orderSummaryUpdater;
+    private final InventoryRestorer inventoryRestorer;
     private final DeliveryMapper deliveryMapper;
 
     // 배송 정보 생성
@@ -59,6 +63,7 @@ public class DeliveryService {
         
         // 주문 상태 업데이트 (배송 준비중)
         order.updateOrderStatus(OrderStatus.PREPARING);
+        orderSummaryUpdater.statusChanged(order);
         
         // 배송 저장
         Delivery savedDelivery = deliveryRepository.save(delivery);
@@ -137,7 +142,9 @@ public class DeliveryService {
             order.updateOrderStatus(OrderStatus.DELIVERED);
         } else if (dto.getDeliveryStatus() == DeliveryStatus.CANCELLED) {
             order.updateOrderStatus(OrderStatus.CANCELLED);
+            inventoryRestorer.restore(order);
         }
+        orderSummaryUpdater.statusChanged(order);
         
         return deliveryMapper.toDto(delivery);
     }
@@ -165,7 +172,9 @@ public class DeliveryService {
             order.updateOrderStatus(OrderStatus.DELIVERED);
         } else if (dto.getDeliveryStatus() == DeliveryStatus.CANCELLED) {
             order.updateOrderStatus(OrderStatus.CANCELLED);
+            inventoryRestorer.restore(order);
         }
+        orderSummaryUpdater.statusChanged(order);
         
         return deliveryMapper.toDto(delivery);
     }
@@ -202,6 +211,10 @@ public class DeliveryService {
         // 주문 상태도 취소로 변경
         Order order = delivery.getOrder();
         order.updateOrderStatus(OrderStatus.CANCELLED);
+        orderSummaryUpdater.statusChanged(order);
+        
+        // 재고 복구
+        inventoryRestorer.restore(order);
         
         return deliveryMapper.toDto(delivery);
     }
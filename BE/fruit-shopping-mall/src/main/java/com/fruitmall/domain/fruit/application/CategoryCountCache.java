@@ -0,0 +1,99 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.CategorySummaryDto;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository.StockQuantity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 수가 포함된 카테고리 목록 캐시.
+ * 목록 전체를 한 번의 집계 쿼리로 만들어 보관하고, 상품·카테고리가 바뀌면 커밋 후 통째로 무효화합니다.
+ * 재고 변경은 재고 있음 여부가 바뀐 경우(0 ↔ 1 이상)에만 무효화하므로 주문이 몰려도 다시 집계하지 않습니다.
+ */
+@Component
+public class CategoryCountCache {
+
+    private static final String KEY = "all";
+
+    private final CategoryRepository categoryRepository;
+    private final FruitInventoryRepository fruitInventoryRepository;
+    private final Cache<String, Snapshot> summaries;
+
+    public CategoryCountCache(
+            CategoryRepository categoryRepository,
+            FruitInventoryRepository fruitInventoryRepository,
+            MeterRegistry meterRegistry,
+            @Value("${fruit.cache.category-ttl-seconds:60}") long ttlSeconds) {
+        this.categoryRepository = categoryRepository;
+        this.fruitInventoryRepository = fruitInventoryRepository;
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, summaries, "fruit.catalog.category-counts");
+    }
+
+    public List<CategorySummaryDto> getAll() {
+        return summaries.get(KEY, key -> load()).summaries();
+    }
+
+    // 상품 등록·삭제, 카테고리 이동, 카테고리 변경은 건수에 영향
+    // 재고 변경은 집계 당시와 재고 있음 여부가 달라진 경우에만 영향
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFruitChanged(FruitChangedEvent event) {
+        if (event.getType() != FruitChangedEvent.Type.STOCK_CHANGED) {
+            summaries.invalidateAll();
+            return;
+        }
+        Snapshot snapshot = summaries.getIfPresent(KEY);
+        if (snapshot != null && snapshot.inStockFruitIds().contains(event.getFruitId()) != hasStock(event.getFruitId())) {
+            summaries.invalidateAll();
+        }
+    }
+
+    private Snapshot load() {
+        Set<Long> inStockFruitIds = fruitInventoryRepository.findAllStockQuantities().stream()
+                .filter(stock -> stock.getQuantity() > 0)
+                .map(StockQuantity::getFruitId)
+                .collect(Collectors.toUnmodifiableSet());
+        return new Snapshot(loadSummaries(), inStockFruitIds);
+    }
+
+    private List<CategorySummaryDto> loadSummaries() {
+        return categoryRepository.findAllWithFruitCounts().stream()
+                .map(count -> CategorySummaryDto.builder()
+                        .id(count.getCategoryId())
+                        .name(count.getName())
+                        .description(count.getDescription())
+                        .fruitCount(count.getFruitCount())
+                        .inStockCount(count.getInStockCount())
+                        .build())
+                .toList();
+    }
+
+    private boolean hasStock(Long fruitId) {
+        return fruitInventoryRepository.findStockQuantities(List.of(fruitId)).stream()
+                .mapToLong(StockQuantity::getQuantity)
+                .sum() > 0;
+    }
+
+    // 집계 결과와 집계 당시 재고가 있던 상품 ID
+    private record Snapshot(List<CategorySummaryDto> summaries, Set<Long> inStockFruitIds) {
+    }
+}
@@ -2,13 +2,16 @@ package com.fruitmall.domain.fruit.application;
 
 import com.fruitmall.domain.fruit.application.dto.CategoryDto;
 import com.fruitmall.domain.fruit.application.dto.CategoryRequestDto;
+import com.fruitmall.domain.fruit.application.dto.CategorySummaryDto;
 import com.fruitmall.domain.fruit.application.mapper.CategoryMapper;
 import com.fruitmall.domain.fruit.domain.Category;
 import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
 import com.fruitmall.domain.fruit.domain.FruitRepository;
 import com.fruitmall.global.error.BusinessException;
 import com.fruitmall.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +25,9 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final FruitRepository fruitRepository;
+    private final CategoryCountCache categoryCountCache;
     private final CategoryMapper categoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 카테고리 등록
     @Transactional
@@ -34,6 +39,7 @@ public class CategoryService {
         
         Category category = categoryMapper.toEntity(dto);
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(FruitChangedEvent.categoryChanged(savedCategory.getId()));
         
         return categoryMapper.toDto(savedCategory);
     }
@@ -61,6 +67,11 @@ public class CategoryService {
                 .collect(Collectors.toList());
     }
 
+    // 상품 수가 포함된 전체 카테고리 조회 (캐시)
+    public List<CategorySummaryDto> findAllWithCounts() {
+        return categoryCountCache.getAll();
+    }
+
     // 카테고리 업데이트
     @Transactional
     public CategoryDto update(Long id, CategoryRequestDto dto) {
@@ -73,6 +84,7 @@ public class CategoryService {
         }
         
         categoryMapper.updateEntityFromDto(dto, category);
+        eventPublisher.publishEvent(FruitChangedEvent.categoryChanged(category.getId()));
         
         return categoryMapper.toDto(category);
     }
@@ -83,11 +95,12 @@ public class CategoryService {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "카테고리를 찾을 수 없습니다."));
         
-        // 해당 카테고리에 속한 상품이 있는지 확인
-        if (!fruitRepository.findByCategory(category).isEmpty()) {
+        // 해당 카테고리에 속한 상품이 있는지 확인 (상품을 읽지 않고 존재 여부만)
+        if (fruitRepository.existsByCategoryId(category.getId())) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "해당 카테고리에 속한 상품이 있어 삭제할 수 없습니다.");
         }
         
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(FruitChangedEvent.categoryChanged(category.getId()));
     }
 }
\ No newline at end of file
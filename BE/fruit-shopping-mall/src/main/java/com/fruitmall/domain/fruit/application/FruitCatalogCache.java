@@ -0,0 +1,153 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.application.mapper.FruitMapper;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 조회 캐시.
+ * 상품별 FruitDto(재고 수량 제외)와 목록별 상품 ID 순서를 따로 보관하고, 목록은 등록·수정·삭제로 소속이 바뀔 때만 무효화합니다.
+ * 재고 수량은 반환할 때 FruitStockCache 값으로 채우므로 재고 변경으로는 상품 캐시가 무효화되지 않습니다.
+ * 무효화는 상품 변경 트랜잭션이 커밋된 뒤에 처리합니다. 호출은 조회 트랜잭션 안에서 해야 합니다.
+ */
+@Component
+public class FruitCatalogCache {
+
+    static final String ALL = "all";
+    static final String IN_STOCK = "in-stock";
+
+    private final FruitRepository fruitRepository;
+    private final FruitMapper fruitMapper;
+    private final FruitStockCache fruitStockCache;
+    private final Cache<Long, FruitDto> fruits;
+    private final Cache<String, List<Long>> listings;
+
+    public FruitCatalogCache(
+            FruitRepository fruitRepository,
+            FruitMapper fruitMapper,
+            FruitStockCache fruitStockCache,
+            MeterRegistry meterRegistry,
+            @Value("${fruit.cache.max-size:10000}") long maxSize,
+            @Value("${fruit.cache.list-max-size:1000}") long listMaxSize,
+            @Value("${fruit.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.fruitRepository = fruitRepository;
+        this.fruitMapper = fruitMapper;
+        this.fruitStockCache = fruitStockCache;
+        this.fruits = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.listings = Caffeine.newBuilder()
+                .maximumSize(listMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // /actuator/metrics 의 cache.gets, cache.puts, cache.evictions, cache.size (cache 태그로 구분)
+        CaffeineCacheMetrics.monitor(meterRegistry, fruits, "fruit.catalog.fruits");
+        CaffeineCacheMetrics.monitor(meterRegistry, listings, "fruit.catalog.listings");
+    }
+
+    static String categoryKey(Long categoryId) {
+        return "category:" + categoryId;
+    }
+
+    static String seasonKey(String season) {
+        return "season:" + season;
+    }
+
+    static String originKey(String origin) {
+        return "origin:" + origin;
+    }
+
+    // 상품 조회 (없으면 loader로 조회해 저장, loader 예외는 그대로 전달)
+    public FruitDto get(Long id, Function<Long, FruitDto> loader) {
+        return fruitStockCache.withStock(fruits.get(id, loader));
+    }
+
+    // 목록 조회 (목록의 상품 ID 순서가 캐시에 있으면 상품별 캐시에서 채우고, 빠진 상품만 한 번에 조회)
+    // 같은 키의 동시 요청은 한 번만 loader를 실행하고 나머지는 그 결과를 기다림
+    public List<FruitDto> getList(String key, Supplier<List<Fruit>> loader) {
+        List<FruitDto> loaded = new ArrayList<>();
+        List<Long> ids = listings.get(key, k -> {
+            loader.get().forEach(fruit -> loaded.add(fruitMapper.toDto(fruit)));
+            loaded.forEach(dto -> fruits.put(dto.getId(), dto));
+            return loaded.stream().map(FruitDto::getId).toList();
+        });
+        if (!loaded.isEmpty()) {
+            return fruitStockCache.withStock(loaded);
+        }
+
+        return getAll(ids);
+    }
+
+    // 여러 상품을 주어진 ID 순서대로 조회 (캐시에 없는 상품만 한 번에 조회, 삭제된 상품은 제외)
+    public List<FruitDto> getAll(List<Long> ids) {
+        Map<Long, FruitDto> cached = fruits.getAll(ids, this::loadFruits);
+        List<FruitDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            FruitDto dto = cached.get(id);
+            if (dto != null) {
+                result.add(dto);
+            }
+        }
+        return fruitStockCache.withStock(result);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFruitChanged(FruitChangedEvent event) {
+        switch (event.getType()) {
+            case STOCK_CHANGED -> listings.invalidate(IN_STOCK);
+            case REGISTERED, UPDATED, DELETED -> {
+                fruits.invalidate(event.getFruitId());
+                listings.invalidateAll(affectedListings(event));
+            }
+            case CATEGORY_CHANGED -> {
+                // 카테고리 이름은 FruitDto에 포함되므로 해당 카테고리 상품만 무효화
+                Set<Long> categoryIds = event.getCategoryIds();
+                fruits.asMap().values().removeIf(dto -> categoryIds.contains(dto.getCategoryId()));
+                categoryIds.forEach(categoryId -> listings.invalidate(categoryKey(categoryId)));
+            }
+            case CATALOG_RELOADED -> {
+                fruits.invalidateAll();
+                listings.invalidateAll();
+            }
+        }
+    }
+
+    private List<String> affectedListings(FruitChangedEvent event) {
+        List<String> keys = new ArrayList<>();
+        keys.add(ALL);
+        keys.add(IN_STOCK);
+        event.getCategoryIds().forEach(categoryId -> keys.add(categoryKey(categoryId)));
+        event.getSeasons().forEach(season -> keys.add(seasonKey(season)));
+        event.getOrigins().forEach(origin -> keys.add(originKey(origin)));
+        return keys;
+    }
+
+    private Map<Long, FruitDto> loadFruits(Set<? extends Long> ids) {
+        return fruitRepository.findAllByIdsOrderById(List.copyOf(ids)).stream()
+                .map(fruitMapper::toDto)
+                .collect(Collectors.toMap(FruitDto::getId, Function.identity()));
+    }
+}
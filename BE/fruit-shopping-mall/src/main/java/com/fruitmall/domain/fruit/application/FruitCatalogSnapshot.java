@@ -0,0 +1,202 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fruitmall.domain.fruit.application.dto.FruitCatalogItemDto;
+import com.fruitmall.domain.fruit.application.mapper.FruitMapper;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 상품 목록과 카테고리별 상품 목록의 직렬화 스냅샷.
+ * JSON 바이트와 gzip 압축 바이트, 강한 ETag를 미리 만들어 두고 요청은 이 바이트를 그대로 응답합니다.
+ * 상품·카테고리가 바뀌면 커밋 후 잠시 모았다가 새 스냅샷을 만들어 한 번에 교체합니다.
+ * 재고는 주문마다 바뀌어 스냅샷에 넣지 않습니다 (재고 필드가 없는 FruitCatalogItemDto로 직렬화, 재고 수량은 상품 상세 조회로 확인).
+ */
+@Slf4j
+@Component
+public class FruitCatalogSnapshot {
+
+    private final FruitRepository fruitRepository;
+    private final CategoryRepository categoryRepository;
+    private final FruitMapper fruitMapper;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration rebuildDelay;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    public FruitCatalogSnapshot(
+            FruitRepository fruitRepository,
+            CategoryRepository categoryRepository,
+            FruitMapper fruitMapper,
+            ObjectMapper objectMapper,
+            TaskScheduler taskScheduler,
+            PlatformTransactionManager transactionManager,
+            @Value("${fruit.snapshot.rebuild-delay-ms:1000}") long rebuildDelayMillis) {
+        this.fruitRepository = fruitRepository;
+        this.categoryRepository = categoryRepository;
+        this.fruitMapper = fruitMapper;
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.rebuildDelay = Duration.ofMillis(rebuildDelayMillis);
+    }
+
+    // 전체 상품 목록
+    public Entry all() {
+        return snapshot().all();
+    }
+
+    // 카테고리별 상품 목록 (없는 카테고리면 예외)
+    public Entry category(Long categoryId) {
+        Entry entry = snapshot().byCategory().get(categoryId);
+        if (entry == null) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "카테고리를 찾을 수 없습니다.");
+        }
+        return entry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Snapshot next = transactionTemplate.execute(status -> build());
+        current.set(next);
+        log.debug("상품 목록 스냅샷 교체 (상품 {}건, ETag {})", next.fruitCount(), next.all().getEtag());
+    }
+
+    // 변경이 몰려도 rebuildDelay 동안 한 번만 재구성 (재구성 중 들어온 변경은 다음 재구성에 반영)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFruitChanged(FruitChangedEvent event) {
+        if (event.getType() == FruitChangedEvent.Type.STOCK_CHANGED) {
+            return;
+        }
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::runScheduledRebuild, Instant.now().plus(rebuildDelay));
+        }
+    }
+
+    private void runScheduledRebuild() {
+        rebuildScheduled.set(false);
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("상품 목록 스냅샷 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            // 시작 직후 첫 요청이 스냅샷 구성보다 먼저 들어온 경우
+            synchronized (this) {
+                if (current.get() == null) {
+                    rebuild();
+                }
+            }
+            snapshot = current.get();
+        }
+        return snapshot;
+    }
+
+    private Snapshot build() {
+        List<FruitCatalogItemDto> fruits = fruitRepository.findAll().stream()
+                .map(fruitMapper::toCatalogItemDto)
+                .sorted(Comparator.comparing(FruitCatalogItemDto::getId))
+                .toList();
+        Map<Long, List<FruitCatalogItemDto>> grouped = fruits.stream()
+                .filter(fruit -> fruit.getCategoryId() != null)
+                .collect(Collectors.groupingBy(FruitCatalogItemDto::getCategoryId));
+
+        Map<Long, Entry> byCategory = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            byCategory.put(category.getId(), entry(grouped.getOrDefault(category.getId(), List.of())));
+        }
+        return new Snapshot(entry(fruits), Map.copyOf(byCategory), fruits.size());
+    }
+
+    private Entry entry(List<FruitCatalogItemDto> fruits) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(fruits);
+            return new Entry(json, gzip(json), etag(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    // 내용 해시 기반 강한 ETag (내용이 같으면 재구성·재시작 후에도 같은 값)
+    private static String etag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Snapshot(Entry all, Map<Long, Entry> byCategory, int fruitCount) {
+    }
+
+    /**
+     * 직렬화된 목록 한 개. gzip 응답은 바이트가 다르므로 별도의 강한 ETag를 사용합니다.
+     */
+    @Getter
+    public static class Entry {
+
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+        private final String gzipEtag;
+
+        private Entry(byte[] json, byte[] gzip, String etag) {
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = etag;
+            this.gzipEtag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitFilterRequestDto;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository.StockQuantity;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 필터·패싯용 비트맵 색인.
+ * 상품마다 위치(0부터)를 배정하고 카테고리·원산지·계절 값별, 재고 유무별로 BitSet을 유지합니다.
+ * 필터는 BitSet 교집합으로, 패싯 건수는 값별 BitSet과의 교집합 크기로 계산해 SQL GROUP BY 없이 응답합니다.
+ * 애플리케이션 시작 시 전체를 다시 만들고, 이후에는 상품 변경 커밋 후 해당 상품만 갱신합니다.
+ */
+@Slf4j
+@Component
+public class FruitFacetIndex {
+
+    private final FruitRepository fruitRepository;
+    private final FruitInventoryRepository fruitInventoryRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final BitSet inStock = new BitSet();
+    private final Map<Long, BitSet> byCategory = new HashMap<>();
+    private final Map<String, BitSet> byOrigin = new HashMap<>();
+    private final Map<String, BitSet> bySeason = new HashMap<>();
+    private volatile boolean ready;
+
+    public FruitFacetIndex(FruitRepository fruitRepository, FruitInventoryRepository fruitInventoryRepository) {
+        this.fruitRepository = fruitRepository;
+        this.fruitInventoryRepository = fruitInventoryRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 전체 상품으로 색인 재구성 (삭제로 생긴 빈 위치도 정리)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Fruit> fruits = fruitRepository.findAll();
+        Map<Long, Long> stocks = new HashMap<>();
+        fruitInventoryRepository.findAllStockQuantities()
+                .forEach(stock -> stocks.put(stock.getFruitId(), stock.getQuantity()));
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            positions.clear();
+            live.clear();
+            inStock.clear();
+            byCategory.clear();
+            byOrigin.clear();
+            bySeason.clear();
+            fruits.forEach(fruit -> put(fruit, stocks.getOrDefault(fruit.getId(), 0L) > 0));
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 패싯 색인 구성 완료 (상품 {}건)", fruits.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFruitChanged(FruitChangedEvent event) {
+        switch (event.getType()) {
+            case REGISTERED, UPDATED -> fruitRepository.findById(event.getFruitId())
+                    .ifPresentOrElse(this::index, () -> remove(event.getFruitId()));
+            case STOCK_CHANGED -> updateStock(event.getFruitId());
+            case DELETED -> remove(event.getFruitId());
+            case CATALOG_RELOADED -> rebuild();
+            case CATEGORY_CHANGED -> {
+                // 카테고리 이름은 색인하지 않음 (삭제는 상품이 없는 카테고리만 가능)
+            }
+        }
+    }
+
+    public void index(Fruit fruit) {
+        boolean hasStock = hasStock(fruit.getId());
+        lock.writeLock().lock();
+        try {
+            put(fruit, hasStock);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 재고 유무 비트만 갱신 (상품 정보는 그대로)
+    public void updateStock(Long fruitId) {
+        boolean hasStock = hasStock(fruitId);
+        lock.writeLock().lock();
+        try {
+            Integer position = positions.get(fruitId);
+            if (position != null) {
+                inStock.set(position, hasStock);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long fruitId) {
+        lock.writeLock().lock();
+        try {
+            Integer position = positions.remove(fruitId);
+            if (position != null) {
+                clearBits(position, entries.get(position));
+                entries.set(position, null);
+                live.clear(position);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 조건에 맞는 상품 ID(정렬·페이지 적용)와 패싯 건수 계산
+    public FilterResult filter(FruitFilterRequestDto filter, FruitSortType sort, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet categoryMatch = union(byCategory, filter.getCategoryIds());
+            BitSet originMatch = union(byOrigin, filter.getOrigins());
+            BitSet seasonMatch = union(bySeason, filter.getSeasons());
+            BitSet common = commonMatch(filter);
+
+            BitSet matched = intersect(common, categoryMatch, originMatch, seasonMatch);
+
+            // 패싯 건수는 자기 항목 조건을 뺀 나머지 조건으로 계산
+            Map<Long, Integer> categoryCounts = counts(byCategory, intersect(common, originMatch, seasonMatch));
+            Map<String, Integer> originCounts = counts(byOrigin, intersect(common, categoryMatch, seasonMatch));
+            Map<String, Integer> seasonCounts = counts(bySeason, intersect(common, categoryMatch, originMatch));
+
+            List<Entry> sorted = new ArrayList<>(matched.cardinality());
+            for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                sorted.add(entries.get(i));
+            }
+            sorted.sort(comparator(sort));
+
+            int from = Math.min(offset, sorted.size());
+            int to = Math.min(from + limit, sorted.size());
+            List<Long> pageIds = sorted.subList(from, to).stream().map(Entry::id).toList();
+            return new FilterResult(pageIds, sorted.size(), categoryCounts, originCounts, seasonCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 값 목록 조건이 없는 항목(재고, 가격)과 삭제 여부를 합친 기본 집합
+    private BitSet commonMatch(FruitFilterRequestDto filter) {
+        BitSet result = (BitSet) live.clone();
+        if (Boolean.TRUE.equals(filter.getInStock())) {
+            result.and(inStock);
+        } else if (Boolean.FALSE.equals(filter.getInStock())) {
+            result.andNot(inStock);
+        }
+
+        BigDecimal minPrice = filter.getMinPrice();
+        BigDecimal maxPrice = filter.getMaxPrice();
+        if (minPrice != null || maxPrice != null) {
+            for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+                BigDecimal price = entries.get(i).price();
+                if ((minPrice != null && price.compareTo(minPrice) < 0)
+                        || (maxPrice != null && price.compareTo(maxPrice) > 0)) {
+                    result.clear(i);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean hasStock(Long fruitId) {
+        return fruitInventoryRepository.findStockQuantities(List.of(fruitId)).stream()
+                .mapToLong(StockQuantity::getQuantity)
+                .sum() > 0;
+    }
+
+    private void put(Fruit fruit, boolean hasStock) {
+        Integer position = positions.get(fruit.getId());
+        if (position == null) {
+            position = entries.size();
+            entries.add(null);
+            positions.put(fruit.getId(), position);
+        } else {
+            clearBits(position, entries.get(position));
+        }
+
+        Entry entry = new Entry(
+                fruit.getId(),
+                fruit.getFruitName(),
+                fruit.getPrice(),
+                fruit.getCategory() != null ? fruit.getCategory().getId() : null,
+                fruit.getOrigin(),
+                fruit.getSeason());
+        entries.set(position, entry);
+
+        live.set(position);
+        if (hasStock) {
+            inStock.set(position);
+        }
+        setBit(byCategory, entry.categoryId(), position);
+        setBit(byOrigin, entry.origin(), position);
+        setBit(bySeason, entry.season(), position);
+    }
+
+    private void clearBits(int position, Entry entry) {
+        inStock.clear(position);
+        if (entry == null) {
+            return;
+        }
+        clearBit(byCategory, entry.categoryId(), position);
+        clearBit(byOrigin, entry.origin(), position);
+        clearBit(bySeason, entry.season(), position);
+    }
+
+    private static <K> void setBit(Map<K, BitSet> bitmaps, K value, int position) {
+        if (value != null) {
+            bitmaps.computeIfAbsent(value, key -> new BitSet()).set(position);
+        }
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> bitmaps, K value, int position) {
+        if (value == null) {
+            return;
+        }
+        BitSet bitmap = bitmaps.get(value);
+        if (bitmap != null) {
+            bitmap.clear(position);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(value);
+            }
+        }
+    }
+
+    // 선택한 값들의 합집합 (조건이 없으면 null)
+    private static <K> BitSet union(Map<K, BitSet> bitmaps, Collection<K> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        BitSet result = new BitSet();
+        for (K value : values) {
+            BitSet bitmap = bitmaps.get(value);
+            if (bitmap != null) {
+                result.or(bitmap);
+            }
+        }
+        return result;
+    }
+
+    // null인 조건은 건너뛰고 교집합
+    private static BitSet intersect(BitSet base, BitSet... conditions) {
+        BitSet result = (BitSet) base.clone();
+        for (BitSet condition : conditions) {
+            if (condition != null) {
+                result.and(condition);
+            }
+        }
+        return result;
+    }
+
+    private static <K extends Comparable<K>> Map<K, Integer> counts(Map<K, BitSet> bitmaps,
+                                                                    BitSet base) {
+        Map<K, Integer> counts = new TreeMap<>();
+        bitmaps.forEach((value, bitmap) -> {
+            BitSet matched = (BitSet) bitmap.clone();
+            matched.and(base);
+            int count = matched.cardinality();
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return counts;
+    }
+
+    private static Comparator<Entry> comparator(FruitSortType sort) {
+        Comparator<Entry> byId = Comparator.comparing(Entry::id);
+        return switch (sort) {
+            case ID -> byId;
+            case NEWEST -> byId.reversed();
+            case PRICE_ASC -> Comparator.comparing(Entry::price).thenComparing(byId);
+            case PRICE_DESC -> Comparator.comparing(Entry::price, Comparator.reverseOrder()).thenComparing(byId);
+            case NAME -> Comparator.comparing(Entry::name, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                    .thenComparing(byId);
+        };
+    }
+
+    public record FilterResult(List<Long> fruitIds, int totalCount, Map<Long, Integer> categoryCounts,
+                               Map<String, Integer> originCounts, Map<String, Integer> seasonCounts) {
+    }
+
+    private record Entry(Long id, String name, BigDecimal price, Long categoryId,
+                         String origin, String season) {
+    }
+}
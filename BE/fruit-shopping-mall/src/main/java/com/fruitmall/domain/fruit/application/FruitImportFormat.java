@@ -0,0 +1,26 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum FruitImportFormat {
+
+    CSV("csv"),
+    NDJSON("ndjson");
+
+    private final String extension;
+
+    // 요청 파라미터(csv, ndjson)를 형식으로 변환
+    public static FruitImportFormat from(String format) {
+        for (FruitImportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 가져오기 형식입니다: " + format);
+    }
+}
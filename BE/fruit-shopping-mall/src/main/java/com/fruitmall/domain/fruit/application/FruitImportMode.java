@@ -0,0 +1,25 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum FruitImportMode {
+
+    INSERT("모든 행을 새 상품으로 추가"),
+    UPSERT("같은 상품명·원산지의 상품이 있으면 정보와 재고를 변경, 없으면 추가");
+
+    private final String displayValue;
+
+    public static FruitImportMode from(String mode) {
+        for (FruitImportMode value : values()) {
+            if (value.name().equalsIgnoreCase(mode)) {
+                return value;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 가져오기 방식입니다: " + mode);
+    }
+}
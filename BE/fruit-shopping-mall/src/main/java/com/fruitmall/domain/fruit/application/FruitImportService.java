@@ -0,0 +1,389 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fruitmall.domain.fruit.application.dto.FruitImportErrorDto;
+import com.fruitmall.domain.fruit.application.dto.FruitImportResultDto;
+import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitBulkRepository;
+import com.fruitmall.domain.fruit.domain.FruitBulkRepository.BulkFruit;
+import com.fruitmall.domain.fruit.domain.FruitBulkRepository.ExistingFruit;
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 일괄 가져오기 (관리자 전용).
+ * CSV 또는 NDJSON 요청 본문을 한 행씩 읽어 검증하고, 유효한 행을 batch-size개씩 모아 JDBC 배치로 저장합니다.
+ * 배치마다 별도 트랜잭션이라 한 배치가 실패해도 앞서 저장한 배치는 유지되며, 실패한 행은 줄 번호와 함께 반환합니다.
+ * 캐시·색인 갱신 이벤트는 행마다가 아니라 가져오기가 끝난 뒤 한 번만 발행합니다.
+ */
+@Slf4j
+@Service
+public class FruitImportService {
+
+    private static final int MAX_FRUIT_NAME_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    private final FruitBulkRepository fruitBulkRepository;
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public FruitImportService(
+            FruitBulkRepository fruitBulkRepository,
+            CategoryRepository categoryRepository,
+            ObjectMapper objectMapper,
+            Validator validator,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${fruit.import.batch-size:500}") int batchSize,
+            @Value("${fruit.import.max-errors:1000}") int maxErrors) {
+        this.fruitBulkRepository = fruitBulkRepository;
+        this.categoryRepository = categoryRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxErrors = maxErrors;
+    }
+
+    // 요청 본문을 읽어 상품 일괄 저장 (본문 형식 오류는 행 단위 오류로 기록하고 계속 진행)
+    public FruitImportResultDto importFruits(InputStream body, FruitImportFormat format, FruitImportMode mode)
+            throws IOException {
+        Import job = new Import(mode, categoryRepository.findAll().stream()
+                .map(Category::getId)
+                .collect(Collectors.toSet()));
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        if (format == FruitImportFormat.CSV) {
+            readCsv(reader, job);
+        } else {
+            readNdjson(reader, job);
+        }
+        job.flush();
+
+        // 행마다가 아니라 전체에 대해 한 번만 캐시·색인 갱신
+        if (job.inserted + job.updated > 0) {
+            eventPublisher.publishEvent(FruitChangedEvent.catalogReloaded());
+        }
+        log.info("상품 일괄 가져오기 완료 (방식={}, 전체 {}행, 추가 {}, 변경 {}, 실패 {})",
+                mode, job.total, job.inserted, job.updated, job.failed);
+
+        return FruitImportResultDto.builder()
+                .mode(mode)
+                .totalRows(job.total)
+                .insertedCount(job.inserted)
+                .updatedCount(job.updated)
+                .failedCount(job.failed)
+                .errors(job.errors)
+                .build();
+    }
+
+    private void readCsv(BufferedReader reader, Import job) throws IOException {
+        LineCounter lines = new LineCounter();
+        List<String> header = readCsvRecord(reader, lines);
+        if (header == null) {
+            return;
+        }
+        // 헤더는 밑줄·대소문자 구분 없이 비교 (fruit_name, fruitName 모두 허용)
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("fruitname")) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "CSV 헤더에 fruit_name 열이 없습니다.");
+        }
+
+        List<String> record;
+        while ((record = readCsvRecord(reader, lines)) != null) {
+            long line = lines.recordStart;
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            job.total++;
+            try {
+                job.accept(line, toDto(record, columns));
+            } catch (NumberFormatException e) {
+                job.reject(line, value(record, columns, "fruitname"), "숫자 형식이 올바르지 않습니다: " + e.getMessage());
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Import job) throws IOException {
+        long line = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            job.total++;
+            try {
+                job.accept(line, objectMapper.readValue(text, FruitRegisterDto.class));
+            } catch (JsonProcessingException e) {
+                job.reject(line, null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private FruitRegisterDto toDto(List<String> record, Map<String, Integer> columns) {
+        String stockQuantity = value(record, columns, "stockquantity");
+        String price = value(record, columns, "price");
+        String categoryId = value(record, columns, "categoryid");
+        return FruitRegisterDto.builder()
+                .fruitName(value(record, columns, "fruitname"))
+                .origin(value(record, columns, "origin"))
+                .stockQuantity(stockQuantity != null ? Integer.valueOf(stockQuantity) : null)
+                .price(price != null ? new BigDecimal(price) : null)
+                .categoryId(categoryId != null ? Long.valueOf(categoryId) : null)
+                .season(value(record, columns, "season"))
+                .description(value(record, columns, "description"))
+                .imageUrl(value(record, columns, "imageurl"))
+                .build();
+    }
+
+    // 빈 값은 null (없는 열도 null)
+    private static String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // CSV 한 레코드 읽기 (따옴표 안의 쉼표·줄바꿈, 두 번 쓴 따옴표 처리, 파일 끝이면 null)
+    private static List<String> readCsvRecord(BufferedReader reader, LineCounter lines) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lines.recordStart = ++lines.current;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            lines.current++;
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String key(String fruitName, String origin) {
+        return fruitName + '\u0000' + Objects.toString(origin, "");
+    }
+
+    private static class LineCounter {
+
+        private long current;
+        private long recordStart;
+    }
+
+    private record PendingRow(long line, BulkFruit fruit) {
+    }
+
+    private record BatchResult(int inserted, int updated) {
+    }
+
+    // 가져오기 한 번의 진행 상태
+    private class Import {
+
+        private final FruitImportMode mode;
+        private final Set<Long> categoryIds;
+        private final Set<String> seenKeys = new HashSet<>();
+        private final List<PendingRow> pending = new ArrayList<>();
+        private final List<FruitImportErrorDto> errors = new ArrayList<>();
+        private int total;
+        private int inserted;
+        private int updated;
+        private int failed;
+
+        private Import(FruitImportMode mode, Set<Long> categoryIds) {
+            this.mode = mode;
+            this.categoryIds = categoryIds;
+        }
+
+        private void accept(long line, FruitRegisterDto dto) {
+            String error = validate(dto);
+            if (error != null) {
+                reject(line, dto.getFruitName(), error);
+                return;
+            }
+            if (mode == FruitImportMode.UPSERT && !seenKeys.add(key(dto.getFruitName(), dto.getOrigin()))) {
+                reject(line, dto.getFruitName(), "같은 상품명·원산지의 행이 앞에 있습니다.");
+                return;
+            }
+
+            pending.add(new PendingRow(line, new BulkFruit(dto.getFruitName(), dto.getOrigin(), dto.getPrice(),
+                    dto.getCategoryId(), dto.getSeason(), dto.getDescription(), dto.getImageUrl(),
+                    dto.getStockQuantity())));
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private String validate(FruitRegisterDto dto) {
+            Set<ConstraintViolation<FruitRegisterDto>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                return violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+            }
+            if (!categoryIds.contains(dto.getCategoryId())) {
+                return "카테고리를 찾을 수 없습니다: " + dto.getCategoryId();
+            }
+            if (dto.getFruitName().length() > MAX_FRUIT_NAME_LENGTH) {
+                return "상품명은 " + MAX_FRUIT_NAME_LENGTH + "자 이하여야 합니다";
+            }
+            if (dto.getDescription() != null && dto.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+                return "설명은 " + MAX_DESCRIPTION_LENGTH + "자 이하여야 합니다";
+            }
+            return null;
+        }
+
+        private void reject(long line, String fruitName, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(FruitImportErrorDto.builder()
+                        .line(line)
+                        .fruitName(fruitName)
+                        .message(message)
+                        .build());
+            }
+        }
+
+        // 모인 행을 한 트랜잭션으로 저장 (실패하면 이 배치의 행만 실패 처리)
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<PendingRow> batch = List.copyOf(pending);
+            pending.clear();
+            List<PendingRow> skipped = new ArrayList<>();
+            BatchResult result;
+            try {
+                result = transactionTemplate.execute(status -> write(batch, skipped));
+            } catch (DataAccessException e) {
+                log.warn("상품 일괄 가져오기 배치 저장 실패 ({}행): {}", batch.size(), e.getMessage());
+                batch.forEach(row -> reject(row.line(), row.fruit().fruitName(),
+                        "저장에 실패했습니다: " + e.getMostSpecificCause().getMessage()));
+                return;
+            }
+            inserted += result.inserted();
+            updated += result.updated();
+            skipped.forEach(row -> reject(row.line(), row.fruit().fruitName(),
+                    "분할 재고 상품은 일괄 가져오기로 변경할 수 없습니다."));
+        }
+
+        // 배치 저장 (분할 재고 상품과 겹치는 행은 건너뛰고 skipped에 담음)
+        private BatchResult write(List<PendingRow> batch, List<PendingRow> skipped) {
+            List<PendingRow> inserts = new ArrayList<>(batch.size());
+            List<PendingRow> updates = new ArrayList<>();
+            List<Long> updateIds = new ArrayList<>();
+            List<Long> repricedIds = new ArrayList<>();
+            List<BigDecimal> repricedPrices = new ArrayList<>();
+
+            if (mode == FruitImportMode.UPSERT) {
+                Map<String, ExistingFruit> existing = findExisting(batch);
+                for (PendingRow row : batch) {
+                    ExistingFruit match = existing.get(key(row.fruit().fruitName(), row.fruit().origin()));
+                    if (match == null) {
+                        inserts.add(row);
+                    } else if (match.stockShardCount() > 0) {
+                        skipped.add(row);
+                    } else {
+                        updates.add(row);
+                        updateIds.add(match.id());
+                        if (match.price().compareTo(row.fruit().price()) != 0) {
+                            repricedIds.add(match.id());
+                            repricedPrices.add(row.fruit().price());
+                        }
+                    }
+                }
+            } else {
+                inserts.addAll(batch);
+            }
+
+            fruitBulkRepository.insertAll(inserts.stream().map(PendingRow::fruit).toList());
+            fruitBulkRepository.updateAll(updateIds, updates.stream().map(PendingRow::fruit).toList());
+            fruitBulkRepository.insertPriceHistory(repricedIds, repricedPrices);
+            return new BatchResult(inserts.size(), updates.size());
+        }
+
+        // 배치의 상품명으로 기존 상품을 한 번에 조회 (같은 상품명·원산지가 여럿이면 가장 먼저 등록된 상품)
+        private Map<String, ExistingFruit> findExisting(List<PendingRow> batch) {
+            Set<String> names = batch.stream()
+                    .map(row -> row.fruit().fruitName())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Map<String, ExistingFruit> existing = new HashMap<>();
+            for (ExistingFruit fruit : fruitBulkRepository.findByFruitNames(names)) {
+                existing.putIfAbsent(key(fruit.fruitName(), fruit.origin()), fruit);
+            }
+            return existing;
+        }
+    }
+}
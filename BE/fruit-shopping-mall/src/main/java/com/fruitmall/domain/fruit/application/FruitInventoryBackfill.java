@@ -0,0 +1,55 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitLegacyStockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class FruitInventoryBackfill {
+
+    private final FruitInventoryRepository fruitInventoryRepository;
+    private final FruitLegacyStockRepository fruitLegacyStockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public FruitInventoryBackfill(
+            FruitInventoryRepository fruitInventoryRepository,
+            FruitLegacyStockRepository fruitLegacyStockRepository,
+            PlatformTransactionManager transactionManager) {
+        this.fruitInventoryRepository = fruitInventoryRepository;
+        this.fruitLegacyStockRepository = fruitLegacyStockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 재고 행이 없는 기존 상품 채우기 (재고를 읽는 색인·스냅샷 구성보다 먼저 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfill() {
+        boolean hasLegacyStock = fruitLegacyStockRepository.hasLegacyStockColumn();
+
+        // 기존 재고 복사와 빈 재고 행 생성을 한 트랜잭션으로 처리 (복사가 먼저여야 기존 수량이 0으로 덮이지 않음)
+        transactionTemplate.executeWithoutResult(status -> {
+            if (hasLegacyStock) {
+                int copied = fruitLegacyStockRepository.copyLegacyStock();
+                log.info("기존 재고 컬럼에서 재고 {}건 이전", copied);
+            }
+            int inserted = fruitInventoryRepository.backfillMissing();
+            if (inserted > 0) {
+                log.info("재고 행 {}건 생성", inserted);
+            }
+        });
+
+        // 복사가 커밋된 뒤 트랜잭션 밖에서 컬럼 삭제 (DDL은 암묵적으로 커밋되고, 이후 시작에서는 이전 작업을 건너뜀)
+        if (hasLegacyStock) {
+            fruitLegacyStockRepository.dropLegacyStockColumn();
+            log.info("기존 재고 컬럼(fruit.stock_quantity) 삭제");
+        }
+    }
+}
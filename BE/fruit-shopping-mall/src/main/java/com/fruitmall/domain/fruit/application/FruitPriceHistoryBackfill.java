@@ -0,0 +1,31 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.domain.FruitPriceHistory;
+import com.fruitmall.domain.fruit.domain.FruitPriceHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FruitPriceHistoryBackfill {
+
+    private final FruitPriceHistoryRepository fruitPriceHistoryRepository;
+
+    // 가격 이력이 없는 기존 상품 채우기 (FruitPriceSeries 적재보다 먼저 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void backfill() {
+        int inserted = fruitPriceHistoryRepository.backfillMissing(FruitPriceHistory.SEED_CHANGED_AT);
+        if (inserted > 0) {
+            log.info("상품 가격 이력 {}건 생성", inserted);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
+import com.fruitmall.domain.fruit.domain.FruitPriceChangedEvent;
+import com.fruitmall.domain.fruit.domain.FruitPriceHistory;
+import com.fruitmall.domain.fruit.domain.FruitPriceHistoryRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품별 가격 시계열 (메모리).
+ * 보관 기간 안의 가격 변경 시각과 가격(원 단위 소수 둘째 자리까지 정수로)을 상품별로 정렬된 long 배열 두 개에 담아,
+ * "T 시점 가격"은 이진 탐색으로, "최근 N일 최저가"는 구간 순회로 DB 조회 없이 계산합니다.
+ * 보관 기간 시작 시점에 유효했던 직전 가격 하나는 남겨 두어 기간 안의 어느 시점이든 답할 수 있습니다.
+ * 가격 변경은 드물기 때문에 변경 시 배열을 새로 만들어 교체하고, 조회는 잠금 없이 읽습니다.
+ */
+@Slf4j
+@Component
+public class FruitPriceSeries {
+
+    private static final int PRICE_SCALE = 2;
+
+    private final FruitPriceHistoryRepository fruitPriceHistoryRepository;
+    @Getter
+    private final int retentionDays;
+
+    private final Map<Long, Series> series = new ConcurrentHashMap<>();
+
+    public FruitPriceSeries(
+            FruitPriceHistoryRepository fruitPriceHistoryRepository,
+            @Value("${fruit.price-history.retention-days:90}") int retentionDays) {
+        this.fruitPriceHistoryRepository = fruitPriceHistoryRepository;
+        this.retentionDays = retentionDays;
+    }
+
+    // 보관 기간 안의 이력으로 전체 재구성 (시작 시, 일괄 가져오기 후)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        List<FruitPriceHistory> rows = fruitPriceHistoryRepository.findAllEffectiveSince(cutoff());
+
+        Map<Long, List<FruitPriceHistory>> byFruit = new HashMap<>();
+        rows.forEach(row -> byFruit.computeIfAbsent(row.getFruitId(), id -> new ArrayList<>()).add(row));
+        Map<Long, Series> loaded = new HashMap<>();
+        byFruit.forEach((fruitId, history) -> {
+            long[] times = new long[history.size()];
+            long[] prices = new long[history.size()];
+            for (int i = 0; i < history.size(); i++) {
+                times[i] = toEpochSecond(history.get(i).getChangedAt());
+                prices[i] = toUnits(history.get(i).getPrice());
+            }
+            loaded.put(fruitId, new Series(times, prices));
+        });
+
+        series.keySet().retainAll(loaded.keySet());
+        series.putAll(loaded);
+        log.debug("상품 가격 시계열 적재 완료 (상품 {}건, 기록 {}건)", loaded.size(), rows.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPriceChanged(FruitPriceChangedEvent event) {
+        append(event.getFruitId(), event.getChangedAt(), event.getPrice());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFruitChanged(FruitChangedEvent event) {
+        switch (event.getType()) {
+            case DELETED -> series.remove(event.getFruitId());
+            case CATALOG_RELOADED -> reload();
+            default -> {
+                // 가격 변경은 FruitPriceChangedEvent로 따로 받음
+            }
+        }
+    }
+
+    public void append(Long fruitId, LocalDateTime changedAt, BigDecimal price) {
+        long time = toEpochSecond(changedAt);
+        long units = toUnits(price);
+        long cutoff = toEpochSecond(cutoff());
+        series.compute(fruitId, (id, current) -> current == null
+                ? new Series(new long[]{time}, new long[]{units})
+                : current.with(time, units).prune(cutoff));
+    }
+
+    // time 시점의 가격 (메모리에 없는 오래된 시점이거나 이력이 없으면 빈 값)
+    public Optional<BigDecimal> priceAt(Long fruitId, LocalDateTime time) {
+        Series current = series.get(fruitId);
+        if (current == null) {
+            return Optional.empty();
+        }
+        int index = current.indexAt(toEpochSecond(time));
+        return index < 0 ? Optional.empty() : Optional.of(toPrice(current.prices[index]));
+    }
+
+    // 가장 최근 가격
+    public Optional<BigDecimal> latest(Long fruitId) {
+        Series current = series.get(fruitId);
+        return current == null ? Optional.empty() : Optional.of(toPrice(current.prices[current.prices.length - 1]));
+    }
+
+    // from 시점부터 지금까지의 최저가 (from 시점에 유효했던 가격 포함)
+    public Optional<BigDecimal> lowestSince(Long fruitId, LocalDateTime from) {
+        Series current = series.get(fruitId);
+        if (current == null) {
+            return Optional.empty();
+        }
+        int start = Math.max(current.indexAt(toEpochSecond(from)), 0);
+        long lowest = Long.MAX_VALUE;
+        for (int i = start; i < current.prices.length; i++) {
+            lowest = Math.min(lowest, current.prices[i]);
+        }
+        return Optional.of(toPrice(lowest));
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long toUnits(BigDecimal price) {
+        return price.setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal toPrice(long units) {
+        return BigDecimal.valueOf(units, PRICE_SCALE);
+    }
+
+    // 시각 오름차순으로 정렬된 가격 변경 지점 (교체만 하고 배열은 수정하지 않음)
+    private record Series(long[] times, long[] prices) {
+
+        // time 이하인 마지막 지점 (없으면 -1)
+        int indexAt(long time) {
+            int index = Arrays.binarySearch(times, time);
+            if (index < 0) {
+                return -index - 2;
+            }
+            // 같은 시각에 여러 번 바뀌었으면 마지막 값
+            while (index + 1 < times.length && times[index + 1] == time) {
+                index++;
+            }
+            return index;
+        }
+
+        Series with(long time, long price) {
+            int position = indexAt(time) + 1;
+            long[] nextTimes = new long[times.length + 1];
+            long[] nextPrices = new long[prices.length + 1];
+            System.arraycopy(times, 0, nextTimes, 0, position);
+            System.arraycopy(prices, 0, nextPrices, 0, position);
+            nextTimes[position] = time;
+            nextPrices[position] = price;
+            System.arraycopy(times, position, nextTimes, position + 1, times.length - position);
+            System.arraycopy(prices, position, nextPrices, position + 1, prices.length - position);
+            return new Series(nextTimes, nextPrices);
+        }
+
+        // 보관 기간 시작 시점에 유효한 지점보다 앞선 지점 제거
+        Series prune(long cutoff) {
+            int first = indexAt(cutoff);
+            if (first <= 0) {
+                return this;
+            }
+            return new Series(Arrays.copyOfRange(times, first, times.length),
+                    Arrays.copyOfRange(prices, first, prices.length));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitLowestPriceDto;
+import com.fruitmall.domain.fruit.application.dto.FruitPriceDto;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitPriceChangedEvent;
+import com.fruitmall.domain.fruit.domain.FruitPriceHistory;
+import com.fruitmall.domain.fruit.domain.FruitPriceHistoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 가격 이력 기록과 조회.
+ * 조회는 메모리 시계열(FruitPriceSeries)로 처리하고, 보관 기간보다 오래된 시점만 DB 이력을 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FruitPriceService {
+
+    private final FruitRepository fruitRepository;
+    private final FruitPriceHistoryRepository fruitPriceHistoryRepository;
+    private final FruitPriceSeries fruitPriceSeries;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 현재 가격을 이력에 추가 (상품 등록·가격 변경 트랜잭션 안에서 호출, 커밋 후 시계열에 반영)
+    @Transactional
+    public void record(Fruit fruit) {
+        FruitPriceHistory history = fruitPriceHistoryRepository.save(FruitPriceHistory.builder()
+                .fruitId(fruit.getId())
+                .price(fruit.getPrice())
+                .changedAt(LocalDateTime.now())
+                .build());
+        eventPublisher.publishEvent(
+                new FruitPriceChangedEvent(history.getFruitId(), history.getPrice(), history.getChangedAt()));
+    }
+
+    // time 시점의 가격
+    public FruitPriceDto priceAt(Long fruitId, LocalDateTime time) {
+        BigDecimal price = fruitPriceSeries.priceAt(fruitId, time)
+                .or(() -> fruitPriceHistoryRepository.findEffectiveAt(fruitId, time).map(FruitPriceHistory::getPrice))
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "해당 시점의 가격 기록이 없습니다."));
+        return FruitPriceDto.builder()
+                .fruitId(fruitId)
+                .price(price)
+                .at(time)
+                .build();
+    }
+
+    // 최근 days일 동안의 최저가
+    public FruitLowestPriceDto lowestPrice(Long fruitId, int days) {
+        if (days < 1 || days > fruitPriceSeries.getRetentionDays()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "조회 기간은 1일 이상 " + fruitPriceSeries.getRetentionDays() + "일 이하여야 합니다.");
+        }
+
+        BigDecimal currentPrice = fruitPriceSeries.latest(fruitId).orElse(null);
+        BigDecimal lowestPrice = fruitPriceSeries.lowestSince(fruitId, LocalDateTime.now().minusDays(days)).orElse(null);
+        if (currentPrice == null) {
+            // 이력이 기록되기 전에 등록된 상품은 현재 가격만 사용
+            currentPrice = fruitRepository.findById(fruitId)
+                    .map(Fruit::getPrice)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.FRUIT_NOT_FOUND));
+            lowestPrice = currentPrice;
+        }
+
+        return FruitLowestPriceDto.builder()
+                .fruitId(fruitId)
+                .days(days)
+                .currentPrice(currentPrice)
+                .lowestPrice(lowestPrice)
+                .lowestNow(currentPrice.compareTo(lowestPrice) <= 0)
+                .build();
+    }
+}
@@ -0,0 +1,255 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 키워드 검색용 메모리 역색인.
+ * 상품명·원산지·계절·설명을 공백을 뺀 소문자 문자열로 정규화해 1-gram, 2-gram 단위로 색인합니다.
+ * 한글은 음절 단위로 잘리므로 "배", "머스캣" 같은 짧은 부분 검색도 가능합니다.
+ * 애플리케이션 시작 시 전체를 다시 만들고, 이후에는 상품 등록·수정·삭제 커밋 후 해당 상품만 갱신합니다.
+ */
+@Slf4j
+@Component
+public class FruitSearchIndex {
+
+    private static final int NAME_WEIGHT = 4;
+    private static final int ORIGIN_WEIGHT = 2;
+    private static final int SEASON_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int EXACT_NAME_BONUS = 2;
+
+    private final FruitRepository fruitRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, IndexedFruit> documents = new HashMap<>();
+    private volatile boolean ready;
+
+    public FruitSearchIndex(FruitRepository fruitRepository) {
+        this.fruitRepository = fruitRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 전체 상품으로 색인 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Fruit> fruits = fruitRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            fruits.forEach(this::add);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 검색 색인 구성 완료 (상품 {}건, n-gram {}개)", fruits.size(), postings.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFruitChanged(FruitChangedEvent event) {
+        switch (event.getType()) {
+            case REGISTERED, UPDATED -> fruitRepository.findById(event.getFruitId())
+                    .ifPresentOrElse(this::index, () -> remove(event.getFruitId()));
+            case DELETED -> remove(event.getFruitId());
+            case CATALOG_RELOADED -> rebuild();
+            default -> {
+                // 재고·카테고리 변경은 색인 대상 필드와 무관
+            }
+        }
+    }
+
+    public void index(Fruit fruit) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(fruit.getId());
+            add(fruit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long fruitId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(fruitId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 키워드 검색 (공백으로 나눈 검색어별 점수 합계 내림차순, 같으면 상품 ID 오름차순)
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> terms = normalizeTerms(query);
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        Map<Long, Integer> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String term : terms) {
+                for (Long fruitId : candidates(term)) {
+                    int score = documents.get(fruitId).score(term);
+                    if (score > 0) {
+                        scores.merge(fruitId, score, Integer::sum);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> ranked = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+        int from = Math.min(offset, ranked.size());
+        int to = Math.min(from + limit, ranked.size());
+        return new SearchResult(ranked.subList(from, to), ranked.size());
+    }
+
+    // 검색어의 모든 n-gram을 포함한 상품 (가장 작은 posting부터 교집합)
+    private Set<Long> candidates(String term) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : queryGrams(term)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void add(Fruit fruit) {
+        IndexedFruit document = new IndexedFruit(
+                normalize(fruit.getFruitName()),
+                normalize(fruit.getOrigin()),
+                normalize(fruit.getSeason()),
+                normalize(fruit.getDescription()));
+        documents.put(fruit.getId(), document);
+        for (String gram : document.grams()) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(fruit.getId());
+        }
+    }
+
+    private void removeDocument(Long fruitId) {
+        IndexedFruit document = documents.remove(fruitId);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(fruitId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static List<String> normalizeTerms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return Arrays.stream(normalized.trim().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    // NFKC 정규화 후 소문자, 공백 제거 ("샤인 머스캣"도 "샤인머스캣"으로 검색되도록)
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "");
+    }
+
+    // 한 글자 검색어는 1-gram, 그 외에는 2-gram
+    private static Set<String> queryGrams(String term) {
+        if (term.length() == 1) {
+            return Set.of(term);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= term.length(); i++) {
+            grams.add(term.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    public record SearchResult(List<Long> fruitIds, int totalCount) {
+    }
+
+    private record IndexedFruit(String name, String origin, String season, String description) {
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            addGrams(grams, name);
+            addGrams(grams, origin);
+            addGrams(grams, season);
+            addGrams(grams, description);
+            return grams;
+        }
+
+        // 검색어를 포함한 필드 중 가장 높은 가중치 (n-gram 후보의 오탐도 여기서 걸러짐)
+        int score(String term) {
+            int score = 0;
+            if (name.contains(term)) {
+                score = NAME_WEIGHT + (name.equals(term) ? EXACT_NAME_BONUS : 0);
+            } else if (origin.contains(term)) {
+                score = ORIGIN_WEIGHT;
+            } else if (season.contains(term)) {
+                score = SEASON_WEIGHT;
+            } else if (description.contains(term)) {
+                score = DESCRIPTION_WEIGHT;
+            }
+            return score;
+        }
+    }
+}
@@ -1,18 +1,27 @@
 package com.fruitmall.domain.fruit.application;
 
 import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.application.dto.FruitFilterRequestDto;
+import com.fruitmall.domain.fruit.application.dto.FruitFilterResultDto;
 import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
+import com.fruitmall.domain.fruit.application.dto.FruitSearchResultDto;
+import com.fruitmall.domain.fruit.application.dto.FruitSuggestionDto;
 import com.fruitmall.domain.fruit.application.dto.FruitUpdateDto;
+import com.fruitmall.domain.fruit.application.dto.FruitStockDto;
+import com.fruitmall.domain.fruit.application.dto.StockShardingUpdateDto;
 import com.fruitmall.domain.fruit.application.dto.StockUpdateDto;
 import com.fruitmall.domain.fruit.application.mapper.FruitMapper;
 import com.fruitmall.domain.fruit.domain.Category;
 import com.fruitmall.domain.fruit.domain.CategoryRepository;
 import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
 import com.fruitmall.domain.fruit.domain.FruitRepository;
 import com.fruitmall.global.error.BusinessException;
 import com.fruitmall.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -24,8 +33,19 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class FruitService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_FILTER_PAGE_SIZE = 100;
+
     private final FruitRepository fruitRepository;
     private final CategoryRepository categoryRepository;
+    private final StockReservationService stockReservationService;
+    private final FruitCatalogCache fruitCatalogCache;
+    private final FruitStockCache fruitStockCache;
+    private final FruitSearchIndex fruitSearchIndex;
+    private final FruitFacetIndex fruitFacetIndex;
+    private final FruitSuggestIndex fruitSuggestIndex;
+    private final FruitPriceService fruitPriceService;
+    private final ApplicationEventPublisher eventPublisher;
     private final FruitMapper fruitMapper;
 
     // 과일 상품 등록
@@ -36,68 +56,114 @@ public class FruitService {
         
         Fruit fruit = fruitMapper.toEntity(dto, category);
         Fruit savedFruit = fruitRepository.save(fruit);
+        stockReservationService.register(savedFruit, dto.getStockQuantity());
+        fruitPriceService.record(savedFruit);
+        eventPublisher.publishEvent(FruitChangedEvent.registered(savedFruit));
         
-        return fruitMapper.toDto(savedFruit);
+        return fruitMapper.toDto(savedFruit).withStockQuantity(dto.getStockQuantity());
     }
 
-    // 과일 상품 조회
+    // 과일 상품 조회 (캐시)
     public FruitDto findById(Long id) {
-        Fruit fruit = fruitRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.FRUIT_NOT_FOUND));
-                
-        return fruitMapper.toDto(fruit);
+        return fruitCatalogCache.get(id, fruitId -> fruitRepository.findById(fruitId)
+                .map(fruitMapper::toDto)
+                .orElseThrow(() -> new BusinessException(ErrorCode.FRUIT_NOT_FOUND)));
     }
 
-    // 전체 과일 상품 조회
+    // 전체 과일 상품 조회 (캐시)
     public List<FruitDto> findAll() {
-        return fruitRepository.findAll().stream()
-                .map(fruitMapper::toDto)
-                .collect(Collectors.toList());
+        return fruitCatalogCache.getList(FruitCatalogCache.ALL, fruitRepository::findAll);
     }
 
-    // 카테고리별 과일 상품 조회
+    // 카테고리별 과일 상품 조회 (캐시)
     public List<FruitDto> findByCategory(Long categoryId) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "카테고리를 찾을 수 없습니다."));
-                
-        return fruitRepository.findByCategory(category).stream()
-                .map(fruitMapper::toDto)
-                .collect(Collectors.toList());
+        return fruitCatalogCache.getList(FruitCatalogCache.categoryKey(categoryId), () -> {
+            Category category = categoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "카테고리를 찾을 수 없습니다."));
+            return fruitRepository.findByCategory(category);
+        });
     }
 
-    // 키워드로 과일 상품 검색
-    public List<FruitDto> searchByKeyword(String keyword) {
-        return fruitRepository.findByFruitNameContaining(keyword).stream()
-                .map(fruitMapper::toDto)
-                .collect(Collectors.toList());
+    // 키워드로 과일 상품 검색 (상품명·원산지·계절·설명 대상, 관련도 순 페이지 조회)
+    public FruitSearchResultDto searchByKeyword(String keyword, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE);
+        int offset = Math.max(page, 0) * pageSize;
+        
+        // 색인 구성 전에는 상품명 LIKE 검색으로 처리
+        if (!fruitSearchIndex.isReady()) {
+            List<FruitDto> matched = fruitStockCache.withStock(
+                    fruitRepository.findByFruitNameContaining(keyword).stream()
+                            .map(fruitMapper::toDto)
+                            .collect(Collectors.toList()));
+            return FruitSearchResultDto.builder()
+                    .content(matched.subList(Math.min(offset, matched.size()),
+                            Math.min(offset + pageSize, matched.size())))
+                    .totalCount(matched.size())
+                    .build();
+        }
+        
+        FruitSearchIndex.SearchResult result = fruitSearchIndex.search(keyword, offset, pageSize);
+        return FruitSearchResultDto.builder()
+                .content(fruitCatalogCache.getAll(result.fruitIds()))
+                .totalCount(result.totalCount())
+                .build();
+    }
+
+    // 상품명 자동완성 (상품명·초성 접두사, 판매량 순, DB를 조회하지 않으므로 트랜잭션도 시작하지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<FruitSuggestionDto> suggest(String query, int limit) {
+        return fruitSuggestIndex.suggest(query, Math.max(limit, 1));
     }
 
-    // 원산지별 과일 상품 조회
+    // 원산지별 과일 상품 조회 (캐시)
     public List<FruitDto> findByOrigin(String origin) {
-        return fruitRepository.findByOrigin(origin).stream()
-                .map(fruitMapper::toDto)
-                .collect(Collectors.toList());
+        return fruitCatalogCache.getList(FruitCatalogCache.originKey(origin),
+                () -> fruitRepository.findByOrigin(origin));
     }
 
-    // 계절별 과일 상품 조회
+    // 계절별 과일 상품 조회 (캐시)
     public List<FruitDto> findBySeason(String season) {
-        return fruitRepository.findBySeason(season).stream()
-                .map(fruitMapper::toDto)
-                .collect(Collectors.toList());
+        return fruitCatalogCache.getList(FruitCatalogCache.seasonKey(season),
+                () -> fruitRepository.findBySeason(season));
     }
 
     // 가격 범위로 과일 상품 조회
     public List<FruitDto> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
-        return fruitRepository.findByPriceBetween(minPrice, maxPrice).stream()
-                .map(fruitMapper::toDto)
-                .collect(Collectors.toList());
+        return fruitStockCache.withStock(
+                fruitRepository.findByPriceBetween(minPrice, maxPrice).stream()
+                        .map(fruitMapper::toDto)
+                        .collect(Collectors.toList()));
     }
 
-    // 재고가 있는 과일 상품만 조회
+    // 재고가 있는 과일 상품만 조회 (캐시)
     public List<FruitDto> findInStock() {
-        return fruitRepository.findByStockQuantityGreaterThan(0).stream()
-                .map(fruitMapper::toDto)
-                .collect(Collectors.toList());
+        return fruitCatalogCache.getList(FruitCatalogCache.IN_STOCK,
+                () -> fruitRepository.findInStock(0));
+    }
+
+    // 조건 조합으로 상품 조회 (카테고리·원산지·계절·가격·재고 조건, 정렬, 페이지와 패싯 건수를 한 번에 반환)
+    public FruitFilterResultDto filter(FruitFilterRequestDto dto) {
+        if (!fruitFacetIndex.isReady()) {
+            throw new BusinessException(ErrorCode.CATALOG_NOT_READY);
+        }
+        if (dto.getMinPrice() != null && dto.getMaxPrice() != null && dto.getMinPrice().compareTo(dto.getMaxPrice()) > 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "최소 가격이 최대 가격보다 클 수 없습니다.");
+        }
+        
+        int page = Math.max(dto.getPage(), 0);
+        int pageSize = Math.min(Math.max(dto.getSize(), 1), MAX_FILTER_PAGE_SIZE);
+        FruitSortType sort = dto.getSort() != null ? dto.getSort() : FruitSortType.ID;
+        
+        FruitFacetIndex.FilterResult result = fruitFacetIndex.filter(dto, sort, page * pageSize, pageSize);
+        return FruitFilterResultDto.builder()
+                .content(fruitCatalogCache.getAll(result.fruitIds()))
+                .totalCount(result.totalCount())
+                .page(page)
+                .size(pageSize)
+                .categoryCounts(result.categoryCounts())
+                .originCounts(result.originCounts())
+                .seasonCounts(result.seasonCounts())
+                .build();
     }
 
     // 과일 상품 정보 업데이트
@@ -108,21 +174,41 @@ public class FruitService {
                 
         Category category = categoryRepository.findById(dto.getCategoryId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "카테고리를 찾을 수 없습니다."));
+        
+        // 변경 전 카테고리·계절·원산지 (이전 목록 캐시 무효화용)
+        Long previousCategoryId = fruit.getCategory() != null ? fruit.getCategory().getId() : null;
+        String previousSeason = fruit.getSeason();
+        String previousOrigin = fruit.getOrigin();
+        BigDecimal previousPrice = fruit.getPrice();
                 
         fruitMapper.updateEntityFromDto(dto, fruit, category);
+        if (previousPrice.compareTo(fruit.getPrice()) != 0) {
+            fruitPriceService.record(fruit);
+        }
+        eventPublisher.publishEvent(
+                FruitChangedEvent.updated(fruit, previousCategoryId, previousSeason, previousOrigin));
         
-        return fruitMapper.toDto(fruit);
+        return fruitStockCache.withStock(fruitMapper.toDto(fruit));
     }
 
     // 재고 업데이트
     @Transactional
-    public FruitDto updateStock(Long id, StockUpdateDto dto) {
-        Fruit fruit = fruitRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.FRUIT_NOT_FOUND));
+    public FruitStockDto updateStock(Long id, StockUpdateDto dto) {
+        Fruit fruit = findByIdForUpdate(id);
                 
-        fruit.updateStock(dto.getStockQuantity());
+        stockReservationService.updateStock(fruit, dto.getStockQuantity());
         
-        return fruitMapper.toDto(fruit);
+        return toStockDto(fruit, fruitMapper.toDto(fruit).withStockQuantity(dto.getStockQuantity()));
+    }
+
+    // 분할 재고 설정 (켜기/끄기 및 분할 행 재분배)
+    @Transactional
+    public FruitStockDto updateStockSharding(Long id, StockShardingUpdateDto dto) {
+        Fruit fruit = findByIdForUpdate(id);
+        
+        stockReservationService.changeSharding(fruit, dto.getShardCount());
+        
+        return toStockDto(fruit, fruitStockCache.withStock(fruitMapper.toDto(fruit)));
     }
 
     // 재고 감소 (주문 시 사용)
@@ -130,10 +216,9 @@ public class FruitService {
     public void decreaseStock(Long id, int quantity) {
         Fruit fruit = fruitRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FRUIT_NOT_FOUND));
-                
-        try {
-            fruit.decreaseStock(quantity);
-        } catch (IllegalStateException e) {
+        
+        // 재고가 충분할 때만 차감하는 조건부 UPDATE (동시 요청 시 초과 판매 방지)
+        if (!stockReservationService.reserve(fruit, quantity)) {
             throw new BusinessException(ErrorCode.OUT_OF_STOCK);
         }
     }
@@ -143,8 +228,8 @@ public class FruitService {
     public void increaseStock(Long id, int quantity) {
         Fruit fruit = fruitRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FRUIT_NOT_FOUND));
-                
-        fruit.increaseStock(quantity);
+        
+        stockReservationService.release(fruit, quantity);
     }
 
     // 과일 상품 삭제
@@ -153,6 +238,23 @@ public class FruitService {
         Fruit fruit = fruitRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FRUIT_NOT_FOUND));
                 
+        stockReservationService.delete(fruit.getId());
         fruitRepository.delete(fruit);
+        eventPublisher.publishEvent(FruitChangedEvent.deleted(fruit));
+    }
+
+    // 재고 변경 전 상품 행 잠금 조회 (동시 주문의 재고 차감과 겹치지 않도록)
+    private Fruit findByIdForUpdate(Long id) {
+        return fruitRepository.findAllByIdsForUpdate(List.of(id)).stream()
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.FRUIT_NOT_FOUND));
+    }
+
+    // 관리자 재고 응답 (분할 재고 행 수 포함)
+    private FruitStockDto toStockDto(Fruit fruit, FruitDto dto) {
+        return FruitStockDto.builder()
+                .fruit(dto)
+                .stockShardCount(fruit.getStockShardCount())
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.fruitmall.domain.fruit.application;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum FruitSortType {
+    ID("등록순"),
+    NEWEST("최신순"),
+    PRICE_ASC("낮은 가격순"),
+    PRICE_DESC("높은 가격순"),
+    NAME("이름순");
+
+    private final String displayValue;
+}
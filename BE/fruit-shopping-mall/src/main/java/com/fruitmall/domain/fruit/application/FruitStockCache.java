@@ -0,0 +1,97 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository.StockQuantity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품별 재고 수량 캐시.
+ * 상품 정보 캐시(FruitCatalogCache)와 분리해 두고, 조회 시점에 FruitDto의 재고 수량만 이 값으로 채웁니다.
+ * 재고가 바뀌면 해당 상품의 수량만 무효화하므로 주문이 많아도 상품 정보 캐시는 유지됩니다.
+ */
+@Component
+public class FruitStockCache {
+
+    private final FruitInventoryRepository fruitInventoryRepository;
+    private final Cache<Long, Integer> stocks;
+
+    public FruitStockCache(
+            FruitInventoryRepository fruitInventoryRepository,
+            MeterRegistry meterRegistry,
+            @Value("${fruit.cache.max-size:10000}") long maxSize,
+            @Value("${fruit.cache.stock-ttl-seconds:60}") long ttlSeconds) {
+        this.fruitInventoryRepository = fruitInventoryRepository;
+        this.stocks = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, stocks, "fruit.catalog.stocks");
+    }
+
+    // 상품 재고 수량 (재고 행이 없으면 0)
+    public int get(Long fruitId) {
+        return getAll(List.of(fruitId)).get(fruitId);
+    }
+
+    // 여러 상품의 재고 수량 (캐시에 없는 상품만 한 번에 조회)
+    public Map<Long, Integer> getAll(Collection<Long> fruitIds) {
+        return stocks.getAll(fruitIds, this::loadStocks);
+    }
+
+    // 상품 정보에 현재 재고 수량을 채운 DTO (캐시된 DTO는 그대로 두고 새 DTO 생성)
+    public FruitDto withStock(FruitDto fruit) {
+        if (fruit == null) {
+            return null;
+        }
+        return fruit.withStockQuantity(get(fruit.getId()));
+    }
+
+    public List<FruitDto> withStock(List<FruitDto> fruits) {
+        Map<Long, Integer> quantities = getAll(fruits.stream().map(FruitDto::getId).toList());
+        List<FruitDto> result = new ArrayList<>(fruits.size());
+        for (FruitDto fruit : fruits) {
+            result.add(fruit.withStockQuantity(quantities.get(fruit.getId())));
+        }
+        return result;
+    }
+
+    // 커밋·롤백 모두에서 무효화 (트랜잭션 안에서 읽어 둔 값이 롤백 후 남지 않도록)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onFruitChanged(FruitChangedEvent event) {
+        switch (event.getType()) {
+            case REGISTERED, STOCK_CHANGED, DELETED -> stocks.invalidate(event.getFruitId());
+            case CATALOG_RELOADED -> stocks.invalidateAll();
+            default -> {
+                // 상품 정보·카테고리 변경은 재고와 무관
+            }
+        }
+    }
+
+    private Map<Long, Integer> loadStocks(Set<? extends Long> fruitIds) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        fruitIds.forEach(fruitId -> quantities.put(fruitId, 0));
+        for (StockQuantity stock : fruitInventoryRepository.findStockQuantities(List.copyOf(fruitIds))) {
+            quantities.put(stock.getFruitId(), Math.toIntExact(stock.getQuantity()));
+        }
+        return quantities;
+    }
+}
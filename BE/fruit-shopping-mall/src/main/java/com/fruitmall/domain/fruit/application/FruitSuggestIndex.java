@@ -0,0 +1,265 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitSuggestionDto;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository.FruitSales;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명 자동완성용 접두사 트라이.
+ * 상품명(공백 제거 소문자)과 한글 초성 문자열("사과" → "ㅅㄱ")을, 단어 시작 위치마다 키로 넣어
+ * "머스"로도 "샤인 머스캣"을 찾을 수 있게 합니다.
+ * 각 노드는 하위 상품 중 판매량 상위 MAX_SUGGESTIONS개를 미리 보관해 조회는 접두사 길이만큼만 탐색합니다.
+ * 상품 등록·수정·삭제 커밋 후에는 해당 상품의 키 경로만 갱신하고, 판매량은 주기적으로 다시 읽어 전체를 재구성합니다.
+ */
+@Slf4j
+@Component
+public class FruitSuggestIndex {
+
+    static final int MAX_SUGGESTIONS = 10;
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int CHOSUNG_INTERVAL = 21 * 28;
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final FruitRepository fruitRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Comparator<Long> byPopularity;
+
+    private Node root = new Node();
+    private final Map<Long, String> names = new HashMap<>();
+    private final Map<Long, Long> popularity = new HashMap<>();
+
+    public FruitSuggestIndex(FruitRepository fruitRepository) {
+        this.fruitRepository = fruitRepository;
+        this.byPopularity = Comparator.<Long>comparingLong(id -> -popularity.getOrDefault(id, 0L))
+                .thenComparing(Comparator.naturalOrder());
+    }
+
+    // 전체 상품과 판매량으로 트라이 재구성 (시작 시, 이후 주기적으로)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${fruit.suggest.popularity-refresh-ms:600000}",
+            fixedDelayString = "${fruit.suggest.popularity-refresh-ms:600000}")
+    public void rebuild() {
+        List<Fruit> fruits = fruitRepository.findAll();
+        List<FruitSales> sales = fruitRepository.findSalesQuantities();
+
+        lock.writeLock().lock();
+        try {
+            names.clear();
+            popularity.clear();
+            sales.forEach(row -> popularity.put(row.getFruitId(), row.getQuantity()));
+            root = new Node();
+            fruits.forEach(fruit -> insert(fruit.getId(), fruit.getFruitName()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("상품 자동완성 색인 구성 완료 (상품 {}건)", fruits.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFruitChanged(FruitChangedEvent event) {
+        switch (event.getType()) {
+            case REGISTERED, UPDATED -> fruitRepository.findById(event.getFruitId())
+                    .ifPresentOrElse(fruit -> index(fruit.getId(), fruit.getFruitName()),
+                            () -> remove(event.getFruitId()));
+            case DELETED -> remove(event.getFruitId());
+            case CATALOG_RELOADED -> rebuild();
+            default -> {
+                // 재고·카테고리 변경은 상품명과 무관
+            }
+        }
+    }
+
+    public void index(Long fruitId, String fruitName) {
+        lock.writeLock().lock();
+        try {
+            delete(fruitId);
+            insert(fruitId, fruitName);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long fruitId) {
+        lock.writeLock().lock();
+        try {
+            delete(fruitId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 접두사(상품명 또는 초성)로 시작하는 상품을 판매량 순으로 limit개 조회
+    public List<FruitSuggestionDto> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            int size = Math.min(Math.min(limit, MAX_SUGGESTIONS), node.top.size());
+            List<FruitSuggestionDto> suggestions = new ArrayList<>(size);
+            for (Long fruitId : node.top.subList(0, size)) {
+                suggestions.add(new FruitSuggestionDto(fruitId, names.get(fruitId)));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Long fruitId, String fruitName) {
+        names.put(fruitId, fruitName);
+        for (String key : keys(fruitName)) {
+            Node node = root;
+            addTop(node, fruitId);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                addTop(node, fruitId);
+            }
+            node.terminals.add(fruitId);
+        }
+    }
+
+    // 키 경로에서 상품을 빼고, 경로의 노드는 아래에서부터 상위 목록을 다시 계산
+    private void delete(Long fruitId) {
+        String fruitName = names.remove(fruitId);
+        if (fruitName == null) {
+            return;
+        }
+        for (String key : keys(fruitName)) {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+                if (node != null) {
+                    path.add(node);
+                }
+            }
+            if (node != null) {
+                node.terminals.remove(fruitId);
+            }
+
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node current = path.get(i);
+                if (current.top.contains(fruitId)) {
+                    recomputeTop(current);
+                }
+                // 비어 있는 노드는 정리
+                if (i > 0 && current.terminals.isEmpty() && current.children.isEmpty()) {
+                    path.get(i - 1).children.remove(key.charAt(i - 1));
+                }
+            }
+        }
+    }
+
+    private void addTop(Node node, Long fruitId) {
+        if (node.top.contains(fruitId)) {
+            return;
+        }
+        int index = 0;
+        while (index < node.top.size() && byPopularity.compare(node.top.get(index), fruitId) < 0) {
+            index++;
+        }
+        if (index < MAX_SUGGESTIONS) {
+            node.top.add(index, fruitId);
+            if (node.top.size() > MAX_SUGGESTIONS) {
+                node.top.remove(MAX_SUGGESTIONS);
+            }
+        }
+    }
+
+    // 자기 노드에서 끝나는 상품과 자식 노드들의 상위 목록을 합쳐 다시 계산
+    private void recomputeTop(Node node) {
+        Set<Long> candidates = new HashSet<>(node.terminals);
+        node.children.values().forEach(child -> candidates.addAll(child.top));
+        node.top = candidates.stream()
+                .sorted(byPopularity)
+                .limit(MAX_SUGGESTIONS)
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+
+    // 단어 시작 위치마다 상품명 키와 초성 키 생성
+    private static Set<String> keys(String fruitName) {
+        Set<String> keys = new LinkedHashSet<>();
+        String[] words = Normalizer.normalize(fruitName, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            String key = String.join("", List.of(words).subList(i, words.length));
+            if (!key.isEmpty()) {
+                keys.add(key);
+                keys.add(chosung(key));
+            }
+        }
+        return keys;
+    }
+
+    // 완성형 한글 음절은 초성으로, 그 외 문자는 그대로
+    static String chosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                builder.append(CHOSUNG[(c - HANGUL_BASE) / CHOSUNG_INTERVAL]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    // NFC 정규화 (NFKC는 호환용 자모 "ㅅ"을 조합용 자모로 바꾸므로 사용하지 않음) 후 소문자, 공백 제거
+    private static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return Normalizer.normalize(query, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "");
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Long> terminals = new HashSet<>();
+        private List<Long> top = new ArrayList<>(MAX_SUGGESTIONS);
+    }
+}
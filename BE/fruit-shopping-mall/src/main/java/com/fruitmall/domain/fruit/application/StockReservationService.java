@@ -0,0 +1,160 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitStockShard;
+import com.fruitmall.domain.fruit.domain.FruitStockShardRepository;
+import com.fruitmall.domain.fruit.domain.FruitStockShardRepository.ShardQuantity;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 상품 재고 차감/복구.
+ * 일반 상품은 fruit_inventory 한 행을, 분할 재고 상품은 fruit_stock_shard 여러 행을 조건부 UPDATE로 변경합니다.
+ * 재고가 바뀌면 FruitChangedEvent(STOCK_CHANGED)를 발행합니다. 트랜잭션은 호출하는 쪽이 시작합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final FruitInventoryRepository fruitInventoryRepository;
+    private final FruitStockShardRepository fruitStockShardRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 재고 차감 (재고가 부족하면 아무것도 바꾸지 않고 false 반환)
+    public boolean reserve(Fruit fruit, int quantity) {
+        boolean reserved = fruit.isStockSharded()
+                ? reserveFromShards(fruit, quantity)
+                : fruitInventoryRepository.decreaseIfAvailable(fruit.getId(), quantity) > 0;
+        if (reserved) {
+            stockChanged(fruit.getId());
+        }
+        return reserved;
+    }
+
+    // 차감했던 재고 되돌리기
+    public void release(Fruit fruit, int quantity) {
+        release(fruit.getId(), fruit.getStockShardCount(), quantity);
+    }
+
+    // 상품 엔티티 없이 재고 되돌리기 (stockShardCount는 함께 조회한 값)
+    public void release(Long fruitId, int stockShardCount, int quantity) {
+        stockChanged(fruitId);
+        if (stockShardCount > 0) {
+            int shardNo = ThreadLocalRandom.current().nextInt(stockShardCount);
+            if (fruitStockShardRepository.increase(fruitId, shardNo, quantity) > 0) {
+                return;
+            }
+            // 그 사이 분할 재고가 해제된 경우 fruit_inventory로 되돌림
+        }
+        fruitInventoryRepository.increase(fruitId, quantity);
+    }
+
+    // 신규 상품의 재고 행 생성
+    public void register(Fruit fruit, int stockQuantity) {
+        fruitInventoryRepository.save(FruitInventory.builder()
+                .fruitId(fruit.getId())
+                .quantity(stockQuantity)
+                .build());
+    }
+
+    // 재고 수량 변경 (분할 재고 상품은 새 수량을 분할 행에 고르게 나눔)
+    public void updateStock(Fruit fruit, int stockQuantity) {
+        stockChanged(fruit.getId());
+        FruitInventory inventory = findInventoryForUpdate(fruit.getId());
+        if (!fruit.isStockSharded()) {
+            inventory.updateQuantity(stockQuantity);
+            return;
+        }
+        List<ShardQuantity> shards = fruitStockShardRepository.findQuantitiesForUpdate(fruit.getId());
+        redistribute(fruit, inventory, shards, fruit.getStockShardCount(), stockQuantity);
+    }
+
+    // 분할 재고 켜기/끄기 및 재분배 (현재 재고 합계를 shardCount개 행에 고르게 나눔, 0이면 분할 해제, fruit 행은 잠금 조회된 상태여야 함)
+    public void changeSharding(Fruit fruit, int shardCount) {
+        stockChanged(fruit.getId());
+        FruitInventory inventory = findInventoryForUpdate(fruit.getId());
+        List<ShardQuantity> shards = fruitStockShardRepository.findQuantitiesForUpdate(fruit.getId());
+        redistribute(fruit, inventory, shards, shardCount, inventory.getQuantity() + sum(shards));
+    }
+
+    // 상품 삭제 시 재고 행과 분할 행 삭제
+    public void delete(Long fruitId) {
+        stockChanged(fruitId);
+        fruitStockShardRepository.deleteByFruitId(fruitId);
+        fruitInventoryRepository.deleteById(fruitId);
+    }
+
+    // 재고 변경 알림 (직접 UPDATE로 재고를 바꾼 쪽에서도 사용, 커밋 후 캐시 등이 반영)
+    public void stockChanged(Long fruitId) {
+        eventPublisher.publishEvent(FruitChangedEvent.stockChanged(fruitId));
+    }
+
+    private boolean reserveFromShards(Fruit fruit, int quantity) {
+        // 임의의 분할 행 하나에서 먼저 차감 (동시 주문이 서로 다른 행을 잡도록, 여기서 잠기는 행은 최대 하나)
+        int shardNo = ThreadLocalRandom.current().nextInt(fruit.getStockShardCount());
+        if (fruitStockShardRepository.decreaseIfAvailable(fruit.getId(), shardNo, quantity) > 0) {
+            return true;
+        }
+
+        // 한 행으로는 부족하면 모든 분할 행을 shard_no 순으로 잠그고 나눠서 차감
+        // (이미 잡은 행 때문에 교착 상태가 나면 주문 트랜잭션을 다시 시도함, OrderService 참고)
+        return reserveAcrossShards(fruit.getId(), quantity);
+    }
+
+    private boolean reserveAcrossShards(Long fruitId, int quantity) {
+        List<ShardQuantity> shards = fruitStockShardRepository.findQuantitiesForUpdate(fruitId);
+        if (sum(shards) < quantity) {
+            return false;
+        }
+
+        int remaining = quantity;
+        for (ShardQuantity shard : shards) {
+            int taken = Math.min(shard.getQuantity(), remaining);
+            if (taken > 0) {
+                fruitStockShardRepository.decreaseIfAvailable(fruitId, shard.getShardNo(), taken);
+                remaining -= taken;
+            }
+            if (remaining == 0) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    private FruitInventory findInventoryForUpdate(Long fruitId) {
+        return fruitInventoryRepository.findByIdForUpdate(fruitId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.FRUIT_NOT_FOUND));
+    }
+
+    private void redistribute(Fruit fruit, FruitInventory inventory, List<ShardQuantity> currentShards,
+                              int shardCount, int totalStock) {
+        if (!currentShards.isEmpty()) {
+            fruitStockShardRepository.deleteByFruitId(fruit.getId());
+        }
+
+        // 나머지는 앞쪽 행에 하나씩 더 배정
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            int quantity = totalStock / shardCount + (shardNo < totalStock % shardCount ? 1 : 0);
+            fruitStockShardRepository.save(FruitStockShard.builder()
+                    .fruit(fruit)
+                    .shardNo(shardNo)
+                    .quantity(quantity)
+                    .build());
+        }
+        fruit.changeStockSharding(shardCount);
+        inventory.updateQuantity(shardCount > 0 ? 0 : totalStock);
+    }
+
+    private int sum(List<ShardQuantity> shards) {
+        return shards.stream().mapToInt(ShardQuantity::getQuantity).sum();
+    }
+}
@@ -0,0 +1,15 @@
+package com.fruitmall.domain.fruit.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CategorySummaryDto {
+
+    private Long id;
+    private String name;
+    private String description;
+    private long fruitCount;
+    private long inStockCount;
+}
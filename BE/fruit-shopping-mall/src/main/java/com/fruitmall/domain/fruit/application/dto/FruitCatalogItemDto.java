@@ -0,0 +1,32 @@
+package com.fruitmall.domain.fruit.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 전체·카테고리별 상품 목록 스냅샷의 상품 항목.
+ * 재고는 주문마다 바뀌어 미리 직렬화한 목록에 넣지 않으므로 재고 수량 필드가 없습니다.
+ */
+@Getter
+@Builder
+@Schema(description = "상품 목록 항목 (재고 수량 미포함, 재고는 상품 상세 조회로 확인)")
+public class FruitCatalogItemDto {
+    
+    private Long id;
+    private String fruitName;
+    private String origin;
+    private BigDecimal price;
+    private Long categoryId;
+    private String categoryName;
+    private String season;
+    private String description;
+    private String imageUrl;
+    private String thumbnailUrl;
+    private String cardUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -1,7 +1,9 @@
 package com.fruitmall.domain.fruit.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.With;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -13,6 +15,7 @@ public class FruitDto {
     private Long id;
     private String fruitName;
     private String origin;
+    @With  // 재고 수량은 조회 시점에 FruitStockCache 값으로 채움
     private Integer stockQuantity;
     private BigDecimal price;
     private Long categoryId;
@@ -20,6 +23,15 @@ public class FruitDto {
     private String season;
     private String description;
     private String imageUrl;
+    private String thumbnailUrl;  // 업로드한 이미지면 축소본 URL, 외부 이미지면 imageUrl과 같음
+    private String cardUrl;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // 목록 조회에서 includeRatings=true일 때만 리뷰 집계 값으로 채움 (없으면 응답에서 생략)
+    @With
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double averageRating;
+    @With
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long reviewCount;
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.fruitmall.domain.fruit.application.dto;
+
+import com.fruitmall.domain.fruit.application.FruitSortType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// 같은 항목의 여러 값은 OR, 서로 다른 항목은 AND로 결합 (null이면 조건 없음)
+@Getter
+@Builder
+public class FruitFilterRequestDto {
+
+    private List<Long> categoryIds;
+    private List<String> origins;
+    private List<String> seasons;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Boolean inStock;
+    private FruitSortType sort;
+    private int page;
+    private int size;
+}
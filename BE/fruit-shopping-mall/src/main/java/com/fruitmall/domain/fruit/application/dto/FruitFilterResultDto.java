@@ -0,0 +1,23 @@
+package com.fruitmall.domain.fruit.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.With;
+
+import java.util.List;
+import java.util.Map;
+
+// 패싯 건수는 해당 항목을 뺀 나머지 조건으로 계산 (선택한 원산지 외의 원산지 건수도 함께 표시)
+@Getter
+@Builder
+public class FruitFilterResultDto {
+    
+    @With  // 리뷰 평점을 채운 목록으로 교체
+    private List<FruitDto> content;
+    private int totalCount;
+    private int page;
+    private int size;
+    private Map<Long, Integer> categoryCounts;
+    private Map<String, Integer> originCounts;
+    private Map<String, Integer> seasonCounts;
+}
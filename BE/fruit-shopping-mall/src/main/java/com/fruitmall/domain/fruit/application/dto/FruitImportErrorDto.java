@@ -0,0 +1,13 @@
+package com.fruitmall.domain.fruit.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FruitImportErrorDto {
+    
+    private long line;
+    private String fruitName;
+    private String message;
+}
@@ -0,0 +1,20 @@
+package com.fruitmall.domain.fruit.application.dto;
+
+import com.fruitmall.domain.fruit.application.FruitImportMode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FruitImportResultDto {
+    
+    private FruitImportMode mode;
+    private int totalRows;
+    private int insertedCount;
+    private int updatedCount;
+    private int failedCount;
+    // 실패한 행 (최대 fruit.import.max-errors건, 전체 건수는 failedCount)
+    private List<FruitImportErrorDto> errors;
+}
@@ -0,0 +1,17 @@
+package com.fruitmall.domain.fruit.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+public class FruitLowestPriceDto {
+
+    private Long fruitId;
+    private int days;
+    private BigDecimal currentPrice;
+    private BigDecimal lowestPrice;
+    private boolean lowestNow;  // 현재 가격이 기간 내 최저가인지 (최저가 표시용)
+}
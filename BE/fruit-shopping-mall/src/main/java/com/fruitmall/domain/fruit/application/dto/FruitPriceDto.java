@@ -0,0 +1,16 @@
+package com.fruitmall.domain.fruit.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class FruitPriceDto {
+
+    private Long fruitId;
+    private BigDecimal price;
+    private LocalDateTime at;
+}
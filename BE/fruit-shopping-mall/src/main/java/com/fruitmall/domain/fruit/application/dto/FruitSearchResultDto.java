@@ -0,0 +1,14 @@
+package com.fruitmall.domain.fruit.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FruitSearchResultDto {
+    
+    private List<FruitDto> content;
+    private int totalCount;
+}
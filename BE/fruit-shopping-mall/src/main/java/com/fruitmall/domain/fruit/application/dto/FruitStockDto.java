@@ -0,0 +1,18 @@
+package com.fruitmall.domain.fruit.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 관리자 재고 변경 응답.
+ * 상품 정보(FruitDto)에 분할 재고 행 수를 더한 것으로, 분할 재고 설정은 공개 상품 응답에 노출하지 않습니다.
+ */
+@Getter
+@Builder
+public class FruitStockDto {
+
+    @JsonUnwrapped
+    private FruitDto fruit;
+    private int stockShardCount;  // 0이면 분할 재고 사용 안 함
+}
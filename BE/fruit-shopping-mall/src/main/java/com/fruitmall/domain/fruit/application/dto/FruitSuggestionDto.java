@@ -0,0 +1,12 @@
+package com.fruitmall.domain.fruit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FruitSuggestionDto {
+    
+    private Long id;
+    private String fruitName;
+}
@@ -0,0 +1,22 @@
+package com.fruitmall.domain.fruit.application.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockShardingUpdateDto {
+    
+    // 0이면 분할 재고 해제, 현재와 같은 값이면 재분배만 수행
+    @NotNull(message = "분할 재고 행 수는 필수 입력값입니다")
+    @Min(value = 0, message = "분할 재고 행 수는 0 이상이어야 합니다")
+    @Max(value = 64, message = "분할 재고 행 수는 64 이하여야 합니다")
+    private Integer shardCount;
+}
@@ -1,5 +1,6 @@
 package com.fruitmall.domain.fruit.application.mapper;
 
+import com.fruitmall.domain.fruit.application.dto.FruitCatalogItemDto;
 import com.fruitmall.domain.fruit.application.dto.FruitDto;
 import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
 import com.fruitmall.domain.fruit.application.dto.FruitUpdateDto;
@@ -10,7 +11,11 @@ public interface FruitMapper {
     
     Fruit toEntity(FruitRegisterDto dto, Category category);
     
+    // 상품 정보만 변환 (재고 수량은 FruitStockCache.withStock으로 채움)
     FruitDto toDto(Fruit fruit);
     
+    // 목록 스냅샷용 변환 (재고 필드 없음)
+    FruitCatalogItemDto toCatalogItemDto(Fruit fruit);
+    
     void updateEntityFromDto(FruitUpdateDto dto, Fruit fruit, Category category);
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.fruitmall.domain.fruit.application.mapper;
 
+import com.fruitmall.domain.fruit.application.dto.FruitCatalogItemDto;
 import com.fruitmall.domain.fruit.application.dto.FruitDto;
 import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
 import com.fruitmall.domain.fruit.application.dto.FruitUpdateDto;
 import com.fruitmall.domain.fruit.domain.Category;
 import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.image.application.ImageUrls;
+import com.fruitmall.domain.image.domain.ImageVariant;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,7 +22,6 @@ public class FruitMapperImpl implements FruitMapper {
         return Fruit.builder()
                 .fruitName(dto.getFruitName())
                 .origin(dto.getOrigin())
-                .stockQuantity(dto.getStockQuantity())
                 .price(dto.getPrice())
                 .category(category)
                 .season(dto.getSeason())
@@ -38,13 +40,37 @@ public class FruitMapperImpl implements FruitMapper {
                 .id(fruit.getId())
                 .fruitName(fruit.getFruitName())
                 .origin(fruit.getOrigin())
-                .stockQuantity(fruit.getStockQuantity())
                 .price(fruit.getPrice())
                 .categoryId(fruit.getCategory() != null ? fruit.getCategory().getId() : null)
                 .categoryName(fruit.getCategory() != null ? fruit.getCategory().getName() : null)
                 .season(fruit.getSeason())
                 .description(fruit.getDescription())
                 .imageUrl(fruit.getImageUrl())
+                .thumbnailUrl(ImageUrls.variantUrl(fruit.getImageUrl(), ImageVariant.THUMBNAIL))
+                .cardUrl(ImageUrls.variantUrl(fruit.getImageUrl(), ImageVariant.CARD))
+                .createdAt(fruit.getCreatedAt())
+                .updatedAt(fruit.getUpdatedAt())
+                .build();
+    }
+
+    @Override
+    public FruitCatalogItemDto toCatalogItemDto(Fruit fruit) {
+        if (fruit == null) {
+            return null;
+        }
+        
+        return FruitCatalogItemDto.builder()
+                .id(fruit.getId())
+                .fruitName(fruit.getFruitName())
+                .origin(fruit.getOrigin())
+                .price(fruit.getPrice())
+                .categoryId(fruit.getCategory() != null ? fruit.getCategory().getId() : null)
+                .categoryName(fruit.getCategory() != null ? fruit.getCategory().getName() : null)
+                .season(fruit.getSeason())
+                .description(fruit.getDescription())
+                .imageUrl(fruit.getImageUrl())
+                .thumbnailUrl(ImageUrls.variantUrl(fruit.getImageUrl(), ImageVariant.THUMBNAIL))
+                .cardUrl(ImageUrls.variantUrl(fruit.getImageUrl(), ImageVariant.CARD))
                 .createdAt(fruit.getCreatedAt())
                 .updatedAt(fruit.getUpdatedAt())
                 .build();
@@ -26,7 +26,9 @@ public class Category extends BaseTimeEntity {
 
     private String description;
 
-    @OneToMany(mappedBy = "category")
+    // 연관관계 매핑만 유지 (접근자가 없어 실수로 초기화되지 않음, 상품 수는 CategoryRepository 집계 쿼리로 조회)
+    @OneToMany(mappedBy = "category", fetch = FetchType.LAZY)
+    @Getter(AccessLevel.NONE)
     private List<Fruit> fruits = new ArrayList<>();
 
     @Builder
@@ -20,4 +20,20 @@ public interface CategoryRepository {
     void delete(Category category);
     
     long count();
+    
+    // 카테고리별 전체 상품 수와 재고 있는 상품 수 (한 번의 집계 쿼리, 카테고리 ID 순)
+    List<CategoryFruitCount> findAllWithFruitCounts();
+    
+    interface CategoryFruitCount {
+        
+        Long getCategoryId();
+        
+        String getName();
+        
+        String getDescription();
+        
+        Long getFruitCount();
+        
+        Long getInStockCount();
+    }
 }
\ No newline at end of file
@@ -6,11 +6,13 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 
 @Entity
 @Table(name = "fruit")
+@DynamicUpdate  // 변경된 컬럼만 UPDATE
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Fruit extends BaseTimeEntity {
@@ -25,8 +27,9 @@ public class Fruit extends BaseTimeEntity {
 
     private String origin;
 
+    // 분할 재고 행 수 (0이면 fruit_inventory 한 행으로 관리, 재고 수량은 FruitInventory)
     @Column(nullable = false)
-    private Integer stockQuantity;
+    private int stockShardCount;
 
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal price;
@@ -43,11 +46,10 @@ public class Fruit extends BaseTimeEntity {
     private String imageUrl;
 
     @Builder
-    public Fruit(String fruitName, String origin, Integer stockQuantity, BigDecimal price, 
+    public Fruit(String fruitName, String origin, BigDecimal price, 
                  Category category, String season, String description, String imageUrl) {
         this.fruitName = fruitName;
         this.origin = origin;
-        this.stockQuantity = stockQuantity;
         this.price = price;
         this.category = category;
         this.season = season;
@@ -55,18 +57,13 @@ public class Fruit extends BaseTimeEntity {
         this.imageUrl = imageUrl;
     }
 
-    // 재고 감소
-    public void decreaseStock(int quantity) {
-        int restStock = this.stockQuantity - quantity;
-        if (restStock < 0) {
-            throw new IllegalStateException("재고가 부족합니다.");
-        }
-        this.stockQuantity = restStock;
+    public boolean isStockSharded() {
+        return stockShardCount > 0;
     }
 
-    // 재고 증가
-    public void increaseStock(int quantity) {
-        this.stockQuantity += quantity;
+    // 분할 재고 행 수 변경 (0이면 분할 해제)
+    public void changeStockSharding(int shardCount) {
+        this.stockShardCount = shardCount;
     }
 
     // 상품 정보 업데이트
@@ -80,9 +77,4 @@ public class Fruit extends BaseTimeEntity {
         this.description = description;
         this.imageUrl = imageUrl;
     }
-
-    // 재고 업데이트
-    public void updateStock(int stockQuantity) {
-        this.stockQuantity = stockQuantity;
-    }
 }
\ No newline at end of file
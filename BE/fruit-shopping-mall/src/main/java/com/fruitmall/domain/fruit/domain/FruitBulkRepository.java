@@ -0,0 +1,32 @@
+package com.fruitmall.domain.fruit.domain;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 일괄 저장 (JDBC 배치).
+ * fruit_id가 IDENTITY라 JPA로는 INSERT를 묶을 수 없어, 상품·재고·가격 이력 행을 JDBC 배치로 저장합니다.
+ * 트랜잭션은 호출하는 쪽이 시작합니다.
+ */
+public interface FruitBulkRepository {
+
+    // 상품명으로 기존 상품 조회 (같은 상품명·원산지 확인용)
+    List<ExistingFruit> findByFruitNames(Collection<String> fruitNames);
+
+    // 상품과 재고 행, 최초 가격 이력 추가 (생성된 fruit_id를 입력 순서대로 반환)
+    List<Long> insertAll(List<BulkFruit> fruits);
+
+    // 기존 상품의 정보와 재고 변경 (fruitIds와 fruits는 같은 순서)
+    void updateAll(List<Long> fruitIds, List<BulkFruit> fruits);
+
+    // 가격 이력 추가 (fruitIds와 prices는 같은 순서)
+    void insertPriceHistory(List<Long> fruitIds, List<BigDecimal> prices);
+
+    record BulkFruit(String fruitName, String origin, BigDecimal price, Long categoryId, String season,
+                     String description, String imageUrl, int stockQuantity) {
+    }
+
+    record ExistingFruit(Long id, String fruitName, String origin, BigDecimal price, int stockShardCount) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.fruitmall.domain.fruit.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 상품 변경 이벤트.
+ * 변경 전후의 카테고리·계절·원산지 값을 함께 담아, 수신하는 쪽이 영향을 받는 목록만 골라 갱신할 수 있도록 합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class FruitChangedEvent {
+
+    public enum Type {
+        REGISTERED,
+        UPDATED,
+        DELETED,
+        STOCK_CHANGED,
+        CATEGORY_CHANGED, // 카테고리 이름 변경·삭제 (fruitId 없음)
+        CATALOG_RELOADED  // 일괄 가져오기 등 여러 상품이 한꺼번에 바뀜 (fruitId 없음, 전체 갱신)
+    }
+
+    private final Type type;
+    private final Long fruitId;
+    private final Set<Long> categoryIds;
+    private final Set<String> seasons;
+    private final Set<String> origins;
+
+    public static FruitChangedEvent registered(Fruit fruit) {
+        return of(Type.REGISTERED, fruit.getId(), categoryId(fruit), fruit.getSeason(), fruit.getOrigin());
+    }
+
+    // 상품 정보 수정 (변경 전 값과 현재 값을 모두 포함)
+    public static FruitChangedEvent updated(Fruit fruit, Long previousCategoryId,
+                                            String previousSeason, String previousOrigin) {
+        FruitChangedEvent event = of(Type.UPDATED, fruit.getId(), categoryId(fruit), fruit.getSeason(), fruit.getOrigin());
+        addIfPresent(event.categoryIds, previousCategoryId);
+        addIfPresent(event.seasons, previousSeason);
+        addIfPresent(event.origins, previousOrigin);
+        return event;
+    }
+
+    public static FruitChangedEvent deleted(Fruit fruit) {
+        return of(Type.DELETED, fruit.getId(), categoryId(fruit), fruit.getSeason(), fruit.getOrigin());
+    }
+
+    // 재고만 변경 (목록 소속은 그대로)
+    public static FruitChangedEvent stockChanged(Long fruitId) {
+        return new FruitChangedEvent(Type.STOCK_CHANGED, fruitId, Set.of(), Set.of(), Set.of());
+    }
+
+    public static FruitChangedEvent categoryChanged(Long categoryId) {
+        return new FruitChangedEvent(Type.CATEGORY_CHANGED, null, Set.of(categoryId), Set.of(), Set.of());
+    }
+
+    public static FruitChangedEvent catalogReloaded() {
+        return new FruitChangedEvent(Type.CATALOG_RELOADED, null, Set.of(), Set.of(), Set.of());
+    }
+
+    private static FruitChangedEvent of(Type type, Long fruitId, Long categoryId, String season, String origin) {
+        FruitChangedEvent event = new FruitChangedEvent(type, fruitId, new HashSet<>(), new HashSet<>(), new HashSet<>());
+        addIfPresent(event.categoryIds, categoryId);
+        addIfPresent(event.seasons, season);
+        addIfPresent(event.origins, origin);
+        return event;
+    }
+
+    private static Long categoryId(Fruit fruit) {
+        return fruit.getCategory() != null ? fruit.getCategory().getId() : null;
+    }
+
+    private static <T> void addIfPresent(Set<T> values, T value) {
+        if (value != null) {
+            values.add(value);
+        }
+    }
+}
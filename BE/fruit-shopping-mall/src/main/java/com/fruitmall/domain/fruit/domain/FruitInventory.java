@@ -0,0 +1,59 @@
+package com.fruitmall.domain.fruit.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 상품 재고 (fruit 테이블과 1:1, fruit_id 공유).
+ * 주문마다 바뀌는 재고 수량만 좁은 테이블로 분리해, 재고 차감이 상품 정보 행을 다시 쓰지 않도록 합니다.
+ * 분할 재고 상품은 이 행의 수량이 0이고 실제 재고는 fruit_stock_shard 행에 있습니다.
+ */
+@Entity
+@Table(name = "fruit_inventory")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FruitInventory implements Persistable<Long> {
+
+    @Id
+    @Column(name = "fruit_id")
+    private Long fruitId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    // 상품 ID를 직접 지정하므로 저장 전 SELECT 없이 INSERT 되도록 새 엔티티 여부를 따로 관리
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Builder
+    public FruitInventory(Long fruitId, Integer quantity) {
+        this.fruitId = fruitId;
+        this.quantity = quantity;
+    }
+
+    @Override
+    public Long getId() {
+        return fruitId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    // 재고 수량 변경 (행 잠금 조회 후 사용)
+    public void updateQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,45 @@
+package com.fruitmall.domain.fruit.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface FruitInventoryRepository {
+
+    FruitInventory save(FruitInventory inventory);
+
+    Optional<FruitInventory> findById(Long fruitId);
+
+    // 재고 행 잠금 조회 (재고 수량 직접 변경, 분할 설정 변경 시)
+    Optional<FruitInventory> findByIdForUpdate(Long fruitId);
+
+    // 여러 상품의 재고 행을 fruit_id 순으로 잠금 (잠금 순서를 고정해 교착 상태 방지)
+    List<FruitInventory> findAllByIdsForUpdate(Collection<Long> fruitIds);
+
+    // 상품별 재고 수량 (분할 재고 상품은 분할 행 합계 포함)
+    List<StockQuantity> findStockQuantities(Collection<Long> fruitIds);
+
+    // 전체 상품의 재고 수량 (색인 재구성용)
+    List<StockQuantity> findAllStockQuantities();
+
+    // 재고가 충분할 때만 차감 (변경된 행 수 반환, 0이면 재고 부족)
+    int decreaseIfAvailable(Long fruitId, int quantity);
+
+    // 재고 증가 (원자적 증가)
+    int increase(Long fruitId, int quantity);
+
+    // 주문들의 상품별 수량 합계만큼 재고를 한 번의 UPDATE로 증가 (분할 재고 상품 제외)
+    int increaseByOrders(Collection<Long> orderIds);
+
+    // 재고 행이 없는 상품에 수량 0인 재고 행 추가 (생성된 행 수 반환)
+    int backfillMissing();
+
+    void deleteById(Long fruitId);
+
+    interface StockQuantity {
+
+        Long getFruitId();
+
+        Long getQuantity();
+    }
+}
@@ -0,0 +1,18 @@
+package com.fruitmall.domain.fruit.domain;
+
+/**
+ * 상품 테이블의 기존 재고 컬럼(fruit.stock_quantity) 이전.
+ * 재고는 fruit_inventory로 옮겨졌지만, 이전 스키마로 운영 중인 DB에는 컬럼과 값이 남아 있습니다.
+ * 새로 만든 스키마에는 컬럼이 없으므로 먼저 존재 여부를 확인하고, 복사가 끝나면 컬럼을 삭제해 한 번만 이전합니다.
+ */
+public interface FruitLegacyStockRepository {
+
+    // 기존 재고 컬럼이 남아 있는지 확인
+    boolean hasLegacyStockColumn();
+
+    // 재고 행이 없는 상품의 기존 재고 수량을 재고 행으로 복사 (생성된 행 수 반환)
+    int copyLegacyStock();
+
+    // 기존 재고 컬럼 삭제 (DDL이라 트랜잭션 밖에서 호출)
+    void dropLegacyStockColumn();
+}
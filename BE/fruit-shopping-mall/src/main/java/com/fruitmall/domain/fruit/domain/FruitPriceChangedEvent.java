@@ -0,0 +1,19 @@
+package com.fruitmall.domain.fruit.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 가격 변경 이벤트 (등록 시 최초 가격 포함).
+ */
+@Getter
+@RequiredArgsConstructor
+public class FruitPriceChangedEvent {
+
+    private final Long fruitId;
+    private final BigDecimal price;
+    private final LocalDateTime changedAt;
+}
@@ -0,0 +1,46 @@
+package com.fruitmall.domain.fruit.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 가격 변경 이력 (추가만 하고 수정·삭제하지 않음).
+ * 한 행은 changedAt부터 다음 행의 changedAt 전까지 유효한 가격입니다.
+ */
+@Entity
+@Table(name = "fruit_price_history",
+        indexes = @Index(name = "idx_price_history_fruit_changed", columnList = "fruit_id, changed_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FruitPriceHistory {
+
+    // 이력 기능 전에 등록된 상품의 첫 기록 시각 (언제부터의 가격인지 알 수 없어 모든 조회 시점보다 앞에 둠)
+    public static final LocalDateTime SEED_CHANGED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "price_history_id")
+    private Long id;
+
+    @Column(name = "fruit_id", nullable = false)
+    private Long fruitId;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Builder
+    public FruitPriceHistory(Long fruitId, BigDecimal price, LocalDateTime changedAt) {
+        this.fruitId = fruitId;
+        this.price = price;
+        this.changedAt = changedAt;
+    }
+}
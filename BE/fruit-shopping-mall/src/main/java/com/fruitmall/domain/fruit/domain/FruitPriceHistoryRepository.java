@@ -0,0 +1,19 @@
+package com.fruitmall.domain.fruit.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface FruitPriceHistoryRepository {
+
+    FruitPriceHistory save(FruitPriceHistory history);
+
+    // since 이후 기록과, since 시점에 유효했던 상품별 직전 기록 (메모리 시계열 적재용, 상품·시각 순)
+    List<FruitPriceHistory> findAllEffectiveSince(LocalDateTime since);
+
+    // time 시점에 유효했던 기록 (메모리 보관 기간보다 오래된 시점 조회용)
+    Optional<FruitPriceHistory> findEffectiveAt(Long fruitId, LocalDateTime time);
+
+    // 이력이 없는 상품에 현재 가격을 changedAt 시각의 첫 기록으로 추가 (생성된 행 수 반환)
+    int backfillMissing(LocalDateTime changedAt);
+}
@@ -1,6 +1,7 @@
 package com.fruitmall.domain.fruit.domain;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,12 @@ public interface FruitRepository {
     
     List<Fruit> findAll();
     
+    // 여러 상품을 fruit_id 순으로 한 번에 조회 (잠금 없음)
+    List<Fruit> findAllByIdsOrderById(Collection<Long> ids);
+    
+    // 여러 상품을 fruit_id 순으로 한 번에 조회하며 행 잠금 (분할 재고 설정 변경 시)
+    List<Fruit> findAllByIdsForUpdate(Collection<Long> ids);
+    
     List<Fruit> findByCategory(Category category);
     
     List<Fruit> findByFruitNameContaining(String keyword);
@@ -22,11 +29,24 @@ public interface FruitRepository {
     
     List<Fruit> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice);
     
-    List<Fruit> findByStockQuantityGreaterThan(int minStock);
+    // 재고가 minStock보다 많은 상품 조회 (분할 재고 상품은 분할 행 합계 기준)
+    List<Fruit> findInStock(int minStock);
     
     boolean existsById(Long id);
     
+    boolean existsByCategoryId(Long categoryId);
+    
+    // 상품별 판매 수량 합계 (취소된 주문 제외, 자동완성 인기도 정렬용)
+    List<FruitSales> findSalesQuantities();
+    
     void delete(Fruit fruit);
     
     long count();
+    
+    interface FruitSales {
+        
+        Long getFruitId();
+        
+        Long getQuantity();
+    }
 }
\ No newline at end of file
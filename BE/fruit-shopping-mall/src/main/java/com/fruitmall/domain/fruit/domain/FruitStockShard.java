@@ -0,0 +1,43 @@
+package com.fruitmall.domain.fruit.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할 재고 행.
+ * 주문이 몰리는 상품의 재고를 여러 행으로 나눠, 동시 주문이 하나의 fruit 행에서 대기하지 않도록 합니다.
+ */
+@Entity
+@Table(name = "fruit_stock_shard",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"fruit_id", "shard_no"})
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FruitStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "fruit_stock_shard_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "fruit_id", nullable = false)
+    private Fruit fruit;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Builder
+    public FruitStockShard(Fruit fruit, Integer shardNo, Integer quantity) {
+        this.fruit = fruit;
+        this.shardNo = shardNo;
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,26 @@
+package com.fruitmall.domain.fruit.domain;
+
+import java.util.List;
+
+public interface FruitStockShardRepository {
+
+    FruitStockShard save(FruitStockShard shard);
+
+    // 상품의 분할 재고 수량을 shard_no 순으로 잠금 조회 (엔티티가 아닌 값으로 조회해 항상 최신 수량 사용)
+    List<ShardQuantity> findQuantitiesForUpdate(Long fruitId);
+
+    // 분할 행의 재고가 충분할 때만 차감 (변경된 행 수 반환, 0이면 재고 부족)
+    int decreaseIfAvailable(Long fruitId, int shardNo, int quantity);
+
+    // 분할 행 재고 증가
+    int increase(Long fruitId, int shardNo, int quantity);
+
+    int deleteByFruitId(Long fruitId);
+
+    interface ShardQuantity {
+
+        Integer getShardNo();
+
+        Integer getQuantity();
+    }
+}
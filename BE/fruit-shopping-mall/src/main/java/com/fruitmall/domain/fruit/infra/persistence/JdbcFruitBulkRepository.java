@@ -0,0 +1,164 @@
+package com.fruitmall.domain.fruit.infra.persistence;
+
+import com.fruitmall.domain.fruit.domain.FruitBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcFruitBulkRepository implements FruitBulkRepository {
+
+    private static final String SELECT_BY_NAMES =
+            "SELECT fruit_id, fruit_name, origin, price, stock_shard_count FROM fruit WHERE fruit_name IN (:fruitNames) " +
+            "ORDER BY fruit_id";
+    private static final String INSERT_FRUIT =
+            "INSERT INTO fruit (fruit_name, origin, price, category_id, season, description, image_url, " +
+            "stock_shard_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_INVENTORY =
+            "INSERT INTO fruit_inventory (fruit_id, quantity) VALUES (?, ?)";
+    private static final String INSERT_PRICE_HISTORY =
+            "INSERT INTO fruit_price_history (fruit_id, price, changed_at) VALUES (?, ?, ?)";
+    private static final String UPDATE_FRUIT =
+            "UPDATE fruit SET fruit_name = ?, origin = ?, price = ?, category_id = ?, season = ?, description = ?, " +
+            "image_url = ?, updated_at = ? WHERE fruit_id = ?";
+    private static final String UPDATE_INVENTORY =
+            "UPDATE fruit_inventory SET quantity = ? WHERE fruit_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<ExistingFruit> findByFruitNames(Collection<String> fruitNames) {
+        if (fruitNames.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(SELECT_BY_NAMES,
+                new MapSqlParameterSource("fruitNames", fruitNames),
+                (rs, rowNum) -> new ExistingFruit(
+                        rs.getLong("fruit_id"),
+                        rs.getString("fruit_name"),
+                        rs.getString("origin"),
+                        rs.getBigDecimal("price"),
+                        rs.getInt("stock_shard_count")));
+    }
+
+    @Override
+    public List<Long> insertAll(List<BulkFruit> fruits) {
+        if (fruits.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 배치 INSERT 후 생성된 키를 한 번에 읽음 (IDENTITY 키도 JDBC 배치로는 묶을 수 있음)
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_FRUIT,
+                    Statement.RETURN_GENERATED_KEYS)) {
+                for (BulkFruit fruit : fruits) {
+                    bindFruit(statement, fruit);
+                    statement.setTimestamp(8, now);
+                    statement.setTimestamp(9, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> generated = new ArrayList<>(fruits.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        generated.add(keys.getLong(1));
+                    }
+                }
+                return generated;
+            }
+        });
+        if (ids == null || ids.size() != fruits.size()) {
+            throw new IllegalStateException("생성된 상품 ID 수가 저장한 행 수와 다릅니다.");
+        }
+
+        List<Object[]> inventories = new ArrayList<>(fruits.size());
+        for (int i = 0; i < fruits.size(); i++) {
+            inventories.add(new Object[]{ids.get(i), fruits.get(i).stockQuantity()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_INVENTORY, inventories);
+        insertPriceHistory(ids, fruits.stream().map(BulkFruit::price).toList(), now);
+        return ids;
+    }
+
+    @Override
+    public void updateAll(List<Long> fruitIds, List<BulkFruit> fruits) {
+        if (fruits.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPDATE_FRUIT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                bindFruit(statement, fruits.get(i));
+                statement.setTimestamp(8, now);
+                statement.setLong(9, fruitIds.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return fruits.size();
+            }
+        });
+
+        List<Object[]> inventories = new ArrayList<>(fruits.size());
+        for (int i = 0; i < fruits.size(); i++) {
+            inventories.add(new Object[]{fruits.get(i).stockQuantity(), fruitIds.get(i)});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_INVENTORY, inventories);
+    }
+
+    @Override
+    public void insertPriceHistory(List<Long> fruitIds, List<BigDecimal> prices) {
+        insertPriceHistory(fruitIds, prices, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private void insertPriceHistory(List<Long> fruitIds, List<BigDecimal> prices, Timestamp changedAt) {
+        if (fruitIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(fruitIds.size());
+        for (int i = 0; i < fruitIds.size(); i++) {
+            rows.add(new Object[]{fruitIds.get(i), prices.get(i), changedAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_PRICE_HISTORY, rows);
+    }
+
+    private static void bindFruit(PreparedStatement statement, BulkFruit fruit) throws SQLException {
+        statement.setString(1, fruit.fruitName());
+        setNullableString(statement, 2, fruit.origin());
+        statement.setBigDecimal(3, fruit.price());
+        statement.setLong(4, fruit.categoryId());
+        setNullableString(statement, 5, fruit.season());
+        setNullableString(statement, 6, fruit.description());
+        setNullableString(statement, 7, fruit.imageUrl());
+    }
+
+    private static void setNullableString(PreparedStatement statement, int index, String value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.VARCHAR);
+        } else {
+            statement.setString(index, value);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.fruitmall.domain.fruit.infra.persistence;
+
+import com.fruitmall.domain.fruit.domain.FruitLegacyStockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcFruitLegacyStockRepository implements FruitLegacyStockRepository {
+
+    private static final String TABLE_NAME = "fruit";
+    private static final String COLUMN_NAME = "stock_quantity";
+    private static final String COPY_LEGACY_STOCK =
+            "INSERT INTO fruit_inventory (fruit_id, quantity) " +
+            "SELECT f.fruit_id, COALESCE(f.stock_quantity, 0) FROM fruit f " +
+            "WHERE NOT EXISTS (SELECT 1 FROM fruit_inventory i WHERE i.fruit_id = f.fruit_id)";
+    // 여러 인스턴스가 동시에 시작해도 실패하지 않도록 IF EXISTS 사용
+    private static final String DROP_LEGACY_STOCK_COLUMN =
+            "ALTER TABLE fruit DROP COLUMN IF EXISTS stock_quantity";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean hasLegacyStockColumn() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // 식별자 대소문자 저장 방식이 DB마다 달라 맞춰서 조회 (H2는 대문자, MariaDB는 소문자)
+            String table = metaData.storesUpperCaseIdentifiers() ? TABLE_NAME.toUpperCase() : TABLE_NAME;
+            String column = metaData.storesUpperCaseIdentifiers() ? COLUMN_NAME.toUpperCase() : COLUMN_NAME;
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), connection.getSchema(), table, column)) {
+                return rs.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    @Override
+    public int copyLegacyStock() {
+        return jdbcTemplate.update(COPY_LEGACY_STOCK);
+    }
+
+    @Override
+    public void dropLegacyStockColumn() {
+        jdbcTemplate.execute(DROP_LEGACY_STOCK_COLUMN);
+    }
+}
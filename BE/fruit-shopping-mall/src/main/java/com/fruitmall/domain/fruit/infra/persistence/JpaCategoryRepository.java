@@ -3,8 +3,10 @@ package com.fruitmall.domain.fruit.infra.persistence;
 import com.fruitmall.domain.fruit.domain.Category;
 import com.fruitmall.domain.fruit.domain.CategoryRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +15,16 @@ public interface JpaCategoryRepository extends JpaRepository<Category, Long>, Ca
     Optional<Category> findByName(String name);
     
     boolean existsByName(String name);
+    
+    // 분할 재고 상품은 fruit_inventory 수량이 0이므로 수량이 남은 분할 행이 있는지로 판단
+    @Query("SELECT c.id AS categoryId, c.name AS name, c.description AS description, " +
+           "COUNT(DISTINCT f.id) AS fruitCount, " +
+           "COUNT(DISTINCT CASE WHEN i.quantity > 0 OR s.id IS NOT NULL THEN f.id END) AS inStockCount " +
+           "FROM Category c " +
+           "LEFT JOIN Fruit f ON f.category = c " +
+           "LEFT JOIN FruitInventory i ON i.fruitId = f.id " +
+           "LEFT JOIN FruitStockShard s ON s.fruit = f AND s.quantity > 0 " +
+           "GROUP BY c.id, c.name, c.description " +
+           "ORDER BY c.id")
+    List<CategoryFruitCount> findAllWithFruitCounts();
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.fruitmall.domain.fruit.infra.persistence;
+
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaFruitInventoryRepository extends JpaRepository<FruitInventory, Long>, FruitInventoryRepository {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM FruitInventory i WHERE i.fruitId = :fruitId")
+    Optional<FruitInventory> findByIdForUpdate(@Param("fruitId") Long fruitId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM FruitInventory i WHERE i.fruitId IN :fruitIds ORDER BY i.fruitId")
+    List<FruitInventory> findAllByIdsForUpdate(@Param("fruitIds") Collection<Long> fruitIds);
+
+    @Query("SELECT i.fruitId AS fruitId, i.quantity + " +
+           "(SELECT COALESCE(SUM(s.quantity), 0) FROM FruitStockShard s WHERE s.fruit.id = i.fruitId) AS quantity " +
+           "FROM FruitInventory i WHERE i.fruitId IN :fruitIds")
+    List<StockQuantity> findStockQuantities(@Param("fruitIds") Collection<Long> fruitIds);
+
+    @Query("SELECT i.fruitId AS fruitId, i.quantity + " +
+           "(SELECT COALESCE(SUM(s.quantity), 0) FROM FruitStockShard s WHERE s.fruit.id = i.fruitId) AS quantity " +
+           "FROM FruitInventory i")
+    List<StockQuantity> findAllStockQuantities();
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE FruitInventory i SET i.quantity = i.quantity - :quantity " +
+           "WHERE i.fruitId = :fruitId AND i.quantity >= :quantity")
+    int decreaseIfAvailable(@Param("fruitId") Long fruitId, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE FruitInventory i SET i.quantity = i.quantity + :quantity WHERE i.fruitId = :fruitId")
+    int increase(@Param("fruitId") Long fruitId, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE FruitInventory i SET i.quantity = i.quantity + " +
+           "(SELECT SUM(od.quantity) FROM OrderDetail od WHERE od.fruit.id = i.fruitId AND od.order.id IN :orderIds) " +
+           "WHERE i.fruitId IN (SELECT od2.fruit.id FROM OrderDetail od2 " +
+           "WHERE od2.order.id IN :orderIds AND od2.fruit.stockShardCount = 0)")
+    int increaseByOrders(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO fruit_inventory (fruit_id, quantity) " +
+                   "SELECT f.fruit_id, 0 FROM fruit f " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM fruit_inventory i WHERE i.fruit_id = f.fruit_id)",
+           nativeQuery = true)
+    int backfillMissing();
+}
@@ -0,0 +1,36 @@
+package com.fruitmall.domain.fruit.infra.persistence;
+
+import com.fruitmall.domain.fruit.domain.FruitPriceHistory;
+import com.fruitmall.domain.fruit.domain.FruitPriceHistoryRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaFruitPriceHistoryRepository extends JpaRepository<FruitPriceHistory, Long>, FruitPriceHistoryRepository {
+
+    @Query("SELECT h FROM FruitPriceHistory h WHERE h.changedAt >= :since " +
+           "OR h.id = (SELECT MAX(p.id) FROM FruitPriceHistory p WHERE p.fruitId = h.fruitId AND p.changedAt < :since) " +
+           "ORDER BY h.fruitId, h.changedAt, h.id")
+    List<FruitPriceHistory> findAllEffectiveSince(@Param("since") LocalDateTime since);
+
+    Optional<FruitPriceHistory> findFirstByFruitIdAndChangedAtLessThanEqualOrderByChangedAtDescIdDesc(
+            Long fruitId, LocalDateTime time);
+
+    default Optional<FruitPriceHistory> findEffectiveAt(Long fruitId, LocalDateTime time) {
+        return findFirstByFruitIdAndChangedAtLessThanEqualOrderByChangedAtDescIdDesc(fruitId, time);
+    }
+
+    @Modifying
+    @Query(value = "INSERT INTO fruit_price_history (fruit_id, price, changed_at) " +
+                   "SELECT f.fruit_id, f.price, :changedAt FROM fruit f " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM fruit_price_history h WHERE h.fruit_id = f.fruit_id)",
+           nativeQuery = true)
+    int backfillMissing(@Param("changedAt") LocalDateTime changedAt);
+}
@@ -3,10 +3,15 @@ package com.fruitmall.domain.fruit.infra.persistence;
 import com.fruitmall.domain.fruit.domain.Category;
 import com.fruitmall.domain.fruit.domain.Fruit;
 import com.fruitmall.domain.fruit.domain.FruitRepository;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +19,8 @@ public interface JpaFruitRepository extends JpaRepository<Fruit, Long>, FruitRep
     
     List<Fruit> findByCategory(Category category);
     
+    boolean existsByCategoryId(Long categoryId);
+    
     List<Fruit> findByFruitNameContaining(String keyword);
     
     List<Fruit> findByOrigin(String origin);
@@ -22,5 +29,19 @@ public interface JpaFruitRepository extends JpaRepository<Fruit, Long>, FruitRep
     
     List<Fruit> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice);
     
-    List<Fruit> findByStockQuantityGreaterThan(int minStock);
+    @Query("SELECT f FROM Fruit f JOIN FruitInventory i ON i.fruitId = f.id WHERE i.quantity + " +
+           "(SELECT COALESCE(SUM(s.quantity), 0) FROM FruitStockShard s WHERE s.fruit = f) > :minStock")
+    List<Fruit> findInStock(@Param("minStock") int minStock);
+    
+    @Query("SELECT f FROM Fruit f WHERE f.id IN :ids ORDER BY f.id")
+    List<Fruit> findAllByIdsOrderById(@Param("ids") Collection<Long> ids);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM Fruit f WHERE f.id IN :ids ORDER BY f.id")
+    List<Fruit> findAllByIdsForUpdate(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT od.fruit.id AS fruitId, SUM(od.quantity) AS quantity FROM OrderDetail od " +
+           "WHERE od.order.orderStatus <> com.fruitmall.domain.order.domain.OrderStatus.CANCELLED " +
+           "GROUP BY od.fruit.id")
+    List<FruitSales> findSalesQuantities();
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.fruitmall.domain.fruit.infra.persistence;
+
+import com.fruitmall.domain.fruit.domain.FruitStockShard;
+import com.fruitmall.domain.fruit.domain.FruitStockShardRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JpaFruitStockShardRepository extends JpaRepository<FruitStockShard, Long>, FruitStockShardRepository {
+
+    @Query(value = "SELECT s.shard_no AS shardNo, s.quantity AS quantity FROM fruit_stock_shard s " +
+                   "WHERE s.fruit_id = :fruitId ORDER BY s.shard_no FOR UPDATE", nativeQuery = true)
+    List<ShardQuantity> findQuantitiesForUpdate(@Param("fruitId") Long fruitId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE FruitStockShard s SET s.quantity = s.quantity - :quantity " +
+           "WHERE s.fruit.id = :fruitId AND s.shardNo = :shardNo AND s.quantity >= :quantity")
+    int decreaseIfAvailable(@Param("fruitId") Long fruitId, @Param("shardNo") int shardNo,
+                            @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE FruitStockShard s SET s.quantity = s.quantity + :quantity " +
+           "WHERE s.fruit.id = :fruitId AND s.shardNo = :shardNo")
+    int increase(@Param("fruitId") Long fruitId, @Param("shardNo") int shardNo, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM FruitStockShard s WHERE s.fruit.id = :fruitId")
+    int deleteByFruitId(@Param("fruitId") Long fruitId);
+}
@@ -0,0 +1,149 @@
+package com.fruitmall.domain.image.application;
+
+import com.fruitmall.domain.image.application.dto.ImageFileDto;
+import com.fruitmall.domain.image.application.dto.ImageUploadDto;
+import com.fruitmall.domain.image.domain.ImageFormat;
+import com.fruitmall.domain.image.domain.ImageStore;
+import com.fruitmall.domain.image.domain.ImageStore.StagedFile;
+import com.fruitmall.domain.image.domain.ImageVariant;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * 이미지 업로드·조회.
+ * 업로드는 원본을 내용 해시 이름으로 저장한 뒤 축소본 생성을 작업자 풀에 맡기고 바로 응답합니다.
+ * 저장된 파일은 바뀌지 않으므로 조회 응답은 오래 캐시할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class ImageService {
+
+    private final ImageStore imageStore;
+    private final ImageVariantGenerator variantGenerator;
+    private final long maxPixels;
+
+    public ImageService(
+            ImageStore imageStore,
+            ImageVariantGenerator variantGenerator,
+            @Value("${image.max-pixels:40000000}") long maxPixels) {
+        this.imageStore = imageStore;
+        this.variantGenerator = variantGenerator;
+        this.maxPixels = maxPixels;
+    }
+
+    public ImageUploadDto upload(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "업로드할 이미지가 없습니다.");
+        }
+
+        StagedFile staged;
+        try (InputStream content = file.getInputStream()) {
+            staged = imageStore.stage(content);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "이미지를 저장하지 못했습니다.");
+        }
+
+        try {
+            ImageInfo info = probe(staged.path());
+            String imageId = ImageUrls.imageId(staged.sha256(), info.format());
+            imageStore.promote(staged, imageId);
+            variantGenerator.request(imageId);
+
+            return ImageUploadDto.builder()
+                    .imageId(imageId)
+                    .url(ImageUrls.url(imageId))
+                    .thumbnailUrl(ImageUrls.url(imageId, ImageVariant.THUMBNAIL))
+                    .cardUrl(ImageUrls.url(imageId, ImageVariant.CARD))
+                    .contentType(info.format().getContentType())
+                    .size(staged.size())
+                    .width(info.width())
+                    .height(info.height())
+                    .build();
+        } catch (IOException e) {
+            log.error("이미지 저장 실패", e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "이미지를 저장하지 못했습니다.");
+        } finally {
+            imageStore.discard(staged);
+        }
+    }
+
+    // 원본(variant가 null) 또는 축소본 파일 조회 (축소본이 아직 없으면 생성을 요청하고 원본을 대신 반환)
+    public ImageFileDto load(String imageId, ImageVariant variant) {
+        if (!ImageUrls.isImageId(imageId)) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "이미지를 찾을 수 없습니다.");
+        }
+        Path original = imageStore.resolve(imageId);
+        if (!Files.isRegularFile(original)) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "이미지를 찾을 수 없습니다.");
+        }
+        ImageFormat format = ImageUrls.format(imageId);
+
+        if (variant != null) {
+            Path file = imageStore.resolve(ImageUrls.variantFileName(imageId, variant));
+            if (Files.isRegularFile(file)) {
+                return ImageFileDto.builder()
+                        .path(file)
+                        .contentType(format.variantFormat().getContentType())
+                        .etag("\"" + imageId + "-" + variant.getPath() + "\"")
+                        .immutable(true)
+                        .build();
+            }
+            variantGenerator.request(imageId);
+        }
+
+        return ImageFileDto.builder()
+                .path(original)
+                .contentType(format.getContentType())
+                .etag("\"" + imageId + "\"")
+                .immutable(variant == null)
+                .build();
+    }
+
+    // 헤더만 읽어 형식과 크기 확인 (전체 디코딩은 축소본 생성 시에만)
+    private ImageInfo probe(Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미지 파일이 아닙니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                ImageFormat format = ImageFormat.fromReaderName(reader.getFormatName())
+                        .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                                "지원하지 않는 이미지 형식입니다. (JPEG, PNG, GIF만 가능)"));
+                reader.setInput(input, true, true);
+                int width;
+                int height;
+                try {
+                    width = reader.getWidth(0);
+                    height = reader.getHeight(0);
+                } catch (IIOException e) {
+                    throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "손상된 이미지 파일입니다.");
+                }
+                if ((long) width * height > maxPixels) {
+                    throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미지 해상도가 너무 큽니다.");
+                }
+                return new ImageInfo(format, width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private record ImageInfo(ImageFormat format, int width, int height) {
+    }
+}
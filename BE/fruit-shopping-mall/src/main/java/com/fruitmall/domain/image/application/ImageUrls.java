@@ -0,0 +1,59 @@
+package com.fruitmall.domain.image.application;
+
+import com.fruitmall.domain.image.domain.ImageFormat;
+import com.fruitmall.domain.image.domain.ImageVariant;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이미지 ID·파일 이름·URL 규칙.
+ * 이미지 ID는 원본 내용의 SHA-256 해시와 확장자(예: 3a7f...c1.jpg)이며, 원본은 /api/images/{id},
+ * 축소본은 /api/images/{id}/{variant}로 제공합니다.
+ */
+public final class ImageUrls {
+
+    // 응답에 담는 URL이므로 server.servlet.context-path(/api)를 포함
+    public static final String BASE_PATH = "/api/images";
+
+    private static final Pattern IMAGE_ID = Pattern.compile("([0-9a-f]{64})\\.(jpg|png|gif)");
+    private static final Pattern LOCAL_URL = Pattern.compile(Pattern.quote(BASE_PATH) + "/(" + IMAGE_ID.pattern() + ")");
+
+    private ImageUrls() {
+    }
+
+    public static boolean isImageId(String imageId) {
+        return imageId != null && IMAGE_ID.matcher(imageId).matches();
+    }
+
+    public static String imageId(String sha256, ImageFormat format) {
+        return sha256 + "." + format.getExtension();
+    }
+
+    public static ImageFormat format(String imageId) {
+        return ImageFormat.fromExtension(imageId.substring(imageId.lastIndexOf('.') + 1)).orElseThrow();
+    }
+
+    public static String url(String imageId) {
+        return BASE_PATH + "/" + imageId;
+    }
+
+    public static String url(String imageId, ImageVariant variant) {
+        return url(imageId) + "/" + variant.getPath();
+    }
+
+    // 축소본 파일 이름 (예: 3a7f...c1_thumbnail.jpg)
+    public static String variantFileName(String imageId, ImageVariant variant) {
+        String hash = imageId.substring(0, imageId.lastIndexOf('.'));
+        return hash + "_" + variant.getPath() + "." + format(imageId).variantFormat().getExtension();
+    }
+
+    // 업로드한 이미지 URL이면 축소본 URL, 외부 URL이면 원래 URL 그대로
+    public static String variantUrl(String imageUrl, ImageVariant variant) {
+        if (imageUrl == null) {
+            return null;
+        }
+        Matcher matcher = LOCAL_URL.matcher(imageUrl);
+        return matcher.matches() ? url(matcher.group(1), variant) : imageUrl;
+    }
+}
@@ -0,0 +1,167 @@
+package com.fruitmall.domain.image.application;
+
+import com.fruitmall.domain.image.domain.ImageFormat;
+import com.fruitmall.domain.image.domain.ImageStore;
+import com.fruitmall.domain.image.domain.ImageVariant;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 축소본 생성 작업자 풀.
+ * 업로드 요청 스레드는 원본만 저장하고 돌아가며, 축소본은 이 풀에서 원본을 한 번 디코딩해 모든 종류를 만듭니다.
+ * 같은 이미지에 대한 요청이 겹치면 한 번만 처리하고, 큐가 가득 차면 버린 뒤 다음 조회 때 다시 요청합니다.
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    private final ImageStore imageStore;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final float jpegQuality;
+
+    public ImageVariantGenerator(
+            ImageStore imageStore,
+            MeterRegistry meterRegistry,
+            @Value("${image.variant.worker-threads:2}") int workerThreads,
+            @Value("${image.variant.queue-capacity:1000}") int queueCapacity,
+            @Value("${image.variant.jpeg-quality:0.85}") float jpegQuality) {
+        this.imageStore = imageStore;
+        this.jpegQuality = jpegQuality;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0, TimeUnit.MILLISECONDS, queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("image.variant.queue.depth", queue, BlockingQueue::size)
+                .description("축소본 생성 대기 중인 이미지 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // 없는 축소본 생성 요청 (이미 처리 중이면 무시)
+    public void request(String imageId) {
+        if (!inFlight.add(imageId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(imageId);
+                } finally {
+                    inFlight.remove(imageId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(imageId);
+            log.warn("축소본 생성 큐가 가득 차 다음 조회 때 다시 요청합니다: {}", imageId);
+        }
+    }
+
+    // 원본을 한 번 디코딩해 아직 없는 축소본을 모두 생성
+    void generate(String imageId) {
+        List<ImageVariant> missing = new ArrayList<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!Files.exists(imageStore.resolve(ImageUrls.variantFileName(imageId, variant)))) {
+                missing.add(variant);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        try {
+            BufferedImage original = ImageIO.read(imageStore.resolve(imageId).toFile());
+            if (original == null) {
+                log.warn("원본 이미지를 읽을 수 없어 축소본을 만들지 않습니다: {}", imageId);
+                return;
+            }
+            ImageFormat format = ImageUrls.format(imageId).variantFormat();
+            for (ImageVariant variant : missing) {
+                byte[] encoded = encode(resize(original, variant.getMaxSize(), format), format);
+                imageStore.save(ImageUrls.variantFileName(imageId, variant), encoded);
+            }
+            log.debug("축소본 생성 완료: {} {}", imageId, missing);
+        } catch (IOException | RuntimeException e) {
+            log.error("축소본 생성 실패: {}", imageId, e);
+        }
+    }
+
+    // 긴 변을 maxSize에 맞춰 축소 (한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로)
+    static BufferedImage resize(BufferedImage source, int maxSize, ImageFormat format) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        // JPEG는 알파 채널을 저장할 수 없음
+        int type = format == ImageFormat.JPEG ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private byte[] encode(BufferedImage image, ImageFormat format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format.getWriterName()).next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (format == ImageFormat.JPEG) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
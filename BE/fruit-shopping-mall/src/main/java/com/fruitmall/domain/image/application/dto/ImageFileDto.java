@@ -0,0 +1,16 @@
+package com.fruitmall.domain.image.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+@Getter
+@Builder
+public class ImageFileDto {
+
+    private Path path;
+    private String contentType;
+    private String etag;
+    private boolean immutable;  // false면 축소본이 아직 없어 원본을 대신 응답하는 경우 (캐시하지 않음)
+}
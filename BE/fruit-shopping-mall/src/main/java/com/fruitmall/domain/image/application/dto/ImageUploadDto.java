@@ -0,0 +1,18 @@
+package com.fruitmall.domain.image.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ImageUploadDto {
+
+    private String imageId;
+    private String url;
+    private String thumbnailUrl;
+    private String cardUrl;
+    private String contentType;
+    private long size;
+    private int width;
+    private int height;
+}
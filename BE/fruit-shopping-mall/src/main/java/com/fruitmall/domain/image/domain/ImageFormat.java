@@ -0,0 +1,46 @@
+package com.fruitmall.domain.image.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * 업로드할 수 있는 이미지 형식.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageFormat {
+
+    JPEG("jpg", "jpeg", "image/jpeg"),
+    PNG("png", "png", "image/png"),
+    GIF("gif", "gif", "image/gif");
+
+    private final String extension;
+    private final String writerName;
+    private final String contentType;
+
+    // 축소본 형식 (GIF는 투명도를 유지하도록 PNG로 저장)
+    public ImageFormat variantFormat() {
+        return this == GIF ? PNG : this;
+    }
+
+    // ImageIO 리더의 형식 이름으로 변환 (지원하지 않는 형식이면 빈 값)
+    public static Optional<ImageFormat> fromReaderName(String readerName) {
+        for (ImageFormat format : values()) {
+            if (format.writerName.equalsIgnoreCase(readerName)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static Optional<ImageFormat> fromExtension(String extension) {
+        for (ImageFormat format : values()) {
+            if (format.extension.equals(extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,29 @@
+package com.fruitmall.domain.image.domain;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 내용 주소 방식(content-addressed) 이미지 저장소.
+ * 파일 이름이 내용의 SHA-256 해시이므로 같은 파일은 한 번만 저장되고, 저장된 파일은 바뀌지 않습니다.
+ */
+public interface ImageStore {
+
+    // 업로드 내용을 임시 파일로 받으면서 SHA-256 해시 계산
+    StagedFile stage(InputStream content) throws IOException;
+
+    // 임시 파일을 최종 위치로 이동 (같은 파일이 이미 있으면 임시 파일만 삭제)
+    void promote(StagedFile staged, String fileName) throws IOException;
+
+    void discard(StagedFile staged);
+
+    // 파일 쓰기 (임시 파일에 쓴 뒤 이동하므로 읽는 쪽은 완성된 파일만 봄)
+    void save(String fileName, byte[] content) throws IOException;
+
+    // 파일 위치 (존재하지 않을 수 있음)
+    Path resolve(String fileName);
+
+    record StagedFile(Path path, String sha256, long size) {
+    }
+}
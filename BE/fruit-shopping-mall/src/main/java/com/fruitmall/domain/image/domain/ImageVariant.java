@@ -0,0 +1,31 @@
+package com.fruitmall.domain.image.domain;
+
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 시 미리 만들어 두는 축소 이미지 종류.
+ * 원본 비율을 유지한 채 긴 변을 maxSize에 맞추며, 원본이 더 작으면 확대하지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    THUMBNAIL("thumbnail", 200),  // 목록 그리드용
+    CARD("card", 600);            // 상품 카드·상세 미리보기용
+
+    private final String path;
+    private final int maxSize;
+
+    // URL 경로(thumbnail, card)를 종류로 변환
+    public static ImageVariant from(String path) {
+        for (ImageVariant variant : values()) {
+            if (variant.path.equalsIgnoreCase(path)) {
+                return variant;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 이미지 크기입니다: " + path);
+    }
+}
@@ -0,0 +1,105 @@
+package com.fruitmall.domain.image.infra.storage;
+
+import com.fruitmall.domain.image.domain.ImageStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 로컬 디스크 이미지 저장소.
+ * 한 디렉터리에 파일이 몰리지 않도록 해시 앞 두 글자로 하위 디렉터리를 나눕니다 (예: ab/abcd...jpg).
+ */
+@Slf4j
+@Component
+public class LocalImageStore implements ImageStore {
+
+    private static final String STAGING_DIRECTORY = ".staging";
+
+    private final Path root;
+    private final Path staging;
+
+    public LocalImageStore(@Value("${image.storage.path:data/images}") String path) {
+        this.root = Path.of(path).toAbsolutePath().normalize();
+        this.staging = root.resolve(STAGING_DIRECTORY);
+        try {
+            Files.createDirectories(staging);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 저장 디렉터리를 만들 수 없습니다: " + root, e);
+        }
+        log.info("이미지 저장소 경로: {}", root);
+    }
+
+    @Override
+    public StagedFile stage(InputStream content) throws IOException {
+        Path file = Files.createTempFile(staging, "upload-", ".tmp");
+        MessageDigest digest = sha256();
+        try (OutputStream output = new DigestOutputStream(Files.newOutputStream(file), digest)) {
+            long size = content.transferTo(output);
+            return new StagedFile(file, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    @Override
+    public void promote(StagedFile staged, String fileName) throws IOException {
+        move(staged.path(), resolve(fileName));
+    }
+
+    @Override
+    public void discard(StagedFile staged) {
+        try {
+            Files.deleteIfExists(staged.path());
+        } catch (IOException e) {
+            log.warn("임시 이미지 파일 삭제 실패: {}", staged.path(), e);
+        }
+    }
+
+    @Override
+    public void save(String fileName, byte[] content) throws IOException {
+        Path file = Files.createTempFile(staging, "variant-", ".tmp");
+        Files.write(file, content);
+        move(file, resolve(fileName));
+    }
+
+    @Override
+    public Path resolve(String fileName) {
+        return root.resolve(fileName.substring(0, 2)).resolve(fileName);
+    }
+
+    // 같은 파일 시스템 안에서의 원자적 이동 (같은 내용이 먼저 저장됐으면 그대로 둠)
+    private static void move(Path source, Path target) throws IOException {
+        if (Files.exists(target)) {
+            Files.deleteIfExists(source);
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.fruit.application.StockReservationService;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.order.domain.Order;
+import com.fruitmall.domain.order.domain.OrderRepository;
+import com.fruitmall.domain.order.domain.OrderRepository.FruitQuantity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 취소된 주문의 재고 복구.
+ * 모든 취소 경로(회원 취소, 관리자 상태 변경, 일괄 변경, 배송 취소)에서 호출하며,
+ * 주문별 stock_restored 표시로 같은 주문의 재고가 두 번 복구되지 않도록 합니다.
+ * 트랜잭션은 호출하는 쪽이 시작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryRestorer {
+
+    private final OrderRepository orderRepository;
+    private final FruitInventoryRepository fruitInventoryRepository;
+    private final StockReservationService stockReservationService;
+
+    public int restore(Order order) {
+        return restore(List.of(order.getId()));
+    }
+
+    // 주문들의 재고 복구 (이미 복구한 주문은 건너뛰고, 복구한 주문 수 반환)
+    public int restore(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        // 아직 복구하지 않은 주문만 잠그고 복구 완료로 표시 (동시 취소 시 한 번만 복구)
+        List<Long> targetIds = orderRepository.findStockUnrestoredIdsForUpdate(orderIds);
+        if (targetIds.isEmpty()) {
+            return 0;
+        }
+        orderRepository.markStockRestored(targetIds);
+
+        // 일반 상품은 상품별 합계를 한 번의 UPDATE ... WHERE fruit_id IN (...)으로 복구
+        fruitInventoryRepository.increaseByOrders(targetIds);
+
+        // 분할 재고 상품은 분할 행에 되돌리고, 일반 상품은 재고 변경만 알림
+        for (FruitQuantity fruitQuantity : orderRepository.sumQuantitiesByFruit(targetIds)) {
+            if (fruitQuantity.getStockShardCount() > 0) {
+                stockReservationService.release(fruitQuantity.getFruitId(), fruitQuantity.getStockShardCount(),
+                        Math.toIntExact(fruitQuantity.getQuantity()));
+            } else {
+                stockReservationService.stockChanged(fruitQuantity.getFruitId());
+            }
+        }
+        return targetIds.size();
+    }
+
+    // 재고 복구 표시 도입 전에 취소된 주문은 복구된 것으로 간주 (다시 취소되어도 중복 복구하지 않도록)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void markLegacyCancelledOrders() {
+        int marked = orderRepository.markCancelledStockRestored();
+        if (marked > 0) {
+            log.info("취소된 기존 주문 {}건을 재고 복구 완료로 표시", marked);
+        }
+    }
+}
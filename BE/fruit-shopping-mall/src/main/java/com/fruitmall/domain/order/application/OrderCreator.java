@@ -0,0 +1,147 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.fruit.application.StockReservationService;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.domain.order.domain.Order;
+import com.fruitmall.domain.order.domain.OrderDetail;
+import com.fruitmall.domain.order.domain.OrderRepository;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 주문 한 건의 재고 차감과 Order/OrderDetail 저장을 담당합니다.
+ * 트랜잭션은 호출하는 쪽(OrderService, OrderIntakePipeline)이 시작합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderCreator {
+
+    // 재고 행 잠금이 교착 상태로 실패했을 때 한 주문을 다시 시도하는 최대 횟수 (직접 생성과 그룹 커밋 공통)
+    static final int MAX_LOCK_ATTEMPTS = 3;
+
+    private final OrderRepository orderRepository;
+    private final FruitRepository fruitRepository;
+    private final FruitInventoryRepository fruitInventoryRepository;
+    private final StockReservationService stockReservationService;
+    private final MemberRepository memberRepository;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderSummaryUpdater orderSummaryUpdater;
+
+    // 주문 생성 (재고 부족 등으로 실패하면 이 주문이 차감한 재고는 되돌린 뒤 예외를 던짐)
+    public Order create(Long memberId, CreateOrderRequestDto dto) {
+        return create(memberId, dto, null);
+    }
+
+    // 멱등 키와 함께 주문 생성 (같은 키로 이미 저장된 주문이 있으면 재고를 다시 차감하지 않고 기존 주문 반환, 요청 내용이 다르면 예외)
+    public Order create(Long memberId, CreateOrderRequestDto dto, String idempotencyKey) {
+        boolean hasKey = StringUtils.hasText(idempotencyKey);
+        if (hasKey) {
+            Optional<Order> existing = orderIdempotencyService.findRegisteredOrderId(memberId, idempotencyKey, dto)
+                    .flatMap(orderRepository::findById);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
+
+        // 회원 조회
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+
+        // 새 주문 생성
+        Order order = Order.builder()
+                .member(member)
+                .orderDate(LocalDate.now())
+                .totalPrice(BigDecimal.ZERO)  // 임시 총액 (나중에 재계산)
+                .paymentMethod(dto.getPaymentMethod())
+                .build();
+
+        // 같은 상품이 여러 번 담긴 경우 수량을 합치고 fruit_id 순으로 정렬
+        Map<Long, Integer> quantities = mergeOrderItems(dto.getOrderItems());
+
+        // 주문 상품을 한 번의 쿼리로 fruit_id 순서대로 조회
+        // (재고 차감 UPDATE가 이 순서로 fruit_inventory 행을 잠가 교착 상태를 막고, 분할 재고 상품은 재고 행을 잠그지 않음)
+        List<Fruit> fruits = fruitRepository.findAllByIdsOrderById(quantities.keySet());
+        if (fruits.size() != quantities.size()) {
+            throw new BusinessException(ErrorCode.FRUIT_NOT_FOUND);
+        }
+
+        // 주문 상세 항목 처리
+        List<OrderDetail> reserved = new ArrayList<>();
+        for (Fruit fruit : fruits) {
+            int quantity = quantities.get(fruit.getId());
+
+            // 재고 조건부 차감 (확인과 차감을 하나의 UPDATE로 처리해 동시 주문 시 초과 판매 방지)
+            if (!stockReservationService.reserve(fruit, quantity)) {
+                release(reserved);
+                throw new BusinessException(ErrorCode.OUT_OF_STOCK);
+            }
+
+            // 주문 상세 생성
+            OrderDetail orderDetail = OrderDetail.builder()
+                    .fruit(fruit)
+                    .quantity(quantity)
+                    .unitPrice(fruit.getPrice())  // 현재 가격으로 저장
+                    .build();
+
+            reserved.add(orderDetail);
+            order.addOrderDetail(orderDetail);
+        }
+
+        // 총 가격 계산
+        order.recalculateTotalPrice();
+
+        // 주문 저장 (목록 조회용 요약도 같은 트랜잭션으로 저장)
+        Order savedOrder = orderRepository.save(order);
+        orderSummaryUpdater.created(savedOrder);
+
+        // 멱등 키는 주문과 같은 트랜잭션으로 저장 (롤백되면 함께 사라짐)
+        if (hasKey) {
+            orderIdempotencyService.register(memberId, idempotencyKey, dto, savedOrder);
+        }
+        return savedOrder;
+    }
+
+    // 여러 주문에 걸친 상품의 재고 행을 fruit_id 순서대로 한 번에 잠금 (그룹 커밋 배치용)
+    public List<FruitInventory> lockFruits(Collection<Long> fruitIds) {
+        return fruitInventoryRepository.findAllByIdsForUpdate(fruitIds);
+    }
+
+    // 재시도 후에도 재고 행을 잠그지 못한 주문의 실패 응답
+    static BusinessException lockNotAcquired() {
+        return new BusinessException(ErrorCode.OUT_OF_STOCK, "주문이 몰려 재고를 확보하지 못했습니다. 다시 시도해 주세요.");
+    }
+
+    // 주문 항목을 상품별로 합산 (fruit_id 오름차순)
+    private Map<Long, Integer> mergeOrderItems(List<OrderItemRequestDto> orderItems) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItemRequestDto item : orderItems) {
+            quantities.merge(item.getFruitId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    // 이미 차감한 재고 되돌리기 (같은 트랜잭션에서 다른 주문을 계속 처리할 수 있도록)
+    private void release(List<OrderDetail> reserved) {
+        reserved.forEach(orderDetail ->
+                stockReservationService.release(orderDetail.getFruit(), orderDetail.getQuantity()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.order.domain.Order;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록 커서 (order_date, order_id).
+ * "yyyy-MM-dd:주문ID"를 URL-safe Base64로 인코딩해 클라이언트에는 불투명한 토큰으로 전달합니다.
+ */
+@Getter
+public class OrderCursor {
+
+    private final LocalDate orderDate;
+    private final Long orderId;
+
+    private OrderCursor(LocalDate orderDate, Long orderId) {
+        this.orderDate = orderDate;
+        this.orderId = orderId;
+    }
+
+    // 페이지의 마지막 주문으로 다음 페이지 커서 생성
+    public static OrderCursor from(Order order) {
+        return new OrderCursor(order.getOrderDate(), order.getId());
+    }
+
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new OrderCursor(LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = orderDate + ":" + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
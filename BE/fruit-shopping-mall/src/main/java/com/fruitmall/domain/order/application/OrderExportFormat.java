@@ -0,0 +1,27 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderExportFormat {
+
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    // 요청 파라미터(csv, ndjson)를 형식으로 변환
+    public static OrderExportFormat from(String format) {
+        for (OrderExportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 내보내기 형식입니다: " + format);
+    }
+}
@@ -0,0 +1,161 @@
+package com.fruitmall.domain.order.application;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fruitmall.domain.order.domain.OrderRepository;
+import com.fruitmall.domain.order.domain.OrderRepository.OrderExportRow;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import com.fruitmall.global.security.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 기간별 주문 내보내기 (관리자 전용).
+ * 주문 상세를 한 줄씩 스트리밍 조회해 응답 스트림에 바로 쓰므로 기간이 길어도 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+    private static final String CSV_HEADER = "order_id,order_date,member_id,member_name,order_status,"
+            + "payment_method,order_total,fruit_id,fruit_name,quantity,unit_price,line_total";
+    // 스프레드시트가 수식으로 해석하는 첫 글자
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    // 내보내기 요청 검증 (응답을 쓰기 전에 호출)
+    public void validate(LocalDate startDate, LocalDate endDate) {
+        if (!SecurityUtil.isAdmin()) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "시작 날짜가 종료 날짜보다 늦을 수 없습니다.");
+        }
+    }
+
+    // 기간 내 주문 상세를 지정한 형식으로 출력 스트림에 기록
+    @Transactional(readOnly = true)
+    public void export(LocalDate startDate, LocalDate endDate, OrderExportFormat format, OutputStream out)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long rowCount;
+        try (Stream<OrderExportRow> rows = orderRepository.streamExportRows(startDate, endDate)) {
+            rowCount = format == OrderExportFormat.CSV
+                    ? writeCsv(rows.iterator(), writer)
+                    : writeNdjson(rows.iterator(), writer);
+        }
+        writer.flush();
+        log.info("주문 내보내기 완료 (기간={}~{}, 형식={}, {}행)", startDate, endDate, format, rowCount);
+    }
+
+    private long writeCsv(Iterator<OrderExportRow> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long count = 0;
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            writer.write(String.valueOf(row.getOrderId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getOrderDate()));
+            writer.write(',');
+            writer.write(row.getMemberId() != null ? String.valueOf(row.getMemberId()) : "");
+            writer.write(',');
+            writer.write(csv(row.getMemberName()));
+            writer.write(',');
+            writer.write(row.getOrderStatus().name());
+            writer.write(',');
+            writer.write(csv(row.getPaymentMethod()));
+            writer.write(',');
+            writer.write(row.getOrderTotal().toPlainString());
+            writer.write(',');
+            writer.write(String.valueOf(row.getFruitId()));
+            writer.write(',');
+            writer.write(csv(row.getFruitName()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getQuantity()));
+            writer.write(',');
+            writer.write(row.getUnitPrice().toPlainString());
+            writer.write(',');
+            writer.write(lineTotal(row).toPlainString());
+            writer.write('\n');
+
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        return count;
+    }
+
+    private long writeNdjson(Iterator<OrderExportRow> rows, Writer writer) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);  // 줄 구분은 직접 기록
+            while (rows.hasNext()) {
+                OrderExportRow row = rows.next();
+                generator.writeStartObject();
+                generator.writeNumberField("orderId", row.getOrderId());
+                generator.writeStringField("orderDate", String.valueOf(row.getOrderDate()));
+                if (row.getMemberId() != null) {
+                    generator.writeNumberField("memberId", row.getMemberId());
+                } else {
+                    generator.writeNullField("memberId");
+                }
+                generator.writeStringField("memberName", row.getMemberName());
+                generator.writeStringField("orderStatus", row.getOrderStatus().name());
+                generator.writeStringField("paymentMethod", row.getPaymentMethod());
+                generator.writeNumberField("orderTotal", row.getOrderTotal());
+                generator.writeNumberField("fruitId", row.getFruitId());
+                generator.writeStringField("fruitName", row.getFruitName());
+                generator.writeNumberField("quantity", row.getQuantity());
+                generator.writeNumberField("unitPrice", row.getUnitPrice());
+                generator.writeNumberField("lineTotal", lineTotal(row));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+
+    private BigDecimal lineTotal(OrderExportRow row) {
+        return row.getUnitPrice().multiply(BigDecimal.valueOf(row.getQuantity()));
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀
+    // 스프레드시트에서 수식으로 실행되지 않도록 = + - @ 등으로 시작하는 값은 앞에 작은따옴표를 붙임
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,211 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.domain.order.application.mapper.OrderMapper;
+import com.fruitmall.domain.order.domain.Order;
+import com.fruitmall.domain.order.domain.OrderIdempotencyKey;
+import com.fruitmall.domain.order.domain.OrderIdempotencyKeyRepository;
+import com.fruitmall.domain.order.domain.OrderRepository;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * 주문 생성 멱등성 처리.
+ * Idempotency-Key 헤더로 들어온 키를 DB(order_idempotency_key)에 주문과 같은 트랜잭션으로 저장하고,
+ * 최근 결과는 크기가 제한된 메모리 캐시에 보관해 재시도 요청이 재고를 다시 차감하지 않도록 합니다.
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final Duration ttl;
+    private final Map<String, CachedResult> recentResults;
+
+    public OrderIdempotencyService(
+            OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+            OrderRepository orderRepository,
+            OrderMapper orderMapper,
+            @Value("${order.idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${order.idempotency.cache-size:10000}") int cacheSize) {
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.recentResults = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    // 멱등 키가 있으면 이미 처리된 요청인지 확인 후 주문 생성 (처리된 요청이면 저장된 결과 반환)
+    public OrderDto createOnce(Long memberId, String idempotencyKey, CreateOrderRequestDto dto,
+                               Supplier<OrderDto> orderCreator) {
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return orderCreator.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "멱등 키는 100자를 넘을 수 없습니다.");
+        }
+
+        String requestHash = hash(dto);
+        Optional<OrderDto> replay = findReplay(memberId, idempotencyKey, requestHash);
+        if (replay.isPresent()) {
+            return replay.get();
+        }
+
+        OrderDto created;
+        try {
+            created = orderCreator.get();
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키의 요청이 동시에 들어와 다른 요청이 먼저 커밋한 경우
+            return findReplay(memberId, idempotencyKey, requestHash).orElseThrow(() -> e);
+        }
+
+        remember(memberId, idempotencyKey, requestHash, created, LocalDateTime.now().plus(ttl));
+        return created;
+    }
+
+    // 이미 저장된 유효한 멱등 키의 주문 ID 조회 (주문 생성 트랜잭션 안에서 호출, 다른 요청 내용이면 예외)
+    public Optional<Long> findRegisteredOrderId(Long memberId, String idempotencyKey, CreateOrderRequestDto dto) {
+        Optional<OrderIdempotencyKey> stored = orderIdempotencyKeyRepository
+                .findByMemberIdAndIdempotencyKey(memberId, idempotencyKey)
+                .filter(key -> !key.isExpired(LocalDateTime.now()));
+        stored.ifPresent(key -> verifySameRequest(key.getRequestHash(), hash(dto)));
+        return stored.map(OrderIdempotencyKey::getOrderId);
+    }
+
+    // 주문과 같은 트랜잭션에서 멱등 키 저장 (아직 정리되지 않은 만료된 키가 있으면 그 행을 새 주문으로 갱신)
+    public void register(Long memberId, String idempotencyKey, CreateOrderRequestDto dto, Order order) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<OrderIdempotencyKey> expired = orderIdempotencyKeyRepository
+                .findByMemberIdAndIdempotencyKey(memberId, idempotencyKey)
+                .filter(key -> key.isExpired(now));
+        if (expired.isPresent()) {
+            expired.get().reuse(hash(dto), order.getId(), now.plus(ttl));
+            return;
+        }
+        orderIdempotencyKeyRepository.save(OrderIdempotencyKey.builder()
+                .memberId(memberId)
+                .idempotencyKey(idempotencyKey)
+                .requestHash(hash(dto))
+                .orderId(order.getId())
+                .expiresAt(now.plus(ttl))
+                .build());
+    }
+
+    // 만료된 멱등 키 정리 (조회 경로에서는 삭제하지 않고 만료된 키를 없는 것으로 취급)
+    @Scheduled(cron = "${order.idempotency.purge-cron:0 0 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = orderIdempotencyKeyRepository.deleteExpired(now);
+        synchronized (recentResults) {
+            recentResults.values().removeIf(result -> result.expiresAt.isBefore(now));
+        }
+        if (deleted > 0) {
+            log.info("만료된 주문 멱등 키 {}건 삭제", deleted);
+        }
+    }
+
+    private Optional<OrderDto> findReplay(Long memberId, String idempotencyKey, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 메모리 캐시 확인
+        CachedResult cached = recentResults.get(cacheKey(memberId, idempotencyKey));
+        if (cached != null && !cached.expiresAt.isBefore(now)) {
+            verifySameRequest(cached.requestHash, requestHash);
+            return Optional.of(cached.order);
+        }
+
+        // DB 확인
+        // (만료된 키는 정리 작업 전이라도 새 요청으로 취급, 행 삭제는 purgeExpired가 담당)
+        Optional<OrderIdempotencyKey> stored = orderIdempotencyKeyRepository
+                .findByMemberIdAndIdempotencyKey(memberId, idempotencyKey)
+                .filter(key -> !key.isExpired(now));
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+
+        OrderIdempotencyKey key = stored.get();
+        verifySameRequest(key.getRequestHash(), requestHash);
+
+        OrderDto order = orderRepository.findWithDetailsById(key.getOrderId())
+                .map(orderMapper::toDto)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+        remember(memberId, idempotencyKey, requestHash, order, key.getExpiresAt());
+        return Optional.of(order);
+    }
+
+    private void verifySameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_MISMATCH);
+        }
+    }
+
+    private void remember(Long memberId, String idempotencyKey, String requestHash,
+                          OrderDto order, LocalDateTime expiresAt) {
+        recentResults.put(cacheKey(memberId, idempotencyKey), new CachedResult(requestHash, order, expiresAt));
+    }
+
+    private String cacheKey(Long memberId, String idempotencyKey) {
+        return memberId + ":" + idempotencyKey;
+    }
+
+    // 주문 요청 해시 (상품별 수량을 합산·정렬해 항목 순서와 무관하게 계산)
+    private String hash(CreateOrderRequestDto dto) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItemRequestDto item : dto.getOrderItems()) {
+            quantities.merge(item.getFruitId(), item.getQuantity(), Integer::sum);
+        }
+        String canonical = dto.getPaymentMethod() + "|" + quantities;
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedResult {
+
+        private final String requestHash;
+        private final OrderDto order;
+        private final LocalDateTime expiresAt;
+
+        private CachedResult(String requestHash, OrderDto order, LocalDateTime expiresAt) {
+            this.requestHash = requestHash;
+            this.order = order;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
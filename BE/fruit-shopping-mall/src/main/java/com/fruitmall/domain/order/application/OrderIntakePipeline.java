@@ -0,0 +1,321 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.domain.order.application.mapper.OrderMapper;
+import com.fruitmall.domain.order.domain.Order;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주문 접수 그룹 커밋 파이프라인.
+ * 주문 요청을 제한된 크기의 큐에 쌓고, 커밋 스레드가 여러 주문을 모아 하나의 트랜잭션으로 저장합니다.
+ * 주문별 실패(재고 부족 등)는 해당 주문에만 전달되고 같은 배치의 다른 주문은 그대로 커밋됩니다.
+ * DB 오류로 배치가 롤백되면 원인이 된 주문을 빼고 다시 커밋하며, 잠금 교착과 멱등 키 충돌은 직접 생성 경로와 같이 처리합니다.
+ * 대기 시간이 지난 주문은 커밋 스레드가 가져가기 전일 때만 취소되고, 이미 처리 중이면 결과를 기다립니다.
+ */
+@Slf4j
+@Component
+public class OrderIntakePipeline {
+
+    private final OrderCreator orderCreator;
+    private final OrderMapper orderMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<IntakeRequest> queue;
+    private final DistributionSummary batchSizeSummary;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxLingerNanos;
+    private final long submitTimeoutMillis;
+
+    private volatile boolean running;
+    private Thread committer;
+
+    public OrderIntakePipeline(
+            OrderCreator orderCreator,
+            OrderMapper orderMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${order.intake.group-commit.enabled:false}") boolean enabled,
+            @Value("${order.intake.group-commit.batch-size:50}") int batchSize,
+            @Value("${order.intake.group-commit.max-linger-ms:5}") long maxLingerMillis,
+            @Value("${order.intake.group-commit.queue-capacity:1000}") int queueCapacity,
+            @Value("${order.intake.group-commit.submit-timeout-ms:5000}") long submitTimeoutMillis) {
+        this.orderCreator = orderCreator;
+        this.orderMapper = orderMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxLingerNanos = TimeUnit.MILLISECONDS.toNanos(maxLingerMillis);
+        this.submitTimeoutMillis = submitTimeoutMillis;
+
+        Gauge.builder("order.intake.queue.depth", queue, BlockingQueue::size)
+                .description("그룹 커밋 대기 중인 주문 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("order.intake.batch.size")
+                .description("한 트랜잭션으로 처리한 주문 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        committer = new Thread(this::runCommitLoop, "order-intake-committer");
+        committer.setDaemon(true);
+        committer.start();
+        log.info("주문 그룹 커밋 파이프라인 시작 (batchSize={}, maxLingerMs={})",
+                batchSize, TimeUnit.NANOSECONDS.toMillis(maxLingerNanos));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (committer == null) {
+            return;
+        }
+        running = false;
+        committer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 주문 접수 (배치가 커밋될 때까지 대기 후 결과 반환)
+    public OrderDto submit(Long memberId, CreateOrderRequestDto dto) {
+        return submit(memberId, dto, null);
+    }
+
+    // 멱등 키와 함께 주문 접수
+    public OrderDto submit(Long memberId, CreateOrderRequestDto dto, String idempotencyKey) {
+        IntakeRequest request = new IntakeRequest(memberId, dto, idempotencyKey);
+        if (!running || !queue.offer(request)) {
+            throw new BusinessException(ErrorCode.ORDER_INTAKE_BUSY);
+        }
+
+        try {
+            try {
+                return request.future.get(submitTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (request.claim()) {
+                    queue.remove(request);
+                    throw new BusinessException(ErrorCode.ORDER_INTAKE_TIMEOUT);
+                }
+                // 이미 배치에 들어간 주문은 커밋 여부가 정해질 때까지 기다림 (타임아웃 응답 후 주문이 저장되지 않도록)
+                return request.future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (request.claim()) {
+                queue.remove(request);
+            }
+            throw new BusinessException(ErrorCode.ORDER_INTAKE_TIMEOUT);
+        }
+    }
+
+    private void runCommitLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<IntakeRequest> batch = nextBatch();
+                // 호출자가 타임아웃으로 취소한 주문은 건너뜀
+                batch.removeIf(request -> !request.claim());
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("주문 그룹 커밋 처리 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    // 첫 주문이 들어온 뒤 batchSize개가 차거나 maxLinger가 지날 때까지 모음
+    private List<IntakeRequest> nextBatch() throws InterruptedException {
+        List<IntakeRequest> batch = new ArrayList<>(batchSize);
+        IntakeRequest first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxLingerNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            IntakeRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    // 배치가 모두 처리될 때까지 커밋 (롤백된 배치는 실패한 주문을 빼거나 재시도 횟수를 늘려 다시 커밋)
+    private void commit(List<IntakeRequest> batch) {
+        List<IntakeRequest> pending = batch;
+        while (!pending.isEmpty()) {
+            pending = commitOnce(pending);
+        }
+    }
+
+    // 한 트랜잭션으로 커밋하고, 롤백되어 다시 커밋해야 하는 주문 목록 반환
+    private List<IntakeRequest> commitOnce(List<IntakeRequest> pending) {
+        batchSizeSummary.record(pending.size());
+        IntakeRequest rolledBackBy;
+        try {
+            rolledBackBy = transactionTemplate.execute(status -> {
+                // 배치 전체에서 사용하는 상품을 fruit_id 순서대로 먼저 잠금
+                orderCreator.lockFruits(collectFruitIds(pending));
+
+                for (IntakeRequest request : pending) {
+                    request.result = null;
+                    request.error = null;
+                    try {
+                        Order order = orderCreator.create(request.memberId, request.dto, request.idempotencyKey);
+                        request.result = orderMapper.toDto(order);
+                    } catch (BusinessException e) {
+                        // 재고 부족 등은 차감한 재고를 되돌린 상태라 이 주문만 실패 처리
+                        request.error = e;
+                    } catch (RuntimeException e) {
+                        // DB 오류는 트랜잭션 상태를 믿을 수 없어 배치를 롤백 (저장점을 쓸 수 없어 나머지 주문은 다시 커밋)
+                        request.error = e;
+                        status.setRollbackOnly();
+                        return request;
+                    }
+                }
+                return null;
+            });
+        } catch (PessimisticLockingFailureException e) {
+            // 배치 잠금이나 커밋 중 교착 상태면 배치의 모든 주문을 한 번 더 시도
+            List<IntakeRequest> retry = new ArrayList<>(pending.size());
+            for (IntakeRequest request : pending) {
+                if (retryAfterLockFailure(request)) {
+                    retry.add(request);
+                }
+            }
+            return retry;
+        } catch (RuntimeException e) {
+            // 트랜잭션 자체가 실패하면 배치의 모든 주문을 실패 처리
+            pending.forEach(request -> request.future.completeExceptionally(e));
+            return List.of();
+        }
+
+        if (rolledBackBy != null) {
+            List<IntakeRequest> remaining = new ArrayList<>(pending);
+            if (!retryAfterRollback(rolledBackBy)) {
+                remaining.remove(rolledBackBy);
+            }
+            return remaining;
+        }
+
+        // 커밋이 끝난 뒤에 각 호출자에게 결과 전달
+        for (IntakeRequest request : pending) {
+            if (request.error != null) {
+                request.future.completeExceptionally(request.error);
+            } else {
+                request.future.complete(request.result);
+            }
+        }
+        return List.of();
+    }
+
+    // 배치를 롤백시킨 주문을 다시 시도할지 결정 (직접 생성 경로와 같은 재시도·멱등 키 재사용 규칙, 포기하면 실패 전달)
+    private boolean retryAfterRollback(IntakeRequest request) {
+        if (request.error instanceof PessimisticLockingFailureException) {
+            return retryAfterLockFailure(request);
+        }
+        if (request.error instanceof DataIntegrityViolationException
+                && StringUtils.hasText(request.idempotencyKey) && !request.replayAttempted) {
+            // 같은 멱등 키가 다른 트랜잭션에서 먼저 커밋된 경우, 다시 시도하면 저장된 주문을 반환
+            request.replayAttempted = true;
+            return true;
+        }
+        request.future.completeExceptionally(request.error);
+        return false;
+    }
+
+    private boolean retryAfterLockFailure(IntakeRequest request) {
+        if (++request.lockAttempts < OrderCreator.MAX_LOCK_ATTEMPTS) {
+            return true;
+        }
+        request.future.completeExceptionally(OrderCreator.lockNotAcquired());
+        return false;
+    }
+
+    private Set<Long> collectFruitIds(List<IntakeRequest> batch) {
+        Set<Long> fruitIds = new TreeSet<>();
+        for (IntakeRequest request : batch) {
+            for (OrderItemRequestDto item : request.dto.getOrderItems()) {
+                fruitIds.add(item.getFruitId());
+            }
+        }
+        return fruitIds;
+    }
+
+    private static class IntakeRequest {
+
+        private final Long memberId;
+        private final CreateOrderRequestDto dto;
+        private final String idempotencyKey;
+        private final CompletableFuture<OrderDto> future = new CompletableFuture<>();
+        // 커밋 스레드의 처리 시작과 호출자의 타임아웃 취소 중 먼저 가져간 쪽만 성공
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private OrderDto result;
+        private RuntimeException error;
+        private int lockAttempts;
+        private boolean replayAttempted;
+
+        private IntakeRequest(Long memberId, CreateOrderRequestDto dto, String idempotencyKey) {
+            this.memberId = memberId;
+            this.dto = dto;
+            this.idempotencyKey = idempotencyKey;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
@@ -1,26 +1,32 @@
 package com.fruitmall.domain.order.application;
 
-import com.fruitmall.domain.fruit.domain.Fruit;
-import com.fruitmall.domain.fruit.domain.FruitRepository;
 import com.fruitmall.domain.member.domain.Member;
 import com.fruitmall.domain.member.domain.MemberRepository;
 import com.fruitmall.domain.order.application.dto.*;
 import com.fruitmall.domain.order.application.mapper.OrderMapper;
 import com.fruitmall.domain.order.domain.Order;
-import com.fruitmall.domain.order.domain.OrderDetail;
 import com.fruitmall.domain.order.domain.OrderRepository;
+import com.fruitmall.domain.order.domain.OrderRepository.OrderStatusRow;
 import com.fruitmall.domain.order.domain.OrderStatus;
+import com.fruitmall.domain.order.domain.OrderSummaryRepository;
+import com.fruitmall.global.common.CursorPageDto;
 import com.fruitmall.global.error.BusinessException;
 import com.fruitmall.global.error.ErrorCode;
 import com.fruitmall.global.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,60 +34,37 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class OrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_SIZE = 1000;
+
     private final OrderRepository orderRepository;
-    private final FruitRepository fruitRepository;
     private final MemberRepository memberRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderSummaryUpdater orderSummaryUpdater;
+    private final OrderCreator orderCreator;
+    private final InventoryRestorer inventoryRestorer;
     private final OrderMapper orderMapper;
+    private final TransactionTemplate transactionTemplate;
 
     // 주문 생성
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public OrderDto createOrder(Long memberId, CreateOrderRequestDto dto) {
-        // 회원 조회
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-        
-        // 새 주문 생성
-        Order order = Order.builder()
-                .member(member)
-                .orderDate(LocalDate.now())
-                .totalPrice(BigDecimal.ZERO)  // 임시 총액 (나중에 재계산)
-                .paymentMethod(dto.getPaymentMethod())
-                .build();
-        
-        // 주문 상세 항목 처리
-        List<OrderDetail> orderDetails = new ArrayList<>();
-        
-        for (OrderItemRequestDto item : dto.getOrderItems()) {
-            // 상품 조회
-            Fruit fruit = fruitRepository.findById(item.getFruitId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.FRUIT_NOT_FOUND));
-            
-            // 재고 확인
-            if (fruit.getStockQuantity() < item.getQuantity()) {
-                throw new BusinessException(ErrorCode.OUT_OF_STOCK);
+        return createOrder(memberId, dto, null);
+    }
+
+    // 멱등 키와 함께 주문 생성 (재고 행 잠금이 교착 상태로 실패하면 새 트랜잭션으로 다시 시도)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrderDto createOrder(Long memberId, CreateOrderRequestDto dto, String idempotencyKey) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status ->
+                        orderMapper.toDto(orderCreator.create(memberId, dto, idempotencyKey)));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= OrderCreator.MAX_LOCK_ATTEMPTS) {
+                    throw OrderCreator.lockNotAcquired();
+                }
             }
-            
-            // 재고 감소
-            fruit.decreaseStock(item.getQuantity());
-            
-            // 주문 상세 생성
-            OrderDetail orderDetail = OrderDetail.builder()
-                    .fruit(fruit)
-                    .quantity(item.getQuantity())
-                    .unitPrice(fruit.getPrice())  // 현재 가격으로 저장
-                    .build();
-            
-            orderDetails.add(orderDetail);
-            order.addOrderDetail(orderDetail);
         }
-        
-        // 총 가격 계산
-        order.recalculateTotalPrice();
-        
-        // 주문 저장
-        Order savedOrder = orderRepository.save(order);
-        
-        return orderMapper.toDto(savedOrder);
     }
 
     // 주문 조회
@@ -99,23 +82,57 @@ public class OrderService {
 
     // 회원의 모든 주문 조회
     public List<OrderDto> findByMember(Long memberId) {
-        // 본인 주문 또는 관리자만 조회 가능
-        String currentUsername = SecurityUtil.getCurrentUsername()
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
-        
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-        
-        // 요청한 회원이 본인이 아니고 관리자도 아니면 접근 거부
-        if (!currentUsername.equals(member.getUsername()) && !SecurityUtil.isAdmin()) {
-            throw new BusinessException(ErrorCode.ACCESS_DENIED);
-        }
+        Member member = findAccessibleMember(memberId);
         
         return orderRepository.findByMember(member).stream()
                 .map(orderMapper::toDto)
                 .collect(Collectors.toList());
     }
 
+    // 회원의 주문 요약 목록 조회 (주문 요약 테이블만 조회)
+    public List<OrderSummaryDto> findSummariesByMember(Long memberId) {
+        Member member = findAccessibleMember(memberId);
+        
+        return orderSummaryRepository.findByMemberIdOrderByOrderDateDescOrderIdDesc(member.getId()).stream()
+                .map(orderMapper::toSummaryDto)
+                .collect(Collectors.toList());
+    }
+
+    // 회원의 주문 목록 커서 페이지 조회 (주문 목록, 주문 상세·상품 두 번의 쿼리로 조회)
+    public CursorPageDto<OrderDto> findByMember(Long memberId, String cursor, int size) {
+        Member member = findAccessibleMember(memberId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Order> orders;
+        if (cursor == null || cursor.isBlank()) {
+            orders = orderRepository.findPageByMemberId(member.getId(), limit);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            orders = orderRepository.findPageByMemberIdAfter(
+                    member.getId(), after.getOrderDate(), after.getOrderId(), limit);
+        }
+        
+        boolean hasNext = orders.size() > pageSize;
+        if (hasNext) {
+            orders = orders.subList(0, pageSize);
+        }
+        
+        // 같은 영속성 컨텍스트의 주문 엔티티에 orderDetails, fruit를 한 번에 채움 (N+1 방지)
+        if (!orders.isEmpty()) {
+            orderRepository.findAllWithDetailsByIdIn(orders.stream().map(Order::getId).toList());
+        }
+        
+        return CursorPageDto.<OrderDto>builder()
+                .content(orders.stream()
+                        .map(orderMapper::toDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? OrderCursor.from(orders.get(orders.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     // 주문 상태별 조회
     public List<OrderDto> findByOrderStatus(OrderStatus status) {
         // 관리자만 전체 주문 상태 조회 가능
@@ -128,6 +145,18 @@ public class OrderService {
                 .collect(Collectors.toList());
     }
 
+    // 주문 상태별 요약 목록 조회 (주문 요약 테이블만 조회)
+    public List<OrderSummaryDto> findSummariesByOrderStatus(OrderStatus status) {
+        // 관리자만 전체 주문 상태 조회 가능
+        if (!SecurityUtil.isAdmin()) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        
+        return orderSummaryRepository.findByOrderStatusOrderByOrderIdDesc(status).stream()
+                .map(orderMapper::toSummaryDto)
+                .collect(Collectors.toList());
+    }
+
     // 주문 기간별 조회
     public List<OrderDto> findByOrderDateBetween(LocalDate startDate, LocalDate endDate) {
         // 관리자만 전체 주문 기간 조회 가능
@@ -140,6 +169,18 @@ public class OrderService {
                 .collect(Collectors.toList());
     }
 
+    // 주문 기간별 요약 목록 조회 (주문 요약 테이블만 조회)
+    public List<OrderSummaryDto> findSummariesByOrderDateBetween(LocalDate startDate, LocalDate endDate) {
+        // 관리자만 전체 주문 기간 조회 가능
+        if (!SecurityUtil.isAdmin()) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        
+        return orderSummaryRepository.findByOrderDateBetweenOrderByOrderDateAscOrderIdAsc(startDate, endDate).stream()
+                .map(orderMapper::toSummaryDto)
+                .collect(Collectors.toList());
+    }
+
     // 주문 상태 업데이트
     @Transactional
     public OrderDto updateOrderStatus(Long id, UpdateOrderStatusRequestDto dto) {
@@ -155,31 +196,102 @@ public class OrderService {
             // 주문 취소 처리
             try {
                 order.cancel();
-                
-                // 재고 복구
-                order.getOrderDetails().forEach(orderDetail -> {
-                    Fruit fruit = orderDetail.getFruit();
-                    fruit.increaseStock(orderDetail.getQuantity());
-                });
             } catch (IllegalStateException e) {
                 throw new BusinessException(ErrorCode.CANNOT_CANCEL_ORDER);
             }
+            
+            // 재고 복구
+            inventoryRestorer.restore(order);
         } else {
-            // 관리자는 모든 주문 상태 변경 가능
+            // 관리자도 허용된 상태 전이만 가능 (일괄 변경과 같은 규칙, 이미 취소된 주문의 재고 중복 복구 방지)
+            if (!order.getOrderStatus().canTransitionTo(dto.getOrderStatus())) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                        transitionNotAllowedMessage(order.getOrderStatus(), dto.getOrderStatus()));
+            }
             order.updateOrderStatus(dto.getOrderStatus());
             
             // 취소로 변경하는 경우 재고 복구
             if (dto.getOrderStatus() == OrderStatus.CANCELLED) {
-                order.getOrderDetails().forEach(orderDetail -> {
-                    Fruit fruit = orderDetail.getFruit();
-                    fruit.increaseStock(orderDetail.getQuantity());
-                });
+                inventoryRestorer.restore(order);
             }
         }
         
+        // 주문 요약 상태 반영
+        orderSummaryUpdater.statusChanged(order);
+        
         return orderMapper.toDto(order);
     }
 
+    // 주문 상태 일괄 변경 (관리자만 가능, 주문별 결과 반환)
+    @Transactional
+    public BulkUpdateOrderStatusResponseDto updateOrderStatusBulk(BulkUpdateOrderStatusRequestDto dto) {
+        if (!SecurityUtil.isAdmin()) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        
+        // 대상 주문의 현재 상태만 order_id 순으로 잠금 조회
+        OrderStatus targetStatus = dto.getOrderStatus();
+        List<Long> requestedIds;
+        List<OrderStatusRow> rows;
+        if (dto.getOrderIds() != null && !dto.getOrderIds().isEmpty()) {
+            requestedIds = dto.getOrderIds().stream().distinct().toList();
+            rows = orderRepository.findStatusesByIdsForUpdate(requestedIds);
+        } else if (dto.getFromStatus() != null && dto.getStartDate() != null && dto.getEndDate() != null) {
+            // 한 건 더 조회해 최대 건수를 넘으면 일부만 바뀌지 않도록 요청 자체를 거절
+            rows = orderRepository.findStatusesForUpdate(
+                    dto.getFromStatus(), dto.getStartDate(), dto.getEndDate(), MAX_BULK_SIZE + 1);
+            if (rows.size() > MAX_BULK_SIZE) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                        "조건에 맞는 주문이 " + MAX_BULK_SIZE + "건을 넘습니다. 주문 기간을 나눠서 요청해 주세요.");
+            }
+            requestedIds = rows.stream().map(OrderStatusRow::getOrderId).toList();
+        } else {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "주문 ID 목록 또는 현재 상태와 주문 기간을 지정해야 합니다.");
+        }
+        
+        Map<Long, OrderStatus> currentStatuses = new HashMap<>();
+        rows.forEach(row -> currentStatuses.put(row.getOrderId(), OrderStatus.valueOf(row.getOrderStatus())));
+        
+        // 상태 전이 검증
+        List<Long> validIds = new ArrayList<>();
+        List<OrderStatusChangeResultDto> results = new ArrayList<>(requestedIds.size());
+        for (Long orderId : requestedIds) {
+            OrderStatus currentStatus = currentStatuses.get(orderId);
+            String message = null;
+            if (currentStatus == null) {
+                message = ErrorCode.ORDER_NOT_FOUND.getMessage();
+            } else if (!currentStatus.canTransitionTo(targetStatus)) {
+                message = transitionNotAllowedMessage(currentStatus, targetStatus);
+            } else {
+                validIds.add(orderId);
+            }
+            
+            results.add(OrderStatusChangeResultDto.builder()
+                    .orderId(orderId)
+                    .previousStatus(currentStatus)
+                    .updated(message == null)
+                    .message(message)
+                    .build());
+        }
+        
+        // 허용된 주문만 한 번의 UPDATE로 변경하고, 취소는 상품별로 합산해 재고 복구
+        if (!validIds.isEmpty()) {
+            orderRepository.updateStatusIn(validIds, targetStatus);
+            orderSummaryUpdater.statusChanged(validIds, targetStatus);
+            if (targetStatus == OrderStatus.CANCELLED) {
+                inventoryRestorer.restore(validIds);
+            }
+        }
+        
+        return BulkUpdateOrderStatusResponseDto.builder()
+                .orderStatus(targetStatus)
+                .requestedCount(requestedIds.size())
+                .updatedCount(validIds.size())
+                .results(results)
+                .build();
+    }
+
     // 주문 삭제 (관리자만 가능)
     @Transactional
     public void deleteOrder(Long id) {
@@ -191,9 +303,29 @@ public class OrderService {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
         
+        orderSummaryUpdater.deleted(order);
         orderRepository.delete(order);
     }
     
+    // 본인 또는 관리자만 회원의 주문을 조회할 수 있도록 확인 후 회원 반환
+    private Member findAccessibleMember(Long memberId) {
+        String currentUsername = SecurityUtil.getCurrentUsername()
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
+        
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        
+        // 요청한 회원이 본인이 아니고 관리자도 아니면 접근 거부
+        if (!currentUsername.equals(member.getUsername()) && !SecurityUtil.isAdmin()) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return member;
+    }
+    
+    private String transitionNotAllowedMessage(OrderStatus currentStatus, OrderStatus targetStatus) {
+        return currentStatus.getDisplayValue() + " 상태에서 " + targetStatus.getDisplayValue() + " 상태로 변경할 수 없습니다";
+    }
+    
     // 현재 사용자가 주문의 소유자인지 확인
     private boolean isOwner(Order order) {
         return SecurityUtil.getCurrentUsername()
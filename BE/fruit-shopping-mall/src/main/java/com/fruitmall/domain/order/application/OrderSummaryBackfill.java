@@ -0,0 +1,27 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.order.domain.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryBackfill {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    // 요약 행이 없는 기존 주문 채우기 (이미 채워진 주문은 건너뜀)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int inserted = orderSummaryRepository.backfillMissing();
+        if (inserted > 0) {
+            log.info("주문 요약 {}건 생성", inserted);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.order.domain.Order;
+import com.fruitmall.domain.order.domain.OrderStatus;
+import com.fruitmall.domain.order.domain.OrderSummary;
+import com.fruitmall.domain.order.domain.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 주문 요약(order_summary) 갱신.
+ * 주문을 변경한 트랜잭션 안에서 호출해 주문과 요약이 항상 함께 커밋되도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryUpdater {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    // 새 주문 요약 저장
+    public void created(Order order) {
+        orderSummaryRepository.save(OrderSummary.from(order));
+    }
+
+    // 주문 상태 반영 (요약 행이 아직 없으면 새로 생성)
+    public void statusChanged(Order order) {
+        if (orderSummaryRepository.updateStatus(order.getId(), order.getOrderStatus()) == 0) {
+            orderSummaryRepository.save(OrderSummary.from(order));
+        }
+    }
+
+    // 일괄 변경된 주문 상태 반영
+    public void statusChanged(Collection<Long> orderIds, OrderStatus orderStatus) {
+        orderSummaryRepository.updateStatusIn(orderIds, orderStatus);
+    }
+
+    public void deleted(Order order) {
+        orderSummaryRepository.deleteByOrderId(order.getId());
+    }
+}
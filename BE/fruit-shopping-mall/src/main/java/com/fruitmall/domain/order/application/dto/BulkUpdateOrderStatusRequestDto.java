@@ -0,0 +1,31 @@
+package com.fruitmall.domain.order.application.dto;
+
+import com.fruitmall.domain.order.domain.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateOrderStatusRequestDto {
+    
+    @NotNull(message = "변경할 주문 상태는 필수 입력값입니다")
+    private OrderStatus orderStatus;
+    
+    // 주문 ID 목록으로 대상 지정
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 변경할 수 있습니다")
+    private List<Long> orderIds;
+    
+    // 또는 현재 상태와 주문 기간으로 대상 지정
+    private OrderStatus fromStatus;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
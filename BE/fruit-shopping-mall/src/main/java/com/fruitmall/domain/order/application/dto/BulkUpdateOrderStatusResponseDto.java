@@ -0,0 +1,17 @@
+package com.fruitmall.domain.order.application.dto;
+
+import com.fruitmall.domain.order.domain.OrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BulkUpdateOrderStatusResponseDto {
+    
+    private OrderStatus orderStatus;
+    private int requestedCount;
+    private int updatedCount;
+    private List<OrderStatusChangeResultDto> results;
+}
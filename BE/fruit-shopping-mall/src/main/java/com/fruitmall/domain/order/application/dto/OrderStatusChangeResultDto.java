@@ -0,0 +1,15 @@
+package com.fruitmall.domain.order.application.dto;
+
+import com.fruitmall.domain.order.domain.OrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class OrderStatusChangeResultDto {
+    
+    private Long orderId;
+    private OrderStatus previousStatus;
+    private boolean updated;
+    private String message;
+}
@@ -0,0 +1,20 @@
+package com.fruitmall.domain.order.application.dto;
+
+import com.fruitmall.domain.order.domain.OrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class OrderSummaryDto {
+    
+    private Long id;
+    private Long memberId;
+    private LocalDate orderDate;
+    private OrderStatus orderStatus;
+    private BigDecimal totalPrice;
+    private Integer itemCount;
+}
@@ -2,8 +2,10 @@ package com.fruitmall.domain.order.application.mapper;
 
 import com.fruitmall.domain.order.application.dto.OrderDetailDto;
 import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderSummaryDto;
 import com.fruitmall.domain.order.domain.Order;
 import com.fruitmall.domain.order.domain.OrderDetail;
+import com.fruitmall.domain.order.domain.OrderSummary;
 
 import java.util.List;
 
@@ -14,4 +16,6 @@ public interface OrderMapper {
     OrderDetailDto toDetailDto(OrderDetail orderDetail);
     
     List<OrderDetailDto> toDetailDtoList(List<OrderDetail> orderDetails);
+    
+    OrderSummaryDto toSummaryDto(OrderSummary orderSummary);
 }
\ No newline at end of file
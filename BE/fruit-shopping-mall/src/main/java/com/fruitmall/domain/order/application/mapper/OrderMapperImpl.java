@@ -2,8 +2,10 @@ package com.fruitmall.domain.order.application.mapper;
 
 import com.fruitmall.domain.order.application.dto.OrderDetailDto;
 import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderSummaryDto;
 import com.fruitmall.domain.order.domain.Order;
 import com.fruitmall.domain.order.domain.OrderDetail;
+import com.fruitmall.domain.order.domain.OrderSummary;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -60,4 +62,20 @@ public class OrderMapperImpl implements OrderMapper {
                 .map(this::toDetailDto)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public OrderSummaryDto toSummaryDto(OrderSummary orderSummary) {
+        if (orderSummary == null) {
+            return null;
+        }
+        
+        return OrderSummaryDto.builder()
+                .id(orderSummary.getOrderId())
+                .memberId(orderSummary.getMemberId())
+                .orderDate(orderSummary.getOrderDate())
+                .orderStatus(orderSummary.getOrderStatus())
+                .totalPrice(orderSummary.getTotalPrice())
+                .itemCount(orderSummary.getItemCount())
+                .build();
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -14,7 +15,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")  // "order"는 SQL 예약어라 "orders"로 사용
+@Table(name = "orders",  // "order"는 SQL 예약어라 "orders"로 사용
+       indexes = {
+           @Index(name = "idx_orders_member_date", columnList = "member_id, order_date, order_id"),
+           @Index(name = "idx_orders_order_date", columnList = "order_date")
+       })
+@DynamicUpdate  // 변경된 컬럼만 UPDATE (일괄 UPDATE로 바꾼 stock_restored를 덮어쓰지 않도록)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseTimeEntity {
@@ -40,6 +46,10 @@ public class Order extends BaseTimeEntity {
     @Column(nullable = false)
     private OrderStatus orderStatus;
 
+    // 취소 후 재고 복구 완료 여부 (같은 주문의 재고가 두 번 복구되지 않도록)
+    @Column(nullable = false)
+    private boolean stockRestored;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderDetail> orderDetails = new ArrayList<>();
 
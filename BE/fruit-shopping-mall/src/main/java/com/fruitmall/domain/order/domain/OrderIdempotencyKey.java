@@ -0,0 +1,66 @@
+package com.fruitmall.domain.order.domain;
+
+import com.fruitmall.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "order_idempotency_key",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"member_id", "idempotency_key"})
+       },
+       indexes = {
+           @Index(name = "idx_order_idempotency_expires", columnList = "expires_at")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderIdempotencyKey extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "order_idempotency_key_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    // 같은 키로 다른 요청이 들어오는 것을 막기 위한 요청 본문 해시
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public OrderIdempotencyKey(Long memberId, String idempotencyKey, String requestHash,
+                               Long orderId, LocalDateTime expiresAt) {
+        this.memberId = memberId;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.orderId = orderId;
+        this.expiresAt = expiresAt;
+    }
+
+    // 만료 여부 확인
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    // 정리 전의 만료된 키를 새 주문에 다시 사용
+    public void reuse(String requestHash, Long orderId, LocalDateTime expiresAt) {
+        this.requestHash = requestHash;
+        this.orderId = orderId;
+        this.expiresAt = expiresAt;
+    }
+}
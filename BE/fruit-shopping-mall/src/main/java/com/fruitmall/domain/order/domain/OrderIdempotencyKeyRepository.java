@@ -0,0 +1,14 @@
+package com.fruitmall.domain.order.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface OrderIdempotencyKeyRepository {
+    
+    OrderIdempotencyKey save(OrderIdempotencyKey orderIdempotencyKey);
+    
+    Optional<OrderIdempotencyKey> findByMemberIdAndIdempotencyKey(Long memberId, String idempotencyKey);
+    
+    // 만료된 키 일괄 삭제
+    int deleteExpired(LocalDateTime now);
+}
@@ -1,10 +1,14 @@
 package com.fruitmall.domain.order.domain;
 
 import com.fruitmall.domain.member.domain.Member;
+import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository {
     
@@ -12,15 +16,92 @@ public interface OrderRepository {
     
     Optional<Order> findById(Long id);
     
+    // 회원, 주문 상세, 상품까지 한 번에 조회
+    Optional<Order> findWithDetailsById(Long id);
+    
     List<Order> findAll();
     
     List<Order> findByMember(Member member);
     
+    // 회원의 주문 목록 첫 페이지 (주문일, 주문 ID 내림차순)
+    List<Order> findPageByMemberId(Long memberId, Pageable pageable);
+    
+    // 커서(주문일, 주문 ID) 다음 페이지
+    List<Order> findPageByMemberIdAfter(Long memberId, LocalDate orderDate, Long orderId, Pageable pageable);
+    
+    // 주문 상세와 상품을 한 번의 쿼리로 조회 (이미 조회한 주문의 orderDetails 초기화용)
+    List<Order> findAllWithDetailsByIdIn(Collection<Long> orderIds);
+    
     List<Order> findByOrderStatus(OrderStatus status);
     
     List<Order> findByOrderDateBetween(LocalDate startDate, LocalDate endDate);
     
+    // 기간 내 주문 상세를 한 줄씩 스트리밍 조회 (엔티티 대신 값만 조회, 호출하는 쪽 트랜잭션에서 닫아야 함)
+    Stream<OrderExportRow> streamExportRows(LocalDate startDate, LocalDate endDate);
+    
     List<Order> findByMemberAndOrderStatus(Member member, OrderStatus status);
     
+    // 주문 ID로 상태만 잠금 조회 (order_id 순)
+    List<OrderStatusRow> findStatusesByIdsForUpdate(Collection<Long> orderIds);
+    
+    // 상태·기간 조건으로 상태만 잠금 조회 (order_id 순, 최대 limit건)
+    List<OrderStatusRow> findStatusesForUpdate(OrderStatus status, LocalDate startDate, LocalDate endDate, int limit);
+    
+    // 여러 주문의 상태를 한 번에 변경
+    int updateStatusIn(Collection<Long> orderIds, OrderStatus status);
+    
+    // 아직 재고를 복구하지 않은 주문 ID만 잠금 조회 (order_id 순)
+    List<Long> findStockUnrestoredIdsForUpdate(Collection<Long> orderIds);
+    
+    // 재고 복구 완료 표시
+    int markStockRestored(Collection<Long> orderIds);
+    
+    // 재고 복구 기능 도입 전에 취소된 주문을 복구 완료로 표시
+    int markCancelledStockRestored();
+    
+    // 여러 주문의 상품 수량을 상품별로 합산 (fruit_id 순)
+    List<FruitQuantity> sumQuantitiesByFruit(Collection<Long> orderIds);
+    
     void delete(Order order);
+    
+    interface OrderStatusRow {
+        
+        Long getOrderId();
+        
+        String getOrderStatus();
+    }
+    
+    interface FruitQuantity {
+        
+        Long getFruitId();
+        
+        Integer getStockShardCount();
+        
+        Long getQuantity();
+    }
+    
+    interface OrderExportRow {
+        
+        Long getOrderId();
+        
+        LocalDate getOrderDate();
+        
+        Long getMemberId();
+        
+        String getMemberName();
+        
+        OrderStatus getOrderStatus();
+        
+        String getPaymentMethod();
+        
+        BigDecimal getOrderTotal();
+        
+        Long getFruitId();
+        
+        String getFruitName();
+        
+        Integer getQuantity();
+        
+        BigDecimal getUnitPrice();
+    }
 }
\ No newline at end of file
@@ -14,4 +14,15 @@ public enum OrderStatus {
     CANCELLED("취소됨");
 
     private final String displayValue;
+
+    // 허용된 상태 전이 (PENDING → PAID → PREPARING → SHIPPED → DELIVERED, 배송 전에는 취소 가능)
+    public boolean canTransitionTo(OrderStatus next) {
+        return switch (this) {
+            case PENDING -> next == PAID || next == CANCELLED;
+            case PAID -> next == PREPARING || next == CANCELLED;
+            case PREPARING -> next == SHIPPED || next == CANCELLED;
+            case SHIPPED -> next == DELIVERED;
+            case DELIVERED, CANCELLED -> false;
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.fruitmall.domain.order.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 주문 목록 화면용 요약 테이블 (읽기 모델).
+ * 주문 생성·상태 변경과 같은 트랜잭션에서 갱신되며, 목록 조회 시 Order/OrderDetail/Fruit를 읽지 않도록 합니다.
+ */
+@Entity
+@Table(name = "order_summary",
+       indexes = {
+           @Index(name = "idx_order_summary_member", columnList = "member_id, order_date, order_id"),
+           @Index(name = "idx_order_summary_status", columnList = "order_status, order_id"),
+           @Index(name = "idx_order_summary_date", columnList = "order_date, order_id")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSummary implements Persistable<Long> {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "order_date", nullable = false)
+    private LocalDate orderDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", nullable = false)
+    private OrderStatus orderStatus;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPrice;
+
+    // 주문 상품 종류 수
+    @Column(nullable = false)
+    private Integer itemCount;
+
+    // 주문 ID를 직접 지정하므로 저장 전 SELECT 없이 INSERT 되도록 새 엔티티 여부를 따로 관리
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Builder
+    public OrderSummary(Long orderId, Long memberId, LocalDate orderDate, OrderStatus orderStatus,
+                        BigDecimal totalPrice, Integer itemCount) {
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.orderDate = orderDate;
+        this.orderStatus = orderStatus;
+        this.totalPrice = totalPrice;
+        this.itemCount = itemCount;
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    // 저장된 주문으로 요약 생성
+    public static OrderSummary from(Order order) {
+        return OrderSummary.builder()
+                .orderId(order.getId())
+                .memberId(order.getMember() != null ? order.getMember().getId() : null)
+                .orderDate(order.getOrderDate())
+                .orderStatus(order.getOrderStatus())
+                .totalPrice(order.getTotalPrice())
+                .itemCount(order.getOrderDetails().size())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.fruitmall.domain.order.domain;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderSummaryRepository {
+
+    OrderSummary save(OrderSummary orderSummary);
+
+    // 주문 상태만 변경 (변경된 행 수 반환, 0이면 요약 행 없음)
+    int updateStatus(Long orderId, OrderStatus orderStatus);
+
+    // 여러 주문의 상태를 한 번에 변경
+    int updateStatusIn(Collection<Long> orderIds, OrderStatus orderStatus);
+
+    int deleteByOrderId(Long orderId);
+
+    List<OrderSummary> findByMemberIdOrderByOrderDateDescOrderIdDesc(Long memberId);
+
+    List<OrderSummary> findByOrderStatusOrderByOrderIdDesc(OrderStatus orderStatus);
+
+    List<OrderSummary> findByOrderDateBetweenOrderByOrderDateAscOrderIdAsc(LocalDate startDate, LocalDate endDate);
+
+    // 요약 행이 없는 기존 주문을 한 번에 채움 (추가된 행 수 반환)
+    int backfillMissing();
+}
@@ -0,0 +1,22 @@
+package com.fruitmall.domain.order.infra.persistence;
+
+import com.fruitmall.domain.order.domain.OrderIdempotencyKey;
+import com.fruitmall.domain.order.domain.OrderIdempotencyKeyRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface JpaOrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, Long>, OrderIdempotencyKeyRepository {
+    
+    Optional<OrderIdempotencyKey> findByMemberIdAndIdempotencyKey(Long memberId, String idempotencyKey);
+    
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
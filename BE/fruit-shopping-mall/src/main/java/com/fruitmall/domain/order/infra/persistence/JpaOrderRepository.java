@@ -4,20 +4,91 @@ import com.fruitmall.domain.member.domain.Member;
 import com.fruitmall.domain.order.domain.Order;
 import com.fruitmall.domain.order.domain.OrderRepository;
 import com.fruitmall.domain.order.domain.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface JpaOrderRepository extends JpaRepository<Order, Long>, OrderRepository {
     
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.member " +
+           "LEFT JOIN FETCH o.orderDetails od LEFT JOIN FETCH od.fruit WHERE o.id = :id")
+    Optional<Order> findWithDetailsById(@Param("id") Long id);
+    
     List<Order> findByMember(Member member);
     
+    @Query("SELECT o FROM Order o WHERE o.member.id = :memberId ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findPageByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+    
+    @Query("SELECT o FROM Order o WHERE o.member.id = :memberId " +
+           "AND (o.orderDate < :orderDate OR (o.orderDate = :orderDate AND o.id < :orderId)) " +
+           "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findPageByMemberIdAfter(@Param("memberId") Long memberId, @Param("orderDate") LocalDate orderDate,
+                                        @Param("orderId") Long orderId, Pageable pageable);
+    
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderDetails od LEFT JOIN FETCH od.fruit " +
+           "WHERE o.id IN :orderIds")
+    List<Order> findAllWithDetailsByIdIn(@Param("orderIds") Collection<Long> orderIds);
+    
     List<Order> findByOrderStatus(OrderStatus status);
     
     List<Order> findByOrderDateBetween(LocalDate startDate, LocalDate endDate);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT o.id AS orderId, o.orderDate AS orderDate, m.id AS memberId, m.name AS memberName, " +
+           "o.orderStatus AS orderStatus, o.paymentMethod AS paymentMethod, o.totalPrice AS orderTotal, " +
+           "f.id AS fruitId, f.fruitName AS fruitName, od.quantity AS quantity, od.unitPrice AS unitPrice " +
+           "FROM OrderDetail od JOIN od.order o LEFT JOIN o.member m JOIN od.fruit f " +
+           "WHERE o.orderDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY o.orderDate, o.id, od.id")
+    Stream<OrderExportRow> streamExportRows(@Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
+    
     List<Order> findByMemberAndOrderStatus(Member member, OrderStatus status);
+    
+    @Query(value = "SELECT o.order_id AS orderId, o.order_status AS orderStatus FROM orders o " +
+                   "WHERE o.order_id IN (:orderIds) ORDER BY o.order_id FOR UPDATE", nativeQuery = true)
+    List<OrderStatusRow> findStatusesByIdsForUpdate(@Param("orderIds") Collection<Long> orderIds);
+    
+    @Query(value = "SELECT o.order_id AS orderId, o.order_status AS orderStatus FROM orders o " +
+                   "WHERE o.order_status = :#{#status.name()} AND o.order_date BETWEEN :startDate AND :endDate " +
+                   "ORDER BY o.order_id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<OrderStatusRow> findStatusesForUpdate(@Param("status") OrderStatus status,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate,
+                                               @Param("limit") int limit);
+    
+    @Modifying
+    @Query("UPDATE Order o SET o.orderStatus = :status WHERE o.id IN :orderIds")
+    int updateStatusIn(@Param("orderIds") Collection<Long> orderIds, @Param("status") OrderStatus status);
+    
+    @Query(value = "SELECT o.order_id FROM orders o WHERE o.order_id IN (:orderIds) AND o.stock_restored = false " +
+                   "ORDER BY o.order_id FOR UPDATE", nativeQuery = true)
+    List<Long> findStockUnrestoredIdsForUpdate(@Param("orderIds") Collection<Long> orderIds);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Order o SET o.stockRestored = true WHERE o.id IN :orderIds")
+    int markStockRestored(@Param("orderIds") Collection<Long> orderIds);
+    
+    @Modifying
+    @Query("UPDATE Order o SET o.stockRestored = true " +
+           "WHERE o.orderStatus = com.fruitmall.domain.order.domain.OrderStatus.CANCELLED AND o.stockRestored = false")
+    int markCancelledStockRestored();
+    
+    @Query("SELECT f.id AS fruitId, f.stockShardCount AS stockShardCount, SUM(od.quantity) AS quantity " +
+           "FROM OrderDetail od JOIN od.fruit f WHERE od.order.id IN :orderIds " +
+           "GROUP BY f.id, f.stockShardCount ORDER BY f.id")
+    List<FruitQuantity> sumQuantitiesByFruit(@Param("orderIds") Collection<Long> orderIds);
 }
\ No newline at end of file
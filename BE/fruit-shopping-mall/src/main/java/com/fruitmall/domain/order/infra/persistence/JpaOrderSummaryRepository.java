@@ -0,0 +1,45 @@
+package com.fruitmall.domain.order.infra.persistence;
+
+import com.fruitmall.domain.order.domain.OrderStatus;
+import com.fruitmall.domain.order.domain.OrderSummary;
+import com.fruitmall.domain.order.domain.OrderSummaryRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JpaOrderSummaryRepository extends JpaRepository<OrderSummary, Long>, OrderSummaryRepository {
+
+    @Modifying
+    @Query("UPDATE OrderSummary s SET s.orderStatus = :orderStatus WHERE s.orderId = :orderId")
+    int updateStatus(@Param("orderId") Long orderId, @Param("orderStatus") OrderStatus orderStatus);
+
+    @Modifying
+    @Query("UPDATE OrderSummary s SET s.orderStatus = :orderStatus WHERE s.orderId IN :orderIds")
+    int updateStatusIn(@Param("orderIds") Collection<Long> orderIds, @Param("orderStatus") OrderStatus orderStatus);
+
+    @Modifying
+    @Query("DELETE FROM OrderSummary s WHERE s.orderId = :orderId")
+    int deleteByOrderId(@Param("orderId") Long orderId);
+
+    List<OrderSummary> findByMemberIdOrderByOrderDateDescOrderIdDesc(Long memberId);
+
+    List<OrderSummary> findByOrderStatusOrderByOrderIdDesc(OrderStatus orderStatus);
+
+    List<OrderSummary> findByOrderDateBetweenOrderByOrderDateAscOrderIdAsc(LocalDate startDate, LocalDate endDate);
+
+    @Modifying
+    @Query(value = "INSERT INTO order_summary (order_id, member_id, order_date, order_status, total_price, item_count) " +
+                   "SELECT o.order_id, o.member_id, o.order_date, o.order_status, o.total_price, " +
+                   "(SELECT COUNT(*) FROM order_detail od WHERE od.order_id = o.order_id) " +
+                   "FROM orders o " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM order_summary s WHERE s.order_id = o.order_id)",
+           nativeQuery = true)
+    int backfillMissing();
+}
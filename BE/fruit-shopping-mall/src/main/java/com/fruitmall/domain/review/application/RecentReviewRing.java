@@ -0,0 +1,157 @@
+package com.fruitmall.domain.review.application;
+
+import com.fruitmall.domain.fruit.domain.FruitChangedEvent;
+import com.fruitmall.domain.review.application.dto.ReviewDto;
+import com.fruitmall.domain.review.application.mapper.ReviewMapper;
+import com.fruitmall.domain.review.domain.ReviewChangedEvent;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 리뷰 링 버퍼.
+ * 최신 리뷰 N건을 고정 크기 배열에 순번과 함께 담아 두고, 잠금 없이(원자적 순번 증가 + 슬롯 교체) 추가·수정·삭제합니다.
+ * 조회는 현재 순번부터 거꾸로 읽으며, 그 사이 덮어써진 슬롯(순번 불일치)과 삭제된 슬롯은 건너뜁니다.
+ */
+@Component
+public class RecentReviewRing {
+
+    private final ReviewMapper reviewMapper;
+    @Getter
+    private final int capacity;
+
+    // null이면 아직 채우지 않았거나 무효화됨 (다음 조회 때 DB에서 다시 채움)
+    private final AtomicReference<Ring> current = new AtomicReference<>();
+
+    // 링 변경 횟수 (채우는 동안 들어온 변경을 놓치지 않도록 비교)
+    private final AtomicLong version = new AtomicLong();
+
+    public RecentReviewRing(
+            ReviewMapper reviewMapper,
+            @Value("${review.recent.capacity:100}") int capacity) {
+        this.reviewMapper = reviewMapper;
+        this.capacity = Math.max(capacity, 1);
+    }
+
+    public boolean isLoaded() {
+        return current.get() != null;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    // DB에서 읽은 최신 리뷰(최신순)로 링 교체
+    // loadedVersion 이후 변경이 있었다면 읽은 목록에 빠졌을 수 있으므로 다시 무효화
+    public void load(List<ReviewDto> newestFirst, long loadedVersion) {
+        Ring ring = new Ring(capacity, newestFirst.size() < capacity);
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            ring.append(newestFirst.get(i));
+        }
+        current.set(ring);
+        if (version.get() != loadedVersion) {
+            current.compareAndSet(ring, null);
+        }
+    }
+
+    // 최신 리뷰 limit건 (링으로 채울 수 없으면 empty)
+    public Optional<List<ReviewDto>> recent(int limit) {
+        Ring ring = current.get();
+        if (ring == null || limit > capacity) {
+            return Optional.empty();
+        }
+        return ring.recent(limit);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        version.incrementAndGet();
+        Ring ring = current.get();
+        if (ring == null) {
+            return;
+        }
+        switch (event.getType()) {
+            case CREATED -> ring.append(reviewMapper.toDto(event.getReview()));
+            case UPDATED -> ring.replace(event.getReviewId(), reviewMapper.toDto(event.getReview()));
+            case DELETED -> ring.replace(event.getReviewId(), null);
+        }
+    }
+
+    // 리뷰 DTO에 담긴 상품 이름·이미지가 바뀔 수 있으므로 다시 채움
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFruitChanged(FruitChangedEvent event) {
+        switch (event.getType()) {
+            case UPDATED, DELETED, CATALOG_RELOADED -> {
+                version.incrementAndGet();
+                current.set(null);
+            }
+            default -> {
+                // 재고·등록·카테고리 변경은 리뷰 DTO와 무관
+            }
+        }
+    }
+
+    private record Slot(long sequence, ReviewDto review) {
+    }
+
+    private static final class Ring {
+
+        private final AtomicReferenceArray<Slot> slots;
+        private final AtomicLong sequence = new AtomicLong();
+        // 채울 때 DB의 리뷰가 링보다 적었음 (밀려난 리뷰가 없으면 링이 전체 리뷰)
+        private final boolean loadedAll;
+
+        private Ring(int capacity, boolean loadedAll) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.loadedAll = loadedAll;
+        }
+
+        private void append(ReviewDto review) {
+            long next = sequence.getAndIncrement();
+            slots.set(index(next), new Slot(next, review));
+        }
+
+        // 같은 리뷰가 담긴 슬롯 교체 (review가 null이면 삭제 표시)
+        private void replace(Long reviewId, ReviewDto review) {
+            for (int i = 0; i < slots.length(); i++) {
+                Slot slot = slots.get(i);
+                while (slot != null && slot.review() != null && slot.review().getId().equals(reviewId)) {
+                    if (slots.compareAndSet(i, slot, new Slot(slot.sequence(), review))) {
+                        return;
+                    }
+                    slot = slots.get(i);
+                }
+            }
+        }
+
+        private Optional<List<ReviewDto>> recent(int limit) {
+            long head = sequence.get();
+            long oldest = Math.max(0, head - slots.length());
+            List<ReviewDto> result = new ArrayList<>(limit);
+            for (long seq = head - 1; seq >= oldest && result.size() < limit; seq--) {
+                Slot slot = slots.get(index(seq));
+                if (slot != null && slot.sequence() == seq && slot.review() != null) {
+                    result.add(slot.review());
+                }
+            }
+            // 삭제로 모자라면 DB 조회 (단, 링이 전체 리뷰를 담고 있으면 그대로 반환)
+            if (result.size() < limit && !(loadedAll && head <= slots.length())) {
+                return Optional.empty();
+            }
+            return Optional.of(result);
+        }
+
+        private int index(long seq) {
+            return (int) (seq % slots.length());
+        }
+    }
+}
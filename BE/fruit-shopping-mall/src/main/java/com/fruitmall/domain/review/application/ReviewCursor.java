@@ -0,0 +1,52 @@
+package com.fruitmall.domain.review.application;
+
+import com.fruitmall.domain.review.domain.ReviewRepository.ReviewFeedRow;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 리뷰 피드 커서 (rating, review_id).
+ * "평점:리뷰ID"를 URL-safe Base64로 인코딩해 클라이언트에는 불투명한 토큰으로 전달합니다.
+ * 최신순·사진 리뷰는 리뷰 ID만 비교하고 평점은 무시합니다.
+ */
+@Getter
+public class ReviewCursor {
+
+    private final int rating;
+    private final long reviewId;
+
+    private ReviewCursor(int rating, long reviewId) {
+        this.rating = rating;
+        this.reviewId = reviewId;
+    }
+
+    // 첫 페이지용 커서 (모든 리뷰보다 앞에 오는 값)
+    public static ReviewCursor first(ReviewSort sort) {
+        return sort == ReviewSort.LOWEST ? new ReviewCursor(0, 0L) : new ReviewCursor(6, Long.MAX_VALUE);
+    }
+
+    // 페이지의 마지막 리뷰로 다음 페이지 커서 생성
+    public static ReviewCursor from(ReviewFeedRow review) {
+        return new ReviewCursor(review.getRating(), review.getId());
+    }
+
+    public static ReviewCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new ReviewCursor(Integer.parseInt(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = rating + ":" + reviewId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
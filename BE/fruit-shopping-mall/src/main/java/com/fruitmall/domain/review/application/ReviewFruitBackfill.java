@@ -0,0 +1,34 @@
+package com.fruitmall.domain.review.application;
+
+import com.fruitmall.domain.review.domain.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class ReviewFruitBackfill {
+
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReviewFruitBackfill(ReviewRepository reviewRepository, PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 상품 ID가 없는 기존 리뷰 채우기 (이미 채워진 리뷰는 건너뜀)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        Integer updated = transactionTemplate.execute(status -> reviewRepository.backfillFruitIds());
+        if (updated != null && updated > 0) {
+            log.info("리뷰 상품 ID {}건 채움", updated);
+        }
+
+        // DDL은 암묵적으로 커밋되므로 백필과 다른 트랜잭션에서 실행
+        transactionTemplate.executeWithoutResult(status -> reviewRepository.dropLegacyCreatedIndex());
+    }
+}
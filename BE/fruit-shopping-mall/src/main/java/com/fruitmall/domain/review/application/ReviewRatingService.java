@@ -0,0 +1,55 @@
+package com.fruitmall.domain.review.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.review.application.dto.ReviewRatingDto;
+import com.fruitmall.domain.review.application.dto.ReviewStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 목록용 리뷰 평점 일괄 조회.
+ * 화면의 상품 ID를 모아 리뷰 집계 캐시에서 한 번에 읽고, 캐시에 없는 상품만 한 번의 쿼리로 채웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReviewRatingService {
+
+    private final ReviewStatsCache reviewStatsCache;
+
+    // 상품별 평균 평점·리뷰 수 (요청 순서, 중복 ID는 한 번만, 리뷰가 없거나 없는 상품은 0건)
+    public List<ReviewRatingDto> findRatings(Collection<Long> fruitIds) {
+        LinkedHashSet<Long> uniqueIds = new LinkedHashSet<>(fruitIds);
+        Map<Long, ReviewStatsDto> stats = reviewStatsCache.getAll(uniqueIds);
+        List<ReviewRatingDto> result = new ArrayList<>(uniqueIds.size());
+        for (Long fruitId : uniqueIds) {
+            ReviewStatsDto fruitStats = stats.get(fruitId);
+            result.add(ReviewRatingDto.builder()
+                    .fruitId(fruitId)
+                    .averageRating(fruitStats.getAverageRating())
+                    .reviewCount(fruitStats.getReviewCount())
+                    .build());
+        }
+        return result;
+    }
+
+    // 상품 목록에 평균 평점·리뷰 수를 채운 DTO (캐시된 DTO는 그대로 두고 새 DTO 생성)
+    public List<FruitDto> withRatings(List<FruitDto> fruits) {
+        if (fruits.isEmpty()) {
+            return fruits;
+        }
+        Map<Long, ReviewStatsDto> stats = reviewStatsCache.getAll(fruits.stream().map(FruitDto::getId).toList());
+        List<FruitDto> result = new ArrayList<>(fruits.size());
+        for (FruitDto fruit : fruits) {
+            ReviewStatsDto fruitStats = stats.get(fruit.getId());
+            result.add(fruit.withAverageRating(fruitStats.getAverageRating())
+                    .withReviewCount(fruitStats.getReviewCount()));
+        }
+        return result;
+    }
+}
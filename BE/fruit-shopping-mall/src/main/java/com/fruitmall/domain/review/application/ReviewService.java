@@ -9,14 +9,25 @@ import com.fruitmall.domain.order.domain.OrderDetailRepository;
 import com.fruitmall.domain.order.domain.OrderStatus;
 import com.fruitmall.domain.review.application.dto.CreateReviewRequestDto;
 import com.fruitmall.domain.review.application.dto.ReviewDto;
+import com.fruitmall.domain.review.application.dto.ReviewFeedDto;
+import com.fruitmall.domain.review.application.dto.ReviewStatsDto;
 import com.fruitmall.domain.review.application.dto.ReviewSummaryDto;
 import com.fruitmall.domain.review.application.dto.UpdateReviewRequestDto;
 import com.fruitmall.domain.review.application.mapper.ReviewMapper;
 import com.fruitmall.domain.review.domain.Review;
+import com.fruitmall.domain.review.domain.ReviewChangedEvent;
 import com.fruitmall.domain.review.domain.ReviewRepository;
+import com.fruitmall.domain.review.domain.ReviewRepository.ReviewFeedRow;
+import com.fruitmall.domain.review.domain.ReviewStatsDelta;
+import com.fruitmall.domain.review.domain.ReviewStatsRepository;
 import com.fruitmall.global.error.BusinessException;
 import com.fruitmall.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,11 +38,17 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ReviewService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
     private final OrderDetailRepository orderDetailRepository;
     private final FruitRepository fruitRepository;
     private final ReviewMapper reviewMapper;
+    private final ReviewStatsRepository reviewStatsRepository;
+    private final ReviewStatsCache reviewStatsCache;
+    private final RecentReviewRing recentReviewRing;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 리뷰 작성
     @Transactional
@@ -71,6 +88,10 @@ public class ReviewService {
         // 리뷰 저장
         Review savedReview = reviewRepository.save(review);
         
+        // 상품별 리뷰 집계 반영
+        reviewStatsRepository.apply(savedReview.getFruit().getId(), ReviewStatsDelta.added(savedReview.getRating()));
+        eventPublisher.publishEvent(ReviewChangedEvent.created(savedReview));
+        
         return reviewMapper.toDto(savedReview);
     }
 
@@ -104,13 +125,10 @@ public class ReviewService {
         List<Review> reviews = reviewRepository.findByFruitId(fruitId);
         List<ReviewDto> reviewDtos = reviewMapper.toDtoList(reviews);
         
-        // 평균 평점 계산
-        Double averageRating = reviewRepository.calculateAverageRatingByFruitId(fruitId);
-        
-        // 리뷰 개수 계산
-        Long reviewCount = reviewRepository.countByFruitId(fruitId);
+        // 평균 평점·리뷰 개수 (집계 캐시)
+        ReviewStatsDto stats = reviewStatsCache.get(fruitId);
         
-        return reviewMapper.toSummaryDto(fruitId, fruit.getFruitName(), averageRating, reviewCount, reviewDtos);
+        return reviewMapper.toSummaryDto(fruitId, fruit.getFruitName(), stats, reviewDtos);
     }
 
     // 상품의 리뷰 목록 조회 (높은 평점순)
@@ -123,19 +141,71 @@ public class ReviewService {
         List<Review> reviews = reviewRepository.findByFruitIdOrderByRatingDesc(fruitId);
         List<ReviewDto> reviewDtos = reviewMapper.toDtoList(reviews);
         
-        // 평균 평점 계산
-        Double averageRating = reviewRepository.calculateAverageRatingByFruitId(fruitId);
+        // 평균 평점·리뷰 개수 (집계 캐시)
+        ReviewStatsDto stats = reviewStatsCache.get(fruitId);
         
-        // 리뷰 개수 계산
-        Long reviewCount = reviewRepository.countByFruitId(fruitId);
+        return reviewMapper.toSummaryDto(fruitId, fruit.getFruitName(), stats, reviewDtos);
+    }
+
+    // 상품의 리뷰 피드 커서 페이지 조회 (리뷰·작성자 이름 한 번의 쿼리, 합계는 리뷰 집계에서)
+    public ReviewFeedDto findFeedByFruitId(Long fruitId, ReviewSort sort, String cursor, int size) {
+        Fruit fruit = fruitRepository.findById(fruitId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.FRUIT_NOT_FOUND));
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ReviewCursor after = cursor == null || cursor.isBlank() ? ReviewCursor.first(sort) : ReviewCursor.decode(cursor);
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<ReviewFeedRow> rows = switch (sort) {
+            case NEWEST -> reviewRepository.findFeedNewest(fruitId, after.getReviewId(), limit);
+            case HIGHEST -> reviewRepository.findFeedHighest(fruitId, after.getRating(), after.getReviewId(), limit);
+            case LOWEST -> reviewRepository.findFeedLowest(fruitId, after.getRating(), after.getReviewId(), limit);
+            case PHOTO -> reviewRepository.findFeedWithPhoto(fruitId, after.getReviewId(), limit);
+        };
         
-        return reviewMapper.toSummaryDto(fruitId, fruit.getFruitName(), averageRating, reviewCount, reviewDtos);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        
+        ReviewStatsDto stats = reviewStatsCache.get(fruitId);
+        return ReviewFeedDto.builder()
+                .fruitId(fruitId)
+                .fruitName(fruit.getFruitName())
+                .averageRating(stats.getAverageRating())
+                .reviewCount(stats.getReviewCount())
+                .ratingCounts(stats.getRatingCounts())
+                .content(rows.stream()
+                        .map(row -> reviewMapper.toDto(row, fruit))
+                        .toList())
+                .nextCursor(hasNext ? ReviewCursor.from(rows.get(rows.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
-    // 최근 리뷰 목록 조회
+    // 상품의 리뷰 집계 조회 (평균 평점, 리뷰 수, 평점별 분포)
+    public ReviewStatsDto findStatsByFruitId(Long fruitId) {
+        if (!fruitRepository.existsById(fruitId)) {
+            throw new BusinessException(ErrorCode.FRUIT_NOT_FOUND);
+        }
+        return reviewStatsCache.get(fruitId);
+    }
+
+    // 최근 리뷰 목록 조회 (메모리 링에서 조회, 링보다 많이 요청하면 DB 조회)
     public List<ReviewDto> findRecentReviews(int limit) {
-        List<Review> reviews = reviewRepository.findRecentReviews(limit);
-        return reviewMapper.toDtoList(reviews);
+        if (!recentReviewRing.isLoaded()) {
+            loadRecentReviews();
+        }
+        return recentReviewRing.recent(limit)
+                .orElseGet(() -> reviewMapper.toDtoList(reviewRepository.findRecentReviews(limit)));
+    }
+
+    // 시작 시 최근 리뷰 링 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRecentReviews() {
+        long version = recentReviewRing.getVersion();
+        List<Review> reviews = reviewRepository.findRecentReviews(recentReviewRing.getCapacity());
+        recentReviewRing.load(reviewMapper.toDtoList(reviews), version);
     }
 
     // 리뷰 수정
@@ -151,8 +221,16 @@ public class ReviewService {
         }
         
         // 리뷰 업데이트
+        int previousRating = review.getRating();
         review.update(dto.getRating(), dto.getContent(), dto.getImageUrl());
         
+        // 평점이 바뀐 경우 집계 반영
+        if (previousRating != review.getRating()) {
+            reviewStatsRepository.apply(review.getFruit().getId(),
+                    ReviewStatsDelta.changed(previousRating, review.getRating()));
+        }
+        eventPublisher.publishEvent(ReviewChangedEvent.updated(review));
+        
         return reviewMapper.toDto(review);
     }
 
@@ -169,7 +247,12 @@ public class ReviewService {
         }
         
         // 리뷰 삭제
+        Long fruitId = review.getFruit().getId();
         reviewRepository.delete(review);
+        
+        // 상품별 리뷰 집계 반영
+        reviewStatsRepository.apply(fruitId, ReviewStatsDelta.removed(review.getRating()));
+        eventPublisher.publishEvent(ReviewChangedEvent.deleted(reviewId, fruitId));
     }
     
     // 관리자 여부 확인 (간단한 구현, 실제로는 SecurityUtil 등을 사용)
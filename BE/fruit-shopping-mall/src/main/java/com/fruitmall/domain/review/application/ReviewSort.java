@@ -0,0 +1,31 @@
+package com.fruitmall.domain.review.application;
+
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 리뷰 피드 정렬.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReviewSort {
+
+    NEWEST("newest"),   // 최신순
+    HIGHEST("highest"), // 높은 평점순 (같은 평점은 최신순)
+    LOWEST("lowest"),   // 낮은 평점순 (같은 평점은 오래된 순)
+    PHOTO("photo");     // 사진 리뷰만 최신순
+
+    private final String value;
+
+    // 요청 파라미터(newest, highest, lowest, photo)를 정렬로 변환
+    public static ReviewSort from(String sort) {
+        for (ReviewSort value : values()) {
+            if (value.value.equalsIgnoreCase(sort)) {
+                return value;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 리뷰 정렬입니다: " + sort);
+    }
+}
@@ -0,0 +1,87 @@
+package com.fruitmall.domain.review.application;
+
+import com.fruitmall.domain.review.application.dto.ReviewStatsDto;
+import com.fruitmall.domain.review.domain.ReviewChangedEvent;
+import com.fruitmall.domain.review.domain.ReviewStats;
+import com.fruitmall.domain.review.domain.ReviewStatsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품별 리뷰 집계 캐시.
+ * review_stats 행을 DTO로 들고 있다가 리뷰가 바뀐 상품만 무효화합니다.
+ */
+@Component
+public class ReviewStatsCache {
+
+    private final ReviewStatsRepository reviewStatsRepository;
+    private final Cache<Long, ReviewStatsDto> stats;
+
+    public ReviewStatsCache(
+            ReviewStatsRepository reviewStatsRepository,
+            MeterRegistry meterRegistry,
+            @Value("${review.stats.cache.max-size:10000}") long maxSize,
+            @Value("${review.stats.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.reviewStatsRepository = reviewStatsRepository;
+        this.stats = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, stats, "review.stats");
+    }
+
+    // 상품의 리뷰 집계 (리뷰가 없으면 0건)
+    public ReviewStatsDto get(Long fruitId) {
+        return getAll(List.of(fruitId)).get(fruitId);
+    }
+
+    // 여러 상품의 리뷰 집계 (캐시에 없는 상품만 한 번에 조회)
+    public Map<Long, ReviewStatsDto> getAll(Collection<Long> fruitIds) {
+        return stats.getAll(fruitIds, this::loadStats);
+    }
+
+    public void invalidateAll() {
+        stats.invalidateAll();
+    }
+
+    // 커밋·롤백 모두에서 무효화 (트랜잭션 안에서 읽어 둔 값이 롤백 후 남지 않도록)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        stats.invalidate(event.getFruitId());
+    }
+
+    private Map<Long, ReviewStatsDto> loadStats(Set<? extends Long> fruitIds) {
+        Map<Long, ReviewStatsDto> result = new HashMap<>();
+        fruitIds.forEach(fruitId -> result.put(fruitId, toDto(fruitId, 0, 0, new long[5])));
+        for (ReviewStats row : reviewStatsRepository.findAllById(List.copyOf(fruitIds))) {
+            result.put(row.getFruitId(),
+                    toDto(row.getFruitId(), row.getReviewCount(), row.getRatingSum(), row.getRatingCounts()));
+        }
+        return result;
+    }
+
+    private static ReviewStatsDto toDto(Long fruitId, long count, long ratingSum, long[] ratingCounts) {
+        return ReviewStatsDto.builder()
+                .fruitId(fruitId)
+                .reviewCount(count)
+                .averageRating(count > 0 ? (double) ratingSum / count : 0.0)
+                .ratingCounts(Arrays.stream(ratingCounts).boxed().toList())
+                .build();
+    }
+}
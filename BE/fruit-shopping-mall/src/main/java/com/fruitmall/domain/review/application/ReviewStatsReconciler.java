@@ -0,0 +1,134 @@
+package com.fruitmall.domain.review.application;
+
+import com.fruitmall.domain.review.application.dto.ReviewStatsReconcileResultDto;
+import com.fruitmall.domain.review.domain.ReviewStats;
+import com.fruitmall.domain.review.domain.ReviewStatsRepository;
+import com.fruitmall.domain.review.domain.ReviewStatsRepository.ReviewAggregate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 상품별 리뷰 집계 보정.
+ * 리뷰 원본에서 집계를 처음부터 다시 계산해 review_stats와 비교하고, 어긋난 상품은 경고를 남긴 뒤 다시 계산한 값으로 덮어씁니다.
+ */
+@Slf4j
+@Component
+public class ReviewStatsReconciler {
+
+    private static final long[] EMPTY = new long[7];
+
+    private final ReviewStatsRepository reviewStatsRepository;
+    private final ReviewStatsCache reviewStatsCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter driftCounter;
+
+    public ReviewStatsReconciler(
+            ReviewStatsRepository reviewStatsRepository,
+            ReviewStatsCache reviewStatsCache,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.reviewStatsRepository = reviewStatsRepository;
+        this.reviewStatsCache = reviewStatsCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.driftCounter = Counter.builder("review.stats.drift")
+                .description("리뷰 집계 보정에서 어긋나 있던 상품 수")
+                .register(meterRegistry);
+    }
+
+    // 집계 테이블이 비어 있으면(집계 도입 직후 배포) 기존 리뷰로 한 번 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (reviewStatsRepository.count() == 0) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${review.stats.reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    public ReviewStatsReconcileResultDto reconcile() {
+        // 1단계: 잠금 없이 전체를 비교해 어긋난 후보만 추림
+        Map<Long, long[]> expected = new HashMap<>();
+        for (ReviewAggregate aggregate : reviewStatsRepository.aggregateAll()) {
+            expected.put(aggregate.getFruitId(), values(aggregate));
+        }
+        Map<Long, long[]> stored = new HashMap<>();
+        for (ReviewStats stats : reviewStatsRepository.findAll()) {
+            stored.put(stats.getFruitId(), values(stats));
+        }
+
+        TreeSet<Long> fruitIds = new TreeSet<>(expected.keySet());
+        fruitIds.addAll(stored.keySet());
+        List<Long> candidates = fruitIds.stream()
+                .filter(fruitId -> !Arrays.equals(expected.getOrDefault(fruitId, EMPTY),
+                        stored.getOrDefault(fruitId, EMPTY)))
+                .toList();
+
+        // 2단계: 후보마다 집계 행을 잠그고 다시 계산 (그 사이 작성된 리뷰는 잠금 이후 값에 반영됨)
+        List<Long> drifted = new ArrayList<>();
+        for (Long fruitId : candidates) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> correct(fruitId)))) {
+                drifted.add(fruitId);
+            }
+        }
+
+        if (!drifted.isEmpty()) {
+            driftCounter.increment(drifted.size());
+            reviewStatsCache.invalidateAll();
+        }
+        log.info("리뷰 집계 보정 완료: {}개 상품 비교, {}개 보정", fruitIds.size(), drifted.size());
+
+        return ReviewStatsReconcileResultDto.builder()
+                .checkedCount(fruitIds.size())
+                .driftCount(drifted.size())
+                .driftedFruitIds(drifted)
+                .build();
+    }
+
+    private boolean correct(Long fruitId) {
+        long[] current = reviewStatsRepository.findByIdForUpdate(fruitId)
+                .map(ReviewStatsReconciler::values)
+                .orElse(EMPTY);
+        long[] actual = reviewStatsRepository.aggregateByFruitIds(List.of(fruitId)).stream()
+                .findFirst()
+                .map(ReviewStatsReconciler::values)
+                .orElse(EMPTY);
+        if (Arrays.equals(current, actual)) {
+            return false;
+        }
+
+        log.warn("리뷰 집계 불일치 보정: fruitId={}, 저장값={}, 재계산값={} (리뷰 수, 평점 합계, 1~5점)",
+                fruitId, Arrays.toString(current), Arrays.toString(actual));
+        reviewStatsRepository.overwrite(fruitId, actual[0], actual[1],
+                actual[2], actual[3], actual[4], actual[5], actual[6]);
+        return true;
+    }
+
+    private static long[] values(ReviewStats stats) {
+        long[] ratingCounts = stats.getRatingCounts();
+        return new long[]{stats.getReviewCount(), stats.getRatingSum(),
+                ratingCounts[0], ratingCounts[1], ratingCounts[2], ratingCounts[3], ratingCounts[4]};
+    }
+
+    private static long[] values(ReviewAggregate aggregate) {
+        return new long[]{aggregate.getReviewCount(), aggregate.getRatingSum(),
+                aggregate.getRating1Count(), aggregate.getRating2Count(), aggregate.getRating3Count(),
+                aggregate.getRating4Count(), aggregate.getRating5Count()};
+    }
+}
@@ -17,10 +17,13 @@ public class ReviewDto {
     private Long fruitId;
     private String fruitName;
     private String fruitImageUrl;
+    private String fruitThumbnailUrl;
     private Integer rating;
     private String content;
     private LocalDate reviewDate;
     private String imageUrl;
+    private String thumbnailUrl;  // 업로드한 이미지면 축소본 URL, 외부 이미지면 imageUrl과 같음
+    private String cardUrl;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.fruitmall.domain.review.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ReviewFeedDto {
+
+    private Long fruitId;
+    private String fruitName;
+    private Double averageRating;
+    private Long reviewCount;
+    private List<Long> ratingCounts; // 1점부터 5점까지 리뷰 수
+    private List<ReviewDto> content;
+    private String nextCursor;       // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
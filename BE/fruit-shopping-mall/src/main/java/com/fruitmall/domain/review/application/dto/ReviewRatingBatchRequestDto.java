@@ -0,0 +1,22 @@
+package com.fruitmall.domain.review.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewRatingBatchRequestDto {
+
+    @NotEmpty(message = "상품 ID 목록은 필수 입력값입니다")
+    @Size(max = 200, message = "상품 ID는 한 번에 최대 200개까지 조회할 수 있습니다")
+    private List<@NotNull Long> fruitIds;
+}
@@ -0,0 +1,13 @@
+package com.fruitmall.domain.review.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ReviewRatingDto {
+
+    private Long fruitId;
+    private Double averageRating;
+    private Long reviewCount;
+}
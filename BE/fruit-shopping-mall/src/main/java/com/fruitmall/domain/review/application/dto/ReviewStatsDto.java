@@ -0,0 +1,16 @@
+package com.fruitmall.domain.review.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ReviewStatsDto {
+
+    private Long fruitId;
+    private Long reviewCount;
+    private Double averageRating;
+    private List<Long> ratingCounts; // 1점부터 5점까지 리뷰 수
+}
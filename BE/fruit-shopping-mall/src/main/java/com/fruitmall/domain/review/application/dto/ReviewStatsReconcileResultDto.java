@@ -0,0 +1,15 @@
+package com.fruitmall.domain.review.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ReviewStatsReconcileResultDto {
+
+    private int checkedCount;       // 비교한 상품 수
+    private int driftCount;         // 집계가 어긋나 보정한 상품 수
+    private List<Long> driftedFruitIds;
+}
@@ -13,5 +13,6 @@ public class ReviewSummaryDto {
     private String fruitName;
     private Double averageRating;
     private Long reviewCount;
+    private List<Long> ratingCounts; // 1점부터 5점까지 리뷰 수
     private List<ReviewDto> reviews;
 }
\ No newline at end of file
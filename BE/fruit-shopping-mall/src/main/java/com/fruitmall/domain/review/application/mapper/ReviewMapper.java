@@ -1,8 +1,11 @@
 package com.fruitmall.domain.review.application.mapper;
 
+import com.fruitmall.domain.fruit.domain.Fruit;
 import com.fruitmall.domain.review.application.dto.ReviewDto;
+import com.fruitmall.domain.review.application.dto.ReviewStatsDto;
 import com.fruitmall.domain.review.application.dto.ReviewSummaryDto;
 import com.fruitmall.domain.review.domain.Review;
+import com.fruitmall.domain.review.domain.ReviewRepository.ReviewFeedRow;
 
 import java.util.List;
 
@@ -12,5 +15,8 @@ public interface ReviewMapper {
     
     List<ReviewDto> toDtoList(List<Review> reviews);
     
-    ReviewSummaryDto toSummaryDto(Long fruitId, String fruitName, Double averageRating, Long reviewCount, List<ReviewDto> reviews);
+    // 피드 조회 결과 (같은 상품의 리뷰이므로 상품 정보는 한 번 조회해 채움)
+    ReviewDto toDto(ReviewFeedRow review, Fruit fruit);
+    
+    ReviewSummaryDto toSummaryDto(Long fruitId, String fruitName, ReviewStatsDto stats, List<ReviewDto> reviews);
 }
\ No newline at end of file
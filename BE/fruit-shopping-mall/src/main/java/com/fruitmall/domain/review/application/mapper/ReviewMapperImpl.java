@@ -1,8 +1,13 @@
 package com.fruitmall.domain.review.application.mapper;
 
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.image.application.ImageUrls;
+import com.fruitmall.domain.image.domain.ImageVariant;
 import com.fruitmall.domain.review.application.dto.ReviewDto;
+import com.fruitmall.domain.review.application.dto.ReviewStatsDto;
 import com.fruitmall.domain.review.application.dto.ReviewSummaryDto;
 import com.fruitmall.domain.review.domain.Review;
+import com.fruitmall.domain.review.domain.ReviewRepository.ReviewFeedRow;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -16,22 +21,45 @@ public class ReviewMapperImpl implements ReviewMapper {
         if (review == null) {
             return null;
         }
-        
+
+        String fruitImageUrl = review.getFruit() != null ? review.getFruit().getImageUrl() : null;
         return ReviewDto.builder()
                 .id(review.getId())
                 .orderDetailId(review.getOrderDetail() != null ? review.getOrderDetail().getId() : null)
                 .memberId(review.getMember() != null ? review.getMember().getId() : null)
                 .memberName(review.getMember() != null ? review.getMember().getName() : null)
-                .fruitId(review.getOrderDetail() != null && review.getOrderDetail().getFruit() != null ? 
-                         review.getOrderDetail().getFruit().getId() : null)
-                .fruitName(review.getOrderDetail() != null && review.getOrderDetail().getFruit() != null ? 
-                           review.getOrderDetail().getFruit().getFruitName() : null)
-                .fruitImageUrl(review.getOrderDetail() != null && review.getOrderDetail().getFruit() != null ? 
-                               review.getOrderDetail().getFruit().getImageUrl() : null)
+                .fruitId(review.getFruit() != null ? review.getFruit().getId() : null)
+                .fruitName(review.getFruit() != null ? review.getFruit().getFruitName() : null)
+                .fruitImageUrl(fruitImageUrl)
+                .fruitThumbnailUrl(ImageUrls.variantUrl(fruitImageUrl, ImageVariant.THUMBNAIL))
+                .rating(review.getRating())
+                .content(review.getContent())
+                .reviewDate(review.getReviewDate())
+                .imageUrl(review.getImageUrl())
+                .thumbnailUrl(ImageUrls.variantUrl(review.getImageUrl(), ImageVariant.THUMBNAIL))
+                .cardUrl(ImageUrls.variantUrl(review.getImageUrl(), ImageVariant.CARD))
+                .createdAt(review.getCreatedAt())
+                .updatedAt(review.getUpdatedAt())
+                .build();
+    }
+
+    @Override
+    public ReviewDto toDto(ReviewFeedRow review, Fruit fruit) {
+        return ReviewDto.builder()
+                .id(review.getId())
+                .orderDetailId(review.getOrderDetailId())
+                .memberId(review.getMemberId())
+                .memberName(review.getMemberName())
+                .fruitId(fruit.getId())
+                .fruitName(fruit.getFruitName())
+                .fruitImageUrl(fruit.getImageUrl())
+                .fruitThumbnailUrl(ImageUrls.variantUrl(fruit.getImageUrl(), ImageVariant.THUMBNAIL))
                 .rating(review.getRating())
                 .content(review.getContent())
                 .reviewDate(review.getReviewDate())
                 .imageUrl(review.getImageUrl())
+                .thumbnailUrl(ImageUrls.variantUrl(review.getImageUrl(), ImageVariant.THUMBNAIL))
+                .cardUrl(ImageUrls.variantUrl(review.getImageUrl(), ImageVariant.CARD))
                 .createdAt(review.getCreatedAt())
                 .updatedAt(review.getUpdatedAt())
                 .build();
@@ -49,12 +77,13 @@ public class ReviewMapperImpl implements ReviewMapper {
     }
 
     @Override
-    public ReviewSummaryDto toSummaryDto(Long fruitId, String fruitName, Double averageRating, Long reviewCount, List<ReviewDto> reviews) {
+    public ReviewSummaryDto toSummaryDto(Long fruitId, String fruitName, ReviewStatsDto stats, List<ReviewDto> reviews) {
         return ReviewSummaryDto.builder()
                 .fruitId(fruitId)
                 .fruitName(fruitName)
-                .averageRating(averageRating != null ? averageRating : 0.0)
-                .reviewCount(reviewCount != null ? reviewCount : 0L)
+                .averageRating(stats.getAverageRating())
+                .reviewCount(stats.getReviewCount())
+                .ratingCounts(stats.getRatingCounts())
                 .reviews(reviews)
                 .build();
     }
@@ -1,5 +1,6 @@
 package com.fruitmall.domain.review.domain;
 
+import com.fruitmall.domain.fruit.domain.Fruit;
 import com.fruitmall.domain.member.domain.Member;
 import com.fruitmall.domain.order.domain.OrderDetail;
 import com.fruitmall.global.common.BaseTimeEntity;
@@ -12,7 +13,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "review")
+@Table(name = "review",
+       indexes = {
+           // 최신순 피드는 review_id 역순 (created_at은 감사 기능이 꺼져 있어 채워지지 않음)
+           @Index(name = "idx_review_fruit_id", columnList = "fruit_id, review_id"),
+           @Index(name = "idx_review_fruit_rating", columnList = "fruit_id, rating")
+       })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Review extends BaseTimeEntity {
@@ -26,6 +32,11 @@ public class Review extends BaseTimeEntity {
     @JoinColumn(name = "order_detail_id")
     private OrderDetail orderDetail;
 
+    // 주문 상세의 상품 (상품별 리뷰 조회가 주문 상세를 거치지 않도록 비정규화)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "fruit_id")
+    private Fruit fruit;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -44,6 +55,7 @@ public class Review extends BaseTimeEntity {
     @Builder
     public Review(OrderDetail orderDetail, Member member, Integer rating, String content, String imageUrl) {
         this.orderDetail = orderDetail;
+        this.fruit = orderDetail != null ? orderDetail.getFruit() : null;
         this.member = member;
         this.rating = validateRating(rating);
         this.content = content;
@@ -51,6 +63,11 @@ public class Review extends BaseTimeEntity {
         this.imageUrl = imageUrl;
     }
 
+    // 리뷰 대상 상품 (상품 ID가 아직 채워지지 않은 기존 리뷰는 주문 상세의 상품)
+    public Fruit getFruit() {
+        return fruit != null ? fruit : orderDetail.getFruit();
+    }
+
     // 평점 유효성 검증 (1-5점 사이)
     private Integer validateRating(Integer rating) {
         if (rating < 1 || rating > 5) {
@@ -0,0 +1,36 @@
+package com.fruitmall.domain.review.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 작성·수정·삭제 이벤트 (상품별 리뷰 집계 캐시, 최근 리뷰 목록 갱신용).
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long reviewId;
+    private final Long fruitId;
+    private final Review review; // 삭제 이벤트는 null
+
+    public static ReviewChangedEvent created(Review review) {
+        return new ReviewChangedEvent(Type.CREATED, review.getId(), review.getFruit().getId(), review);
+    }
+
+    public static ReviewChangedEvent updated(Review review) {
+        return new ReviewChangedEvent(Type.UPDATED, review.getId(), review.getFruit().getId(), review);
+    }
+
+    public static ReviewChangedEvent deleted(Long reviewId, Long fruitId) {
+        return new ReviewChangedEvent(Type.DELETED, reviewId, fruitId, null);
+    }
+}
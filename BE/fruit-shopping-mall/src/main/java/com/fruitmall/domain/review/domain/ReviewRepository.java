@@ -4,6 +4,10 @@ import com.fruitmall.domain.fruit.domain.Fruit;
 import com.fruitmall.domain.member.domain.Member;
 import com.fruitmall.domain.order.domain.OrderDetail;
 
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,7 +29,7 @@ public interface ReviewRepository {
     
     void delete(Review review);
     
-    // 최근 리뷰 조회
+    // 최근 리뷰 조회 (리뷰 ID 역순)
     List<Review> findRecentReviews(int limit);
     
     // 높은 평점 순으로 조회
@@ -36,4 +40,42 @@ public interface ReviewRepository {
     
     // 특정 상품의 리뷰 수 계산
     Long countByFruitId(Long fruitId);
+    
+    // 상품 ID가 비어 있는 기존 리뷰에 주문 상세의 상품 채우기
+    int backfillFruitIds();
+    
+    // 사용하지 않는 (fruit_id, created_at) 인덱스 삭제 (idx_review_fruit_id로 대체)
+    void dropLegacyCreatedIndex();
+    
+    // 상품 리뷰 피드 (작성자 이름 포함, 커서 이후 페이지)
+    List<ReviewFeedRow> findFeedNewest(Long fruitId, Long reviewId, Pageable pageable);
+    
+    List<ReviewFeedRow> findFeedHighest(Long fruitId, Integer rating, Long reviewId, Pageable pageable);
+    
+    List<ReviewFeedRow> findFeedLowest(Long fruitId, Integer rating, Long reviewId, Pageable pageable);
+    
+    List<ReviewFeedRow> findFeedWithPhoto(Long fruitId, Long reviewId, Pageable pageable);
+    
+    interface ReviewFeedRow {
+        
+        Long getId();
+        
+        Long getOrderDetailId();
+        
+        Long getMemberId();
+        
+        String getMemberName();
+        
+        Integer getRating();
+        
+        String getContent();
+        
+        LocalDate getReviewDate();
+        
+        String getImageUrl();
+        
+        LocalDateTime getCreatedAt();
+        
+        LocalDateTime getUpdatedAt();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.fruitmall.domain.review.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 리뷰 집계 (리뷰 수, 평점 합계, 1~5점 분포).
+ * 리뷰 작성·수정·삭제 트랜잭션에서 증감 UPSERT로 함께 갱신하고, 주기적으로 리뷰 원본과 대조해 보정합니다.
+ */
+@Entity
+@Table(name = "review_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewStats {
+
+    @Id
+    @Column(name = "fruit_id")
+    private Long fruitId;
+
+    @Column(nullable = false)
+    private long reviewCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating1_count", nullable = false)
+    private long rating1Count;
+
+    @Column(name = "rating2_count", nullable = false)
+    private long rating2Count;
+
+    @Column(name = "rating3_count", nullable = false)
+    private long rating3Count;
+
+    @Column(name = "rating4_count", nullable = false)
+    private long rating4Count;
+
+    @Column(name = "rating5_count", nullable = false)
+    private long rating5Count;
+
+    // 평점별 리뷰 수 (인덱스 0이 1점)
+    public long[] getRatingCounts() {
+        return new long[]{rating1Count, rating2Count, rating3Count, rating4Count, rating5Count};
+    }
+}
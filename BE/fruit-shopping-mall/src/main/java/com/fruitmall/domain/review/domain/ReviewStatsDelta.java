@@ -0,0 +1,33 @@
+package com.fruitmall.domain.review.domain;
+
+/**
+ * 리뷰 집계 증감분 (ratingCounts[0]이 1점).
+ */
+public record ReviewStatsDelta(long count, long ratingSum, long[] ratingCounts) {
+
+    // 리뷰 작성
+    public static ReviewStatsDelta added(int rating) {
+        long[] ratingCounts = new long[5];
+        ratingCounts[rating - 1] = 1;
+        return new ReviewStatsDelta(1, rating, ratingCounts);
+    }
+
+    // 리뷰 삭제
+    public static ReviewStatsDelta removed(int rating) {
+        long[] ratingCounts = new long[5];
+        ratingCounts[rating - 1] = -1;
+        return new ReviewStatsDelta(-1, -rating, ratingCounts);
+    }
+
+    // 평점 수정 (리뷰 수는 그대로)
+    public static ReviewStatsDelta changed(int previousRating, int rating) {
+        long[] ratingCounts = new long[5];
+        ratingCounts[previousRating - 1]--;
+        ratingCounts[rating - 1]++;
+        return new ReviewStatsDelta(0, rating - previousRating, ratingCounts);
+    }
+
+    public long ratingCount(int rating) {
+        return ratingCounts[rating - 1];
+    }
+}
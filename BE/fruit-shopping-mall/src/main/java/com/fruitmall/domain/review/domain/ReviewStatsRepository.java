@@ -0,0 +1,56 @@
+package com.fruitmall.domain.review.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReviewStatsRepository {
+
+    Optional<ReviewStats> findById(Long fruitId);
+
+    List<ReviewStats> findAllById(Iterable<Long> fruitIds);
+
+    List<ReviewStats> findAll();
+
+    long count();
+
+    // 집계 행 잠금 조회 (보정 시 동시 리뷰 작성과 직렬화)
+    Optional<ReviewStats> findByIdForUpdate(Long fruitId);
+
+    // 증감분 반영 (행이 없으면 증감분으로 새로 만듦, 한 문장이라 동시 작성에도 안전)
+    void upsert(Long fruitId, long count, long ratingSum,
+                long rating1Count, long rating2Count, long rating3Count, long rating4Count, long rating5Count);
+
+    // 보정값으로 덮어쓰기 (행이 없으면 새로 만듦)
+    void overwrite(Long fruitId, long count, long ratingSum,
+                   long rating1Count, long rating2Count, long rating3Count, long rating4Count, long rating5Count);
+
+    default void apply(Long fruitId, ReviewStatsDelta delta) {
+        upsert(fruitId, delta.count(), delta.ratingSum(), delta.ratingCount(1), delta.ratingCount(2),
+                delta.ratingCount(3), delta.ratingCount(4), delta.ratingCount(5));
+    }
+
+    // 리뷰 원본에서 다시 계산한 상품별 집계 (리뷰가 없는 상품은 결과에 없음)
+    List<ReviewAggregate> aggregateByFruitIds(Collection<Long> fruitIds);
+
+    List<ReviewAggregate> aggregateAll();
+
+    interface ReviewAggregate {
+
+        Long getFruitId();
+
+        Long getReviewCount();
+
+        Long getRatingSum();
+
+        Long getRating1Count();
+
+        Long getRating2Count();
+
+        Long getRating3Count();
+
+        Long getRating4Count();
+
+        Long getRating5Count();
+    }
+}
@@ -7,6 +7,7 @@ import com.fruitmall.domain.review.domain.ReviewRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,31 +18,64 @@ import java.util.Optional;
 @Repository
 public interface JpaReviewRepository extends JpaRepository<Review, Long>, ReviewRepository {
     
+    // 키셋 조건은 평점 범위(<=, >=)를 앞에 두어 (fruit_id, rating) 인덱스 범위 조회가 되도록 함
+    String FEED_SELECT = "SELECT r.id AS id, r.orderDetail.id AS orderDetailId, m.id AS memberId, " +
+            "m.name AS memberName, r.rating AS rating, r.content AS content, r.reviewDate AS reviewDate, " +
+            "r.imageUrl AS imageUrl, r.createdAt AS createdAt, r.updatedAt AS updatedAt " +
+            "FROM Review r JOIN r.member m WHERE r.fruit.id = :fruitId ";
+    
     List<Review> findByMember(Member member);
     
     Optional<Review> findByOrderDetail(OrderDetail orderDetail);
     
     boolean existsByOrderDetail(OrderDetail orderDetail);
     
-    @Query("SELECT r FROM Review r JOIN r.orderDetail od JOIN od.fruit f WHERE f.id = :fruitId")
+    @Query("SELECT r FROM Review r WHERE r.fruit.id = :fruitId")
     List<Review> findByFruitId(@Param("fruitId") Long fruitId);
     
-    @Query("SELECT r FROM Review r ORDER BY r.createdAt DESC")
+    @Query("SELECT r FROM Review r ORDER BY r.id DESC")
     List<Review> findRecentReviews(Pageable pageable);
     
     default List<Review> findRecentReviews(int limit) {
         return findRecentReviews(PageRequest.of(0, limit));
     }
     
-    @Query("SELECT r FROM Review r JOIN r.orderDetail od JOIN od.fruit f " +
-           "WHERE f.id = :fruitId ORDER BY r.rating DESC")
+    @Query("SELECT r FROM Review r WHERE r.fruit.id = :fruitId ORDER BY r.rating DESC")
     List<Review> findByFruitIdOrderByRatingDesc(@Param("fruitId") Long fruitId);
     
-    @Query("SELECT AVG(r.rating) FROM Review r JOIN r.orderDetail od JOIN od.fruit f " +
-           "WHERE f.id = :fruitId")
+    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.fruit.id = :fruitId")
     Double calculateAverageRatingByFruitId(@Param("fruitId") Long fruitId);
     
-    @Query("SELECT COUNT(r) FROM Review r JOIN r.orderDetail od JOIN od.fruit f " +
-           "WHERE f.id = :fruitId")
+    @Query("SELECT COUNT(r) FROM Review r WHERE r.fruit.id = :fruitId")
     Long countByFruitId(@Param("fruitId") Long fruitId);
-}
\ No newline at end of file
+    
+    @Modifying
+    @Query(value = "UPDATE review SET fruit_id = " +
+                   "(SELECT od.fruit_id FROM order_detail od WHERE od.order_detail_id = review.order_detail_id) " +
+                   "WHERE fruit_id IS NULL",
+           nativeQuery = true)
+    int backfillFruitIds();
+    
+    // 여러 인스턴스가 동시에 시작해도 실패하지 않도록 IF EXISTS 사용
+    @Modifying
+    @Query(value = "ALTER TABLE review DROP INDEX IF EXISTS idx_review_fruit_created", nativeQuery = true)
+    void dropLegacyCreatedIndex();
+    
+    @Query(FEED_SELECT + "AND r.id < :reviewId ORDER BY r.id DESC")
+    List<ReviewFeedRow> findFeedNewest(@Param("fruitId") Long fruitId, @Param("reviewId") Long reviewId,
+                                       Pageable pageable);
+    
+    @Query(FEED_SELECT + "AND r.rating <= :rating AND (r.rating < :rating OR r.id < :reviewId) " +
+           "ORDER BY r.rating DESC, r.id DESC")
+    List<ReviewFeedRow> findFeedHighest(@Param("fruitId") Long fruitId, @Param("rating") Integer rating,
+                                        @Param("reviewId") Long reviewId, Pageable pageable);
+    
+    @Query(FEED_SELECT + "AND r.rating >= :rating AND (r.rating > :rating OR r.id > :reviewId) " +
+           "ORDER BY r.rating ASC, r.id ASC")
+    List<ReviewFeedRow> findFeedLowest(@Param("fruitId") Long fruitId, @Param("rating") Integer rating,
+                                       @Param("reviewId") Long reviewId, Pageable pageable);
+    
+    @Query(FEED_SELECT + "AND r.imageUrl IS NOT NULL AND r.id < :reviewId ORDER BY r.id DESC")
+    List<ReviewFeedRow> findFeedWithPhoto(@Param("fruitId") Long fruitId, @Param("reviewId") Long reviewId,
+                                          Pageable pageable);
+}
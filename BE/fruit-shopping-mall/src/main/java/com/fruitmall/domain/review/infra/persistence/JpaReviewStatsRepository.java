@@ -0,0 +1,62 @@
+package com.fruitmall.domain.review.infra.persistence;
+
+import com.fruitmall.domain.review.domain.ReviewStats;
+import com.fruitmall.domain.review.domain.ReviewStatsRepository;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaReviewStatsRepository extends JpaRepository<ReviewStats, Long>, ReviewStatsRepository {
+
+    String AGGREGATE_SELECT = "SELECT r.fruit.id AS fruitId, COUNT(r) AS reviewCount, SUM(r.rating) AS ratingSum, " +
+            "SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END) AS rating1Count, " +
+            "SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END) AS rating2Count, " +
+            "SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END) AS rating3Count, " +
+            "SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END) AS rating4Count, " +
+            "SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END) AS rating5Count " +
+            "FROM Review r ";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ReviewStats s WHERE s.fruitId = :fruitId")
+    Optional<ReviewStats> findByIdForUpdate(@Param("fruitId") Long fruitId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO review_stats (fruit_id, review_count, rating_sum, " +
+            "rating1_count, rating2_count, rating3_count, rating4_count, rating5_count) " +
+            "VALUES (:fruitId, :count, :ratingSum, :rating1, :rating2, :rating3, :rating4, :rating5) " +
+            "ON DUPLICATE KEY UPDATE review_count = review_count + :count, rating_sum = rating_sum + :ratingSum, " +
+            "rating1_count = rating1_count + :rating1, rating2_count = rating2_count + :rating2, " +
+            "rating3_count = rating3_count + :rating3, rating4_count = rating4_count + :rating4, " +
+            "rating5_count = rating5_count + :rating5", nativeQuery = true)
+    void upsert(@Param("fruitId") Long fruitId, @Param("count") long count, @Param("ratingSum") long ratingSum,
+                @Param("rating1") long rating1Count, @Param("rating2") long rating2Count,
+                @Param("rating3") long rating3Count, @Param("rating4") long rating4Count,
+                @Param("rating5") long rating5Count);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO review_stats (fruit_id, review_count, rating_sum, " +
+            "rating1_count, rating2_count, rating3_count, rating4_count, rating5_count) " +
+            "VALUES (:fruitId, :count, :ratingSum, :rating1, :rating2, :rating3, :rating4, :rating5) " +
+            "ON DUPLICATE KEY UPDATE review_count = :count, rating_sum = :ratingSum, " +
+            "rating1_count = :rating1, rating2_count = :rating2, rating3_count = :rating3, " +
+            "rating4_count = :rating4, rating5_count = :rating5", nativeQuery = true)
+    void overwrite(@Param("fruitId") Long fruitId, @Param("count") long count, @Param("ratingSum") long ratingSum,
+                   @Param("rating1") long rating1Count, @Param("rating2") long rating2Count,
+                   @Param("rating3") long rating3Count, @Param("rating4") long rating4Count,
+                   @Param("rating5") long rating5Count);
+
+    @Query(AGGREGATE_SELECT + "WHERE r.fruit.id IN :fruitIds GROUP BY r.fruit.id")
+    List<ReviewAggregate> aggregateByFruitIds(@Param("fruitIds") Collection<Long> fruitIds);
+
+    @Query(AGGREGATE_SELECT + "WHERE r.fruit.id IS NOT NULL GROUP BY r.fruit.id")
+    List<ReviewAggregate> aggregateAll();
+}
@@ -1,22 +1,33 @@
 package com.fruitmall.domain.wishlist.application.mapper;
 
+import com.fruitmall.domain.fruit.application.FruitStockCache;
 import com.fruitmall.domain.wishlist.application.dto.WishlistDto;
 import com.fruitmall.domain.wishlist.application.dto.WishlistSummaryDto;
 import com.fruitmall.domain.wishlist.domain.Wishlist;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 public class WishlistMapperImpl implements WishlistMapper {
 
+    private final FruitStockCache fruitStockCache;
+
     @Override
     public WishlistDto toDto(Wishlist wishlist) {
         if (wishlist == null) {
             return null;
         }
         
+        Integer stockQuantity = wishlist.getFruit() != null ? fruitStockCache.get(wishlist.getFruit().getId()) : null;
+        return toDto(wishlist, stockQuantity);
+    }
+
+    private WishlistDto toDto(Wishlist wishlist, Integer stockQuantity) {
         return WishlistDto.builder()
                 .id(wishlist.getId())
                 .memberId(wishlist.getMember() != null ? wishlist.getMember().getId() : null)
@@ -24,7 +35,7 @@ public class WishlistMapperImpl implements WishlistMapper {
                 .fruitName(wishlist.getFruit() != null ? wishlist.getFruit().getFruitName() : null)
                 .fruitImageUrl(wishlist.getFruit() != null ? wishlist.getFruit().getImageUrl() : null)
                 .fruitPrice(wishlist.getFruit() != null ? wishlist.getFruit().getPrice() : null)
-                .stockQuantity(wishlist.getFruit() != null ? wishlist.getFruit().getStockQuantity() : null)
+                .stockQuantity(stockQuantity)
                 .origin(wishlist.getFruit() != null ? wishlist.getFruit().getOrigin() : null)
                 .season(wishlist.getFruit() != null ? wishlist.getFruit().getSeason() : null)
                 .addedDate(wishlist.getAddedDate())
@@ -39,8 +50,14 @@ public class WishlistMapperImpl implements WishlistMapper {
             return null;
         }
         
+        // 재고 수량은 목록의 상품을 모아 한 번에 조회
+        Map<Long, Integer> stocks = fruitStockCache.getAll(wishlists.stream()
+                .filter(wishlist -> wishlist.getFruit() != null)
+                .map(wishlist -> wishlist.getFruit().getId())
+                .collect(Collectors.toSet()));
         return wishlists.stream()
-                .map(this::toDto)
+                .map(wishlist -> toDto(wishlist,
+                        wishlist.getFruit() != null ? stocks.get(wishlist.getFruit().getId()) : null))
                 .collect(Collectors.toList());
     }
 
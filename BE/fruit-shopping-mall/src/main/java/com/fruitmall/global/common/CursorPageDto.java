@@ -0,0 +1,15 @@
+package com.fruitmall.global.common;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CursorPageDto<T> {
+
+    private List<T> content;
+    private String nextCursor;  // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -5,6 +5,7 @@ import com.fruitmall.global.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -38,11 +39,15 @@ public class SecurityConfig {
                 .requestMatchers("/auth/**").permitAll()
                 // 과일 상품 조회 (사용자 권한 불필요)
                 .requestMatchers("/fruits/**", "/categories/**").permitAll()
+                // 이미지 조회는 공개, 업로드는 로그인 필요
+                .requestMatchers(HttpMethod.GET, "/images/**").permitAll()
+                .requestMatchers("/images/**").authenticated()
                 // 회원 관련 엔드포인트
                 .requestMatchers("/members/**").authenticated()
                 // 주문 관련 엔드포인트
                 .requestMatchers("/orders/**").authenticated()
-                // 리뷰 관련 엔드포인트
+                // 리뷰 관련 엔드포인트 (상품 목록에 붙는 평점 일괄 조회는 공개)
+                .requestMatchers(HttpMethod.POST, "/reviews/ratings:batch").permitAll()
                 .requestMatchers("/reviews/**").authenticated()
                 // 장바구니 관련 엔드포인트
                 .requestMatchers("/cart/**").authenticated()
@@ -24,10 +24,14 @@ public enum ErrorCode {
     // 상품 관련 에러 코드
     FRUIT_NOT_FOUND(404, "FRUIT-001", "상품을 찾을 수 없습니다"),
     OUT_OF_STOCK(400, "FRUIT-002", "재고가 부족합니다"),
+    CATALOG_NOT_READY(503, "FRUIT-003", "상품 목록을 준비 중입니다. 잠시 후 다시 시도해주세요"),
     
     // 주문 관련 에러 코드
     ORDER_NOT_FOUND(404, "ORDER-001", "주문을 찾을 수 없습니다"),
     CANNOT_CANCEL_ORDER(400, "ORDER-002", "주문을 취소할 수 없습니다"),
+    ORDER_INTAKE_BUSY(503, "ORDER-003", "주문이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+    ORDER_INTAKE_TIMEOUT(503, "ORDER-004", "주문 처리 시간이 초과되었습니다"),
+    IDEMPOTENCY_KEY_MISMATCH(422, "ORDER-005", "같은 멱등 키로 다른 주문을 요청할 수 없습니다"),
     
     // 장바구니 관련 에러 코드
     CART_NOT_FOUND(404, "CART-001", "장바구니를 찾을 수 없습니다"),
@@ -3,6 +3,7 @@ package com.fruitmall.interfaces.web.fruit;
 import com.fruitmall.domain.fruit.application.CategoryService;
 import com.fruitmall.domain.fruit.application.dto.CategoryDto;
 import com.fruitmall.domain.fruit.application.dto.CategoryRequestDto;
+import com.fruitmall.domain.fruit.application.dto.CategorySummaryDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -56,6 +57,13 @@ public class CategoryController {
         return ResponseEntity.ok(categories);
     }
 
+    @Operation(summary = "카테고리별 상품 수 조회", description = "모든 카테고리를 전체 상품 수, 재고 있는 상품 수와 함께 조회합니다")
+    @GetMapping("/summaries")
+    public ResponseEntity<List<CategorySummaryDto>> getCategorySummaries() {
+        List<CategorySummaryDto> summaries = categoryService.findAllWithCounts();
+        return ResponseEntity.ok(summaries);
+    }
+
     @Operation(summary = "카테고리 수정", description = "카테고리 정보를 수정합니다 (관리자 전용)")
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -1,21 +1,48 @@
 package com.fruitmall.interfaces.web.fruit;
 
+import com.fruitmall.domain.fruit.application.FruitCatalogSnapshot;
+import com.fruitmall.domain.fruit.application.FruitImportFormat;
+import com.fruitmall.domain.fruit.application.FruitImportMode;
+import com.fruitmall.domain.fruit.application.FruitImportService;
+import com.fruitmall.domain.fruit.application.FruitPriceService;
 import com.fruitmall.domain.fruit.application.FruitService;
+import com.fruitmall.domain.fruit.application.FruitSortType;
+import com.fruitmall.domain.fruit.application.dto.FruitCatalogItemDto;
 import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.application.dto.FruitFilterRequestDto;
+import com.fruitmall.domain.fruit.application.dto.FruitFilterResultDto;
+import com.fruitmall.domain.fruit.application.dto.FruitImportResultDto;
+import com.fruitmall.domain.fruit.application.dto.FruitLowestPriceDto;
+import com.fruitmall.domain.fruit.application.dto.FruitPriceDto;
 import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
+import com.fruitmall.domain.fruit.application.dto.FruitSearchResultDto;
+import com.fruitmall.domain.fruit.application.dto.FruitSuggestionDto;
 import com.fruitmall.domain.fruit.application.dto.FruitUpdateDto;
+import com.fruitmall.domain.fruit.application.dto.FruitStockDto;
+import com.fruitmall.domain.fruit.application.dto.StockShardingUpdateDto;
 import com.fruitmall.domain.fruit.application.dto.StockUpdateDto;
+import com.fruitmall.domain.review.application.ReviewRatingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -25,6 +52,10 @@ import java.util.List;
 public class FruitController {
 
     private final FruitService fruitService;
+    private final FruitCatalogSnapshot catalogSnapshot;
+    private final FruitImportService fruitImportService;
+    private final FruitPriceService fruitPriceService;
+    private final ReviewRatingService reviewRatingService;
 
     @Operation(summary = "과일 상품 등록", description = "새로운 과일 상품을 등록합니다 (관리자 전용)")
     @PostMapping
@@ -34,6 +65,20 @@ public class FruitController {
         return ResponseEntity.status(HttpStatus.CREATED).body(fruitDto);
     }
 
+    @Operation(summary = "과일 상품 일괄 등록", description = "CSV(헤더 필수) 또는 NDJSON(한 줄에 상품 하나) 본문으로 상품을 일괄 등록합니다. upsert 방식은 상품명·원산지가 같은 기존 상품을 수정하며, 실패한 행은 줄 번호와 함께 반환합니다 (관리자 전용)")
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FruitImportResultDto> importFruits(
+            @Parameter(description = "본문 형식 (csv, ndjson)")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "가져오기 방식 (insert, upsert)")
+            @RequestParam(defaultValue = "insert") String mode,
+            InputStream body) throws IOException {
+        FruitImportResultDto result = fruitImportService.importFruits(
+                body, FruitImportFormat.from(format), FruitImportMode.from(mode));
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "과일 상품 조회", description = "ID로 과일 상품을 조회합니다")
     @GetMapping("/{id}")
     public ResponseEntity<FruitDto> getFruit(
@@ -43,47 +88,142 @@ public class FruitController {
         return ResponseEntity.ok(fruitDto);
     }
 
-    @Operation(summary = "전체 과일 상품 조회", description = "모든 과일 상품을 조회합니다")
+    @Operation(summary = "과일 상품 시점별 가격 조회", description = "지정한 시점(기본값: 현재)에 적용되던 가격을 조회합니다")
+    @GetMapping("/{id}/price")
+    public ResponseEntity<FruitPriceDto> getPriceAt(
+            @Parameter(description = "과일 상품 ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "조회 시점 (예: 2026-10-01T12:00:00)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        FruitPriceDto price = fruitPriceService.priceAt(id, at != null ? at : LocalDateTime.now());
+        return ResponseEntity.ok(price);
+    }
+
+    @Operation(summary = "과일 상품 기간 최저가 조회", description = "최근 N일 동안의 최저가와 현재 가격이 최저가인지 조회합니다")
+    @GetMapping("/{id}/price/lowest")
+    public ResponseEntity<FruitLowestPriceDto> getLowestPrice(
+            @Parameter(description = "과일 상품 ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "조회 기간 (일)")
+            @RequestParam(defaultValue = "30") int days) {
+        FruitLowestPriceDto lowestPrice = fruitPriceService.lowestPrice(id, days);
+        return ResponseEntity.ok(lowestPrice);
+    }
+
+    @Operation(summary = "전체 과일 상품 조회", description = "모든 과일 상품을 조회합니다 (ETag·If-None-Match, gzip 응답 지원, 재고 수량은 상품 조회로 확인)")
+    @ApiResponse(responseCode = "200", description = "상품 목록 (재고 수량 미포함)",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = FruitCatalogItemDto.class))))
+    @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같음 (본문 없음)")
     @GetMapping
-    public ResponseEntity<List<FruitDto>> getAllFruits() {
-        List<FruitDto> fruits = fruitService.findAll();
-        return ResponseEntity.ok(fruits);
+    public ResponseEntity<byte[]> getAllFruits(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return serialized(catalogSnapshot.all(), acceptEncoding, ifNoneMatch);
+    }
+
+    @Operation(summary = "과일 상품명 자동완성", description = "상품명 또는 초성(예: ㅅㄱ → 사과) 접두사로 판매량이 많은 순서대로 추천합니다")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<FruitSuggestionDto>> suggestFruits(
+            @Parameter(description = "입력 중인 검색어", required = true)
+            @RequestParam String q,
+            @Parameter(description = "추천 개수 (최대 10)")
+            @RequestParam(defaultValue = "10") int limit) {
+        List<FruitSuggestionDto> suggestions = fruitService.suggest(q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @Operation(summary = "과일 상품 조건 조회", description = "카테고리·원산지·계절(여러 값은 OR)과 가격 범위·재고 조건을 조합해 정렬·페이지 단위로 조회하고, 원산지·계절·카테고리별 건수를 함께 반환합니다")
+    @GetMapping("/filter")
+    public ResponseEntity<FruitFilterResultDto> filterFruits(
+            @Parameter(description = "카테고리 ID (여러 개 가능)")
+            @RequestParam(required = false) List<Long> categoryId,
+            @Parameter(description = "원산지 (여러 개 가능)")
+            @RequestParam(required = false) List<String> origin,
+            @Parameter(description = "계절 (여러 개 가능)")
+            @RequestParam(required = false) List<String> season,
+            @Parameter(description = "최소 가격")
+            @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "최대 가격")
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "재고 유무 (true: 재고 있음, false: 품절)")
+            @RequestParam(required = false) Boolean inStock,
+            @Parameter(description = "정렬 (ID, NEWEST, PRICE_ASC, PRICE_DESC, NAME)")
+            @RequestParam(defaultValue = "ID") FruitSortType sort,
+            @Parameter(description = "페이지 번호 (0부터 시작)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "리뷰 평균 평점·리뷰 수 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeRatings) {
+        FruitFilterResultDto result = fruitService.filter(FruitFilterRequestDto.builder()
+                .categoryIds(categoryId)
+                .origins(origin)
+                .seasons(season)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .inStock(inStock)
+                .sort(sort)
+                .page(page)
+                .size(size)
+                .build());
+        if (includeRatings) {
+            result = result.withContent(reviewRatingService.withRatings(result.getContent()));
+        }
+        return ResponseEntity.ok(result);
     }
 
-    @Operation(summary = "카테고리별 과일 상품 조회", description = "카테고리 ID로 과일 상품을 조회합니다")
+    @Operation(summary = "카테고리별 과일 상품 조회", description = "카테고리 ID로 과일 상품을 조회합니다 (ETag·If-None-Match, gzip 응답 지원, 재고 수량은 상품 조회로 확인)")
+    @ApiResponse(responseCode = "200", description = "상품 목록 (재고 수량 미포함)",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = FruitCatalogItemDto.class))))
+    @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같음 (본문 없음)")
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<FruitDto>> getFruitsByCategory(
+    public ResponseEntity<byte[]> getFruitsByCategory(
             @Parameter(description = "카테고리 ID", required = true)
-            @PathVariable Long categoryId) {
-        List<FruitDto> fruits = fruitService.findByCategory(categoryId);
-        return ResponseEntity.ok(fruits);
+            @PathVariable Long categoryId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return serialized(catalogSnapshot.category(categoryId), acceptEncoding, ifNoneMatch);
     }
 
-    @Operation(summary = "과일 상품 검색", description = "키워드로 과일 상품을 검색합니다")
+    @Operation(summary = "과일 상품 검색", description = "키워드로 상품명·원산지·계절·설명을 검색해 관련도 순으로 조회합니다 (전체 건수는 X-Total-Count 헤더)")
     @GetMapping("/search")
     public ResponseEntity<List<FruitDto>> searchFruits(
-            @Parameter(description = "검색 키워드", required = true)
-            @RequestParam String keyword) {
-        List<FruitDto> fruits = fruitService.searchByKeyword(keyword);
-        return ResponseEntity.ok(fruits);
+            @Parameter(description = "검색 키워드 (공백으로 여러 단어 검색)", required = true)
+            @RequestParam String keyword,
+            @Parameter(description = "페이지 번호 (0부터 시작)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "리뷰 평균 평점·리뷰 수 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeRatings) {
+        FruitSearchResultDto result = fruitService.searchByKeyword(keyword, page, size);
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(result.getTotalCount()))
+                .body(withRatings(result.getContent(), includeRatings));
     }
 
     @Operation(summary = "원산지별 과일 상품 조회", description = "원산지로 과일 상품을 조회합니다")
     @GetMapping("/origin/{origin}")
     public ResponseEntity<List<FruitDto>> getFruitsByOrigin(
             @Parameter(description = "원산지", required = true)
-            @PathVariable String origin) {
+            @PathVariable String origin,
+            @Parameter(description = "리뷰 평균 평점·리뷰 수 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeRatings) {
         List<FruitDto> fruits = fruitService.findByOrigin(origin);
-        return ResponseEntity.ok(fruits);
+        return ResponseEntity.ok(withRatings(fruits, includeRatings));
     }
 
     @Operation(summary = "계절별 과일 상품 조회", description = "계절로 과일 상품을 조회합니다")
     @GetMapping("/season/{season}")
     public ResponseEntity<List<FruitDto>> getFruitsBySeason(
             @Parameter(description = "계절", required = true)
-            @PathVariable String season) {
+            @PathVariable String season,
+            @Parameter(description = "리뷰 평균 평점·리뷰 수 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeRatings) {
         List<FruitDto> fruits = fruitService.findBySeason(season);
-        return ResponseEntity.ok(fruits);
+        return ResponseEntity.ok(withRatings(fruits, includeRatings));
     }
 
     @Operation(summary = "가격 범위로 과일 상품 조회", description = "최소/최대 가격 범위로 과일 상품을 조회합니다")
@@ -92,16 +232,20 @@ public class FruitController {
             @Parameter(description = "최소 가격", required = true)
             @RequestParam BigDecimal minPrice,
             @Parameter(description = "최대 가격", required = true)
-            @RequestParam BigDecimal maxPrice) {
+            @RequestParam BigDecimal maxPrice,
+            @Parameter(description = "리뷰 평균 평점·리뷰 수 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeRatings) {
         List<FruitDto> fruits = fruitService.findByPriceRange(minPrice, maxPrice);
-        return ResponseEntity.ok(fruits);
+        return ResponseEntity.ok(withRatings(fruits, includeRatings));
     }
 
     @Operation(summary = "재고가 있는 과일 상품 조회", description = "재고가 있는 과일 상품만 조회합니다")
     @GetMapping("/in-stock")
-    public ResponseEntity<List<FruitDto>> getInStockFruits() {
+    public ResponseEntity<List<FruitDto>> getInStockFruits(
+            @Parameter(description = "리뷰 평균 평점·리뷰 수 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeRatings) {
         List<FruitDto> fruits = fruitService.findInStock();
-        return ResponseEntity.ok(fruits);
+        return ResponseEntity.ok(withRatings(fruits, includeRatings));
     }
 
     @Operation(summary = "과일 상품 정보 수정", description = "과일 상품 정보를 수정합니다 (관리자 전용)")
@@ -118,11 +262,22 @@ public class FruitController {
     @Operation(summary = "과일 상품 재고 수정", description = "과일 상품의 재고를 수정합니다 (관리자 전용)")
     @PutMapping("/{id}/stock")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<FruitDto> updateStock(
+    public ResponseEntity<FruitStockDto> updateStock(
             @Parameter(description = "과일 상품 ID", required = true)
             @PathVariable Long id,
             @Valid @RequestBody StockUpdateDto dto) {
-        FruitDto updatedFruit = fruitService.updateStock(id, dto);
+        FruitStockDto updatedFruit = fruitService.updateStock(id, dto);
+        return ResponseEntity.ok(updatedFruit);
+    }
+
+    @Operation(summary = "과일 상품 분할 재고 설정", description = "주문이 몰리는 상품의 재고를 여러 행으로 나누거나 해제하고, 분할 행을 재분배합니다 (관리자 전용)")
+    @PutMapping("/{id}/stock/shards")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FruitStockDto> updateStockSharding(
+            @Parameter(description = "과일 상품 ID", required = true)
+            @PathVariable Long id,
+            @Valid @RequestBody StockShardingUpdateDto dto) {
+        FruitStockDto updatedFruit = fruitService.updateStockSharding(id, dto);
         return ResponseEntity.ok(updatedFruit);
     }
 
@@ -135,4 +290,80 @@ public class FruitController {
         fruitService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    // 미리 직렬화한 목록을 그대로 응답 (클라이언트가 같은 ETag를 가지고 있으면 304)
+    private ResponseEntity<byte[]> serialized(FruitCatalogSnapshot.Entry entry,
+                                              String acceptEncoding, String ifNoneMatch) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? entry.getGzipEtag() : entry.getEtag();
+
+        if (matchesAny(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.getGzip());
+        }
+        return builder.body(entry.getJson());
+    }
+
+    // Accept-Encoding에서 gzip의 q 값 확인 (gzip이 없으면 *를 따르고, q=0은 거부)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim();
+            double quality = 1.0;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                gzipQuality = quality;
+            } else if (name.equals("*")) {
+                anyQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : anyQuality;
+        return quality != null && quality > 0;
+    }
+
+    // If-None-Match의 쉼표로 구분된 ETag 중 하나가 일치하는지 확인 (*는 항상 일치, W/ 접두사는 약한 비교로 무시)
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 요청한 경우에만 리뷰 평점을 한 번에 채움
+    private List<FruitDto> withRatings(List<FruitDto> fruits, boolean includeRatings) {
+        return includeRatings ? reviewRatingService.withRatings(fruits) : fruits;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.fruitmall.interfaces.web.image;
+
+import com.fruitmall.domain.image.application.ImageService;
+import com.fruitmall.domain.image.application.dto.ImageFileDto;
+import com.fruitmall.domain.image.application.dto.ImageUploadDto;
+import com.fruitmall.domain.image.domain.ImageVariant;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/images")
+@RequiredArgsConstructor
+@Tag(name = "이미지", description = "상품·리뷰 이미지 업로드 및 조회 API")
+public class ImageController {
+
+    // 내용 해시 주소라 같은 URL의 내용은 바뀌지 않음
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final ImageService imageService;
+
+    @Operation(summary = "이미지 업로드", description = "JPEG·PNG·GIF 이미지를 업로드하고 원본·썸네일·카드 이미지 URL을 반환합니다. 축소본은 업로드 후 백그라운드에서 생성됩니다")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ImageUploadDto> upload(@RequestParam("file") MultipartFile file) {
+        ImageUploadDto image = imageService.upload(file);
+        return ResponseEntity.status(HttpStatus.CREATED).body(image);
+    }
+
+    @Operation(summary = "원본 이미지 조회", description = "업로드한 원본 이미지를 조회합니다")
+    @GetMapping("/{imageId}")
+    public ResponseEntity<Resource> getImage(
+            @Parameter(description = "이미지 ID", required = true)
+            @PathVariable String imageId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return serve(imageService.load(imageId, null), ifNoneMatch);
+    }
+
+    @Operation(summary = "축소 이미지 조회", description = "썸네일(thumbnail) 또는 카드(card) 크기 이미지를 조회합니다. 아직 생성 중이면 원본을 캐시 없이 응답합니다")
+    @GetMapping("/{imageId}/{variant}")
+    public ResponseEntity<Resource> getImageVariant(
+            @Parameter(description = "이미지 ID", required = true)
+            @PathVariable String imageId,
+            @Parameter(description = "크기 (thumbnail, card)", required = true)
+            @PathVariable String variant,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return serve(imageService.load(imageId, ImageVariant.from(variant)), ifNoneMatch);
+    }
+
+    // 파일을 Resource로 응답 (힙에 전체를 올리지 않고 스트리밍, Range 요청도 처리됨)
+    private ResponseEntity<Resource> serve(ImageFileDto image, String ifNoneMatch) {
+        if (!image.isImmutable()) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.parseMediaType(image.getContentType()))
+                    .body(new FileSystemResource(image.getPath()));
+        }
+        if (image.getEtag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(image.getEtag())
+                    .cacheControl(IMMUTABLE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(image.getEtag())
+                .cacheControl(IMMUTABLE)
+                .contentType(MediaType.parseMediaType(image.getContentType()))
+                .body(new FileSystemResource(image.getPath()));
+    }
+}
@@ -1,10 +1,18 @@
 package com.fruitmall.interfaces.web.order;
 
+import com.fruitmall.domain.order.application.OrderExportFormat;
+import com.fruitmall.domain.order.application.OrderExportService;
+import com.fruitmall.domain.order.application.OrderIdempotencyService;
+import com.fruitmall.domain.order.application.OrderIntakePipeline;
 import com.fruitmall.domain.order.application.OrderService;
+import com.fruitmall.domain.order.application.dto.BulkUpdateOrderStatusRequestDto;
+import com.fruitmall.domain.order.application.dto.BulkUpdateOrderStatusResponseDto;
 import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
 import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderSummaryDto;
 import com.fruitmall.domain.order.application.dto.UpdateOrderStatusRequestDto;
 import com.fruitmall.domain.order.domain.OrderStatus;
+import com.fruitmall.global.common.CursorPageDto;
 import com.fruitmall.global.security.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,10 +20,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -27,15 +38,25 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIntakePipeline orderIntakePipeline;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderExportService orderExportService;
 
-    @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다")
+    @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다 (Idempotency-Key 헤더로 재시도 시 중복 주문 방지)")
     @PostMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<OrderDto> createOrder(@Valid @RequestBody CreateOrderRequestDto dto) {
+    public ResponseEntity<OrderDto> createOrder(
+            @Parameter(description = "멱등 키 (같은 키로 재요청하면 기존 주문을 반환)")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody CreateOrderRequestDto dto) {
         Long memberId = SecurityUtil.getCurrentMemberId()
                 .orElseThrow(() -> new IllegalStateException("로그인 유저 정보가 없습니다"));
         
-        OrderDto orderDto = orderService.createOrder(memberId, dto);
+        // 그룹 커밋 모드가 켜져 있으면 접수 큐를 거쳐 배치로 저장
+        OrderDto orderDto = orderIdempotencyService.createOnce(memberId, idempotencyKey, dto,
+                () -> orderIntakePipeline.isEnabled()
+                        ? orderIntakePipeline.submit(memberId, dto, idempotencyKey)
+                        : orderService.createOrder(memberId, dto, idempotencyKey));
         return ResponseEntity.status(HttpStatus.CREATED).body(orderDto);
     }
 
@@ -60,6 +81,32 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "내 주문 요약 목록 조회", description = "현재 로그인한 회원의 주문 요약(상태, 총액, 상품 종류 수) 목록을 최신순으로 조회합니다 (주문 상세 미포함)")
+    @GetMapping("/my-orders/summary")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<OrderSummaryDto>> getMyOrderSummaries() {
+        Long memberId = SecurityUtil.getCurrentMemberId()
+                .orElseThrow(() -> new IllegalStateException("로그인 유저 정보가 없습니다"));
+        
+        List<OrderSummaryDto> orders = orderService.findSummariesByMember(memberId);
+        return ResponseEntity.ok(orders);
+    }
+
+    @Operation(summary = "내 주문 목록 페이지 조회", description = "현재 로그인한 회원의 주문 목록을 최신순으로 커서 페이지 조회합니다")
+    @GetMapping("/my-orders/page")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPageDto<OrderDto>> getMyOrdersPage(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size) {
+        Long memberId = SecurityUtil.getCurrentMemberId()
+                .orElseThrow(() -> new IllegalStateException("로그인 유저 정보가 없습니다"));
+        
+        CursorPageDto<OrderDto> orders = orderService.findByMember(memberId, cursor, size);
+        return ResponseEntity.ok(orders);
+    }
+
     @Operation(summary = "회원별 주문 목록 조회", description = "특정 회원의 주문 목록을 조회합니다 (관리자 전용)")
     @GetMapping("/member/{memberId}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -70,6 +117,30 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "회원별 주문 요약 목록 조회", description = "특정 회원의 주문 요약 목록을 최신순으로 조회합니다 (주문 상세 미포함, 관리자 전용)")
+    @GetMapping("/member/{memberId}/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<OrderSummaryDto>> getOrderSummariesByMember(
+            @Parameter(description = "회원 ID", required = true)
+            @PathVariable Long memberId) {
+        List<OrderSummaryDto> orders = orderService.findSummariesByMember(memberId);
+        return ResponseEntity.ok(orders);
+    }
+
+    @Operation(summary = "회원별 주문 목록 페이지 조회", description = "특정 회원의 주문 목록을 최신순으로 커서 페이지 조회합니다 (관리자 전용)")
+    @GetMapping("/member/{memberId}/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageDto<OrderDto>> getOrdersByMemberPage(
+            @Parameter(description = "회원 ID", required = true)
+            @PathVariable Long memberId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageDto<OrderDto> orders = orderService.findByMember(memberId, cursor, size);
+        return ResponseEntity.ok(orders);
+    }
+
     @Operation(summary = "주문 상태별 조회", description = "주문 상태로 주문을 조회합니다 (관리자 전용)")
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -80,6 +151,16 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "주문 상태별 요약 조회", description = "주문 상태로 주문 요약 목록을 최신순으로 조회합니다 (주문 상세 미포함, 관리자 전용)")
+    @GetMapping("/status/{status}/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<OrderSummaryDto>> getOrderSummariesByStatus(
+            @Parameter(description = "주문 상태", required = true)
+            @PathVariable OrderStatus status) {
+        List<OrderSummaryDto> orders = orderService.findSummariesByOrderStatus(status);
+        return ResponseEntity.ok(orders);
+    }
+
     @Operation(summary = "기간별 주문 조회", description = "특정 기간 내의 주문을 조회합니다 (관리자 전용)")
     @GetMapping("/date-range")
     @PreAuthorize("hasRole('ADMIN')")
@@ -92,6 +173,39 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "기간별 주문 요약 조회", description = "특정 기간 내의 주문 요약 목록을 주문일순으로 조회합니다 (주문 상세 미포함, 관리자 전용)")
+    @GetMapping("/date-range/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<OrderSummaryDto>> getOrderSummariesByDateRange(
+            @Parameter(description = "시작 날짜 (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        List<OrderSummaryDto> orders = orderService.findSummariesByOrderDateBetween(startDate, endDate);
+        return ResponseEntity.ok(orders);
+    }
+
+    @Operation(summary = "주문 내보내기", description = "특정 기간의 주문 상세를 CSV 또는 NDJSON으로 스트리밍 내보냅니다 (관리자 전용)")
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "시작 날짜 (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 날짜 (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "형식 (csv, ndjson)")
+            @RequestParam(defaultValue = "csv") String format) {
+        OrderExportFormat exportFormat = OrderExportFormat.from(format);
+        orderExportService.validate(from, to);
+        
+        String filename = "orders_" + from + "_" + to + "." + exportFormat.getExtension();
+        StreamingResponseBody body = out -> orderExportService.export(from, to, exportFormat, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
+
     @Operation(summary = "주문 상태 변경", description = "주문 상태를 변경합니다 (관리자는 모든 상태, 일반 회원은 취소만 가능)")
     @PutMapping("/{id}/status")
     @PreAuthorize("isAuthenticated()")
@@ -103,6 +217,15 @@ public class OrderController {
         return ResponseEntity.ok(updatedOrder);
     }
 
+    @Operation(summary = "주문 상태 일괄 변경", description = "주문 ID 목록 또는 현재 상태와 기간으로 지정한 주문들의 상태를 한 번에 변경합니다 (관리자 전용)")
+    @PutMapping("/status/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkUpdateOrderStatusResponseDto> updateOrderStatusBulk(
+            @Valid @RequestBody BulkUpdateOrderStatusRequestDto dto) {
+        BulkUpdateOrderStatusResponseDto result = orderService.updateOrderStatusBulk(dto);
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "주문 취소", description = "주문을 취소합니다")
     @PutMapping("/{id}/cancel")
     @PreAuthorize("isAuthenticated()")
@@ -1,8 +1,16 @@
 package com.fruitmall.interfaces.web.review;
 
+import com.fruitmall.domain.review.application.ReviewRatingService;
 import com.fruitmall.domain.review.application.ReviewService;
+import com.fruitmall.domain.review.application.ReviewSort;
+import com.fruitmall.domain.review.application.ReviewStatsReconciler;
 import com.fruitmall.domain.review.application.dto.CreateReviewRequestDto;
 import com.fruitmall.domain.review.application.dto.ReviewDto;
+import com.fruitmall.domain.review.application.dto.ReviewFeedDto;
+import com.fruitmall.domain.review.application.dto.ReviewRatingBatchRequestDto;
+import com.fruitmall.domain.review.application.dto.ReviewRatingDto;
+import com.fruitmall.domain.review.application.dto.ReviewStatsDto;
+import com.fruitmall.domain.review.application.dto.ReviewStatsReconcileResultDto;
 import com.fruitmall.domain.review.application.dto.ReviewSummaryDto;
 import com.fruitmall.domain.review.application.dto.UpdateReviewRequestDto;
 import com.fruitmall.global.security.SecurityUtil;
@@ -25,6 +33,8 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ReviewStatsReconciler reviewStatsReconciler;
+    private final ReviewRatingService reviewRatingService;
 
     @Operation(summary = "리뷰 작성", description = "상품에 대한 리뷰를 작성합니다")
     @PostMapping
@@ -75,6 +85,45 @@ public class ReviewController {
         return ResponseEntity.ok(reviewSummary);
     }
 
+    @Operation(summary = "상품 리뷰 페이지 조회", description = "특정 상품의 리뷰를 정렬 기준별로 커서 페이지 조회합니다 (리뷰 수·평균 평점은 전체 기준)")
+    @GetMapping("/fruit/{fruitId}/page")
+    public ResponseEntity<ReviewFeedDto> getReviewFeedByFruit(
+            @Parameter(description = "상품 ID", required = true)
+            @PathVariable Long fruitId,
+            @Parameter(description = "정렬 (newest, highest, lowest, photo)")
+            @RequestParam(defaultValue = "newest") String sort,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size) {
+        ReviewFeedDto feed = reviewService.findFeedByFruitId(fruitId, ReviewSort.from(sort), cursor, size);
+        return ResponseEntity.ok(feed);
+    }
+
+    @Operation(summary = "상품 리뷰 집계 조회", description = "특정 상품의 평균 평점, 리뷰 수, 평점별 리뷰 수를 조회합니다")
+    @GetMapping("/fruit/{fruitId}/stats")
+    public ResponseEntity<ReviewStatsDto> getReviewStatsByFruit(
+            @Parameter(description = "상품 ID", required = true)
+            @PathVariable Long fruitId) {
+        ReviewStatsDto stats = reviewService.findStatsByFruitId(fruitId);
+        return ResponseEntity.ok(stats);
+    }
+
+    @Operation(summary = "상품 평점 일괄 조회", description = "여러 상품의 평균 평점과 리뷰 수를 한 번에 조회합니다 (최대 200개)")
+    @PostMapping("/ratings:batch")
+    public ResponseEntity<List<ReviewRatingDto>> getRatings(@Valid @RequestBody ReviewRatingBatchRequestDto dto) {
+        List<ReviewRatingDto> ratings = reviewRatingService.findRatings(dto.getFruitIds());
+        return ResponseEntity.ok(ratings);
+    }
+
+    @Operation(summary = "리뷰 집계 보정", description = "리뷰 원본으로 상품별 리뷰 집계를 다시 계산해 어긋난 값을 보정합니다 (관리자 전용)")
+    @PostMapping("/stats/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ReviewStatsReconcileResultDto> reconcileReviewStats() {
+        ReviewStatsReconcileResultDto result = reviewStatsReconciler.reconcile();
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "최근 리뷰 목록 조회", description = "최근 작성된 리뷰 목록을 조회합니다")
     @GetMapping("/recent")
     public ResponseEntity<List<ReviewDto>> getRecentReviews(
@@ -0,0 +1,160 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.CategoryDto;
+import com.fruitmall.domain.fruit.application.dto.CategoryRequestDto;
+import com.fruitmall.domain.fruit.application.dto.CategorySummaryDto;
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
+import com.fruitmall.domain.fruit.application.dto.StockUpdateDto;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.OrderService;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.global.error.BusinessException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CategoryServiceTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private FruitService fruitService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void 카테고리별_상품_수와_재고_있는_상품_수를_집계하고_재고가_바뀌면_다시_계산한다() {
+        Category category = createCategory();
+        register(category.getId(), 10);
+        FruitDto soldOut = register(category.getId(), 0);
+
+        CategorySummaryDto summary = summary(category.getId());
+        assertThat(summary.getFruitCount()).isEqualTo(2);
+        assertThat(summary.getInStockCount()).isEqualTo(1);
+
+        fruitService.updateStock(soldOut.getId(), new StockUpdateDto(5));
+
+        assertThat(summary(category.getId()).getInStockCount()).isEqualTo(2);
+        // 새 카테고리는 등록 이벤트로 집계 캐시가 갱신되어 상품 수 0으로 조회됨
+        CategoryDto empty = categoryService.register(CategoryRequestDto.builder()
+                .name("빈집계-" + UUID.randomUUID().toString().substring(0, 8))
+                .build());
+        assertThat(summary(empty.getId()).getFruitCount()).isZero();
+    }
+
+    @Test
+    void 주문으로_재고가_줄어도_재고_있음_여부가_그대로면_집계_캐시를_유지한다() {
+        Category category = createCategory();
+        FruitDto fruit = register(category.getId(), 3);
+        Member member = createMember();
+
+        List<CategorySummaryDto> cached = categoryService.findAllWithCounts();
+        order(member, fruit.getId(), 2);
+        assertThat(categoryService.findAllWithCounts()).isSameAs(cached);
+
+        // 마지막 재고가 팔리면 재고 있음 여부가 바뀌어 다시 집계
+        order(member, fruit.getId(), 1);
+        assertThat(categoryService.findAllWithCounts()).isNotSameAs(cached);
+        assertThat(summary(category.getId()).getInStockCount()).isZero();
+    }
+
+    @Test
+    void 카테고리_조회와_삭제_확인은_상품_컬렉션을_초기화하지_않는다() {
+        Category category = createCategory();
+        register(category.getId(), 1);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            categoryService.findById(category.getId());
+            categoryService.findByName(category.getName());
+            categoryService.findAll();
+            assertThatThrownBy(() -> categoryService.delete(category.getId()))
+                    .isInstanceOf(BusinessException.class);
+
+            // 같은 영속성 컨텍스트에 올라온 카테고리의 상품 컬렉션이 초기화되지 않았는지 확인
+            Category loaded = entityManager.find(Category.class, category.getId());
+            assertThat(entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(loaded, "fruits"))
+                    .isFalse();
+        });
+    }
+
+    private void order(Member member, Long fruitId, int quantity) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                member.getUsername(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        try {
+            orderService.createOrder(member.getId(),
+                    new CreateOrderRequestDto(List.of(new OrderItemRequestDto(fruitId, quantity)), "CARD"));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private Member createMember() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return memberRepository.save(Member.builder()
+                .username("buyer-" + suffix)
+                .email("buyer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("구매자")
+                .build());
+    }
+
+    private CategorySummaryDto summary(Long categoryId) {
+        return categoryService.findAllWithCounts().stream()
+                .filter(summary -> summary.getId().equals(categoryId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private FruitDto register(Long categoryId, int stockQuantity) {
+        return fruitService.register(FruitRegisterDto.builder()
+                .fruitName("감귤")
+                .origin("제주")
+                .stockQuantity(stockQuantity)
+                .price(new BigDecimal("3000"))
+                .categoryId(categoryId)
+                .build());
+    }
+
+    private Category createCategory() {
+        return categoryRepository.save(Category.builder()
+                .name("집계-" + UUID.randomUUID().toString().substring(0, 8))
+                .build());
+    }
+}
@@ -0,0 +1,178 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
+import com.fruitmall.domain.fruit.application.dto.FruitStockDto;
+import com.fruitmall.domain.fruit.application.dto.FruitUpdateDto;
+import com.fruitmall.domain.fruit.application.dto.StockShardingUpdateDto;
+import com.fruitmall.domain.fruit.application.dto.StockUpdateDto;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.OrderService;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FruitCatalogCacheTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    @Autowired
+    private FruitService fruitService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private FruitCatalogCache fruitCatalogCache;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 재고가_바뀌면_캐시된_상품이_무효화된다() {
+        Category category = createCategory();
+        FruitDto fruit = fruitService.register(registerDto(category.getId(), "제주"));
+        assertThat(fruitService.findById(fruit.getId()).getStockQuantity()).isEqualTo(10);
+
+        fruitService.updateStock(fruit.getId(), new StockUpdateDto(7));
+        assertThat(fruitService.findById(fruit.getId()).getStockQuantity()).isEqualTo(7);
+
+        orderService.createOrder(createMember().getId(), new CreateOrderRequestDto(
+                List.of(new OrderItemRequestDto(fruit.getId(), 2)), "CARD"));
+        assertThat(fruitService.findById(fruit.getId()).getStockQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    void 분할_재고_상품은_분할_행_합계가_재고로_보인다() {
+        Category category = createCategory();
+        FruitDto fruit = fruitService.register(registerDto(category.getId(), "제주"));
+        FruitStockDto sharded = fruitService.updateStockSharding(fruit.getId(), new StockShardingUpdateDto(4));
+        assertThat(sharded.getStockShardCount()).isEqualTo(4);
+        assertThat(sharded.getFruit().getStockQuantity()).isEqualTo(10);
+        assertThat(fruitService.findById(fruit.getId()).getStockQuantity()).isEqualTo(10);
+
+        orderService.createOrder(createMember().getId(), new CreateOrderRequestDto(
+                List.of(new OrderItemRequestDto(fruit.getId(), 3)), "CARD"));
+        assertThat(fruitService.findById(fruit.getId()).getStockQuantity()).isEqualTo(7);
+        assertThat(fruitService.findInStock()).extracting(FruitDto::getId).contains(fruit.getId());
+    }
+
+    @Test
+    void 상품_정보가_바뀌면_이전_목록과_새_목록이_모두_갱신된다() {
+        Category category = createCategory();
+        FruitDto fruit = fruitService.register(registerDto(category.getId(), "제주"));
+        assertThat(fruitService.findByOrigin("제주")).extracting(FruitDto::getId).contains(fruit.getId());
+        assertThat(fruitService.findByOrigin("충주")).extracting(FruitDto::getId).doesNotContain(fruit.getId());
+
+        fruitService.update(fruit.getId(), FruitUpdateDto.builder()
+                .fruitName("사과")
+                .origin("충주")
+                .price(new BigDecimal("3000"))
+                .categoryId(category.getId())
+                .season("가을")
+                .build());
+
+        assertThat(fruitService.findByOrigin("제주")).extracting(FruitDto::getId).doesNotContain(fruit.getId());
+        assertThat(fruitService.findByOrigin("충주")).extracting(FruitDto::getId).contains(fruit.getId());
+        assertThat(fruitService.findById(fruit.getId()).getFruitName()).isEqualTo("사과");
+    }
+
+    @Test
+    void 같은_목록을_동시에_요청해도_한_번만_조회한다() throws Exception {
+        Category category = createCategory();
+        FruitDto fruit = fruitService.register(registerDto(category.getId(), "제주"));
+        String key = "concurrent:" + UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<List<FruitDto>>> results = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                // 서비스처럼 트랜잭션 안에서 조회 (상품 매핑 시 카테고리 지연 로딩)
+                return new TransactionTemplate(transactionManager).execute(status ->
+                        fruitCatalogCache.getList(key, () -> {
+                            loads.incrementAndGet();
+                            sleep();
+                            return List.of(fruitRepository.findById(fruit.getId()).orElseThrow());
+                        }));
+            }));
+        }
+        start.countDown();
+        for (Future<List<FruitDto>> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).extracting(FruitDto::getId).containsExactly(fruit.getId());
+        }
+        executor.shutdown();
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private FruitRegisterDto registerDto(Long categoryId, String origin) {
+        return FruitRegisterDto.builder()
+                .fruitName("감귤")
+                .origin(origin)
+                .stockQuantity(10)
+                .price(new BigDecimal("5000"))
+                .categoryId(categoryId)
+                .season("겨울")
+                .build();
+    }
+
+    private Category createCategory() {
+        return categoryRepository.save(Category.builder()
+                .name("캐시-" + UUID.randomUUID().toString().substring(0, 8))
+                .build());
+    }
+
+    private Member createMember() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return memberRepository.save(Member.builder()
+                .username("buyer-" + suffix)
+                .email("buyer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("구매자")
+                .build());
+    }
+}
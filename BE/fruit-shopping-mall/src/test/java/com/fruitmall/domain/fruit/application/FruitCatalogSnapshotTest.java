@@ -0,0 +1,86 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
+import com.fruitmall.domain.fruit.application.dto.StockUpdateDto;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FruitCatalogSnapshotTest {
+
+    @Autowired
+    private FruitCatalogSnapshot catalogSnapshot;
+
+    @Autowired
+    private FruitService fruitService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void 재구성하면_변경된_상품이_반영되고_ETag가_바뀐다() {
+        Category category = createCategory();
+        catalogSnapshot.rebuild();
+        FruitCatalogSnapshot.Entry before = catalogSnapshot.category(category.getId());
+        assertThat(new String(before.getJson(), StandardCharsets.UTF_8)).isEqualTo("[]");
+
+        FruitDto fruit = fruitService.register(registerDto(category.getId()));
+        catalogSnapshot.rebuild();
+        FruitCatalogSnapshot.Entry registered = catalogSnapshot.category(category.getId());
+        assertThat(new String(registered.getJson(), StandardCharsets.UTF_8))
+                .contains("\"id\":" + fruit.getId());
+        assertThat(registered.getEtag()).isNotEqualTo(before.getEtag());
+
+        // 재고는 스냅샷에 없으므로 재고가 바뀌어도 내용과 ETag가 그대로
+        fruitService.updateStock(fruit.getId(), new StockUpdateDto(3));
+        catalogSnapshot.rebuild();
+        assertThat(catalogSnapshot.category(category.getId()).getEtag()).isEqualTo(registered.getEtag());
+    }
+
+    @Test
+    void 내용이_같으면_ETag가_같고_gzip은_같은_JSON으로_풀린다() throws IOException {
+        catalogSnapshot.rebuild();
+        FruitCatalogSnapshot.Entry first = catalogSnapshot.all();
+        catalogSnapshot.rebuild();
+        FruitCatalogSnapshot.Entry second = catalogSnapshot.all();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getEtag()).isEqualTo(first.getEtag());
+        assertThat(second.getGzipEtag()).isNotEqualTo(second.getEtag());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(second.getGzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(second.getJson());
+        }
+    }
+
+    private FruitRegisterDto registerDto(Long categoryId) {
+        return FruitRegisterDto.builder()
+                .fruitName("한라봉")
+                .origin("제주")
+                .stockQuantity(10)
+                .price(new BigDecimal("8000"))
+                .categoryId(categoryId)
+                .season("겨울")
+                .build();
+    }
+
+    private Category createCategory() {
+        return categoryRepository.save(Category.builder()
+                .name("스냅샷-" + UUID.randomUUID().toString().substring(0, 8))
+                .build());
+    }
+}
@@ -0,0 +1,115 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.application.dto.FruitFilterRequestDto;
+import com.fruitmall.domain.fruit.application.dto.FruitFilterResultDto;
+import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
+import com.fruitmall.domain.fruit.application.dto.StockUpdateDto;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FruitFacetIndexTest {
+
+    @Autowired
+    private FruitService fruitService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Long categoryId;
+    private FruitDto jejuWinter;
+    private FruitDto jejuSummer;
+    private FruitDto naju;
+
+    @BeforeEach
+    void setUp() {
+        categoryId = categoryRepository.save(Category.builder()
+                .name("패싯-" + UUID.randomUUID().toString().substring(0, 8))
+                .build()).getId();
+        jejuWinter = register("한라봉", "제주", "겨울", "12000", 5);
+        jejuSummer = register("애플망고", "제주", "여름", "30000", 0);
+        naju = register("나주배", "나주", "가을", "8000", 3);
+    }
+
+    @Test
+    void 선택한_항목을_제외한_조건으로_패싯_건수를_계산한다() {
+        FruitFilterResultDto result = fruitService.filter(filter()
+                .origins(List.of("제주"))
+                .build());
+
+        assertThat(ids(result)).containsExactly(jejuWinter.getId(), jejuSummer.getId());
+        assertThat(result.getTotalCount()).isEqualTo(2);
+        // 원산지 패싯은 원산지 조건을 빼고 계산하므로 나주도 표시
+        assertThat(result.getOriginCounts()).containsEntry("제주", 2).containsEntry("나주", 1);
+        assertThat(result.getSeasonCounts()).containsEntry("겨울", 1).containsEntry("여름", 1)
+                .doesNotContainKey("가을");
+        assertThat(result.getCategoryCounts()).containsEntry(categoryId, 2);
+    }
+
+    @Test
+    void 가격_재고_조건과_정렬_페이지를_함께_적용한다() {
+        FruitFilterResultDto inStock = fruitService.filter(filter()
+                .inStock(true)
+                .sort(FruitSortType.PRICE_DESC)
+                .build());
+        assertThat(ids(inStock)).containsExactly(jejuWinter.getId(), naju.getId());
+
+        FruitFilterResultDto priceBand = fruitService.filter(filter()
+                .minPrice(new BigDecimal("10000"))
+                .maxPrice(new BigDecimal("50000"))
+                .sort(FruitSortType.PRICE_ASC)
+                .size(1)
+                .page(1)
+                .build());
+        assertThat(priceBand.getTotalCount()).isEqualTo(2);
+        assertThat(ids(priceBand)).containsExactly(jejuSummer.getId());
+    }
+
+    @Test
+    void 재고가_바뀌면_재고_조건_결과에_반영된다() {
+        fruitService.updateStock(jejuSummer.getId(), new StockUpdateDto(10));
+
+        FruitFilterResultDto result = fruitService.filter(filter()
+                .inStock(true)
+                .build());
+
+        assertThat(ids(result)).contains(jejuSummer.getId());
+    }
+
+    private FruitFilterRequestDto.FruitFilterRequestDtoBuilder filter() {
+        return FruitFilterRequestDto.builder()
+                .categoryIds(List.of(categoryId))
+                .page(0)
+                .size(20);
+    }
+
+    // 이 테스트에서 등록한 상품만 비교 (다른 테스트의 상품은 제외)
+    private List<Long> ids(FruitFilterResultDto result) {
+        List<Long> fixtureIds = List.of(jejuWinter.getId(), jejuSummer.getId(), naju.getId());
+        return result.getContent().stream().map(FruitDto::getId).filter(fixtureIds::contains).toList();
+    }
+
+    private FruitDto register(String name, String origin, String season, String price, int stock) {
+        return fruitService.register(FruitRegisterDto.builder()
+                .fruitName(name)
+                .origin(origin)
+                .season(season)
+                .stockQuantity(stock)
+                .price(new BigDecimal(price))
+                .categoryId(categoryId)
+                .build());
+    }
+}
@@ -0,0 +1,112 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.application.dto.FruitImportErrorDto;
+import com.fruitmall.domain.fruit.application.dto.FruitImportResultDto;
+import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "fruit.import.batch-size=2")
+@ActiveProfiles("test")
+class FruitImportServiceTest {
+
+    @Autowired
+    private FruitImportService fruitImportService;
+
+    @Autowired
+    private FruitService fruitService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Long categoryId;
+    private String suffix;
+
+    @BeforeEach
+    void setUp() {
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+        categoryId = categoryRepository.save(Category.builder()
+                .name("가져오기-" + suffix)
+                .build()).getId();
+    }
+
+    @Test
+    void CSV에서_유효한_행만_저장하고_실패한_행은_줄_번호와_함께_반환한다() throws IOException {
+        String csv = "fruit_name,origin,stock_quantity,price,category_id,season,description\n" +
+                "사과" + suffix + ",경북,10,3000," + categoryId + ",가을,\"아삭하고, 달콤한\n햇사과\"\n" +
+                "배" + suffix + ",나주,5,4000," + categoryId + ",가을,\n" +
+                ",제주,1,1000," + categoryId + ",,\n" +
+                "감" + suffix + ",상주,많음,2000," + categoryId + ",,\n" +
+                "귤" + suffix + ",제주,3,1500,999999,겨울,\n" +
+                "포도" + suffix + ",김천,7,6000," + categoryId + ",여름,\n";
+
+        FruitImportResultDto result = import_(csv, FruitImportFormat.CSV, FruitImportMode.INSERT);
+
+        assertThat(result.getTotalRows()).isEqualTo(6);
+        assertThat(result.getInsertedCount()).isEqualTo(3);
+        assertThat(result.getFailedCount()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(FruitImportErrorDto::getLine).containsExactly(5L, 6L, 7L);
+
+        List<FruitDto> imported = fruitService.searchByKeyword("사과" + suffix, 0, 10).getContent().stream()
+                .filter(fruit -> fruit.getFruitName().equals("사과" + suffix))
+                .toList();
+        assertThat(imported).hasSize(1);
+        FruitDto apple = fruitService.findById(imported.get(0).getId());
+        assertThat(apple.getDescription()).isEqualTo("아삭하고, 달콤한\n햇사과");
+        assertThat(apple.getStockQuantity()).isEqualTo(10);
+        assertThat(fruitService.findByCategory(categoryId)).hasSize(3);
+    }
+
+    @Test
+    void upsert는_상품명과_원산지가_같은_상품을_수정한다() throws IOException {
+        FruitDto existing = fruitService.register(FruitRegisterDto.builder()
+                .fruitName("한라봉" + suffix)
+                .origin("제주")
+                .stockQuantity(1)
+                .price(new BigDecimal("8000"))
+                .categoryId(categoryId)
+                .build());
+        // 캐시에 올려 둔 뒤 가져오기 이벤트로 무효화되는지 확인
+        fruitService.findById(existing.getId());
+
+        String ndjson = "{\"fruitName\":\"한라봉" + suffix + "\",\"origin\":\"제주\",\"stockQuantity\":20," +
+                "\"price\":9000,\"categoryId\":" + categoryId + ",\"season\":\"겨울\"}\n" +
+                "\n" +
+                "{\"fruitName\":\"한라봉" + suffix + "\",\"origin\":\"서귀포\",\"stockQuantity\":5," +
+                "\"price\":8500,\"categoryId\":" + categoryId + "}\n" +
+                "{\"fruitName\":\"한라봉" + suffix + "\",\"origin\":\"제주\",\"stockQuantity\":3," +
+                "\"price\":7000,\"categoryId\":" + categoryId + "}\n";
+
+        FruitImportResultDto result = import_(ndjson, FruitImportFormat.NDJSON, FruitImportMode.UPSERT);
+
+        assertThat(result.getUpdatedCount()).isEqualTo(1);
+        assertThat(result.getInsertedCount()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(FruitImportErrorDto::getLine).containsExactly(4L);
+
+        FruitDto updated = fruitService.findById(existing.getId());
+        assertThat(updated.getPrice()).isEqualByComparingTo("9000");
+        assertThat(updated.getSeason()).isEqualTo("겨울");
+        assertThat(updated.getStockQuantity()).isEqualTo(20);
+    }
+
+    private FruitImportResultDto import_(String body, FruitImportFormat format, FruitImportMode mode)
+            throws IOException {
+        return fruitImportService.importFruits(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, mode);
+    }
+}
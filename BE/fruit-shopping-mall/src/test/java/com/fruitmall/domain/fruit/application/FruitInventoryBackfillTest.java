@@ -0,0 +1,110 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitLegacyStockRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FruitInventoryBackfillTest {
+
+    @Autowired
+    private FruitInventoryBackfill fruitInventoryBackfill;
+
+    @Autowired
+    private FruitLegacyStockRepository fruitLegacyStockRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(Category.builder()
+                .name("재고이전-" + UUID.randomUUID().toString().substring(0, 8))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (fruitLegacyStockRepository.hasLegacyStockColumn()) {
+            jdbcTemplate.execute("ALTER TABLE fruit DROP COLUMN stock_quantity");
+        }
+    }
+
+    @Test
+    void 기존_재고_컬럼의_수량이_재고_행으로_이전된다() {
+        assertThat(fruitLegacyStockRepository.hasLegacyStockColumn()).isFalse();
+
+        // 이전 스키마: 재고 수량이 상품 테이블에 NOT NULL로 저장됨
+        jdbcTemplate.execute("ALTER TABLE fruit ADD COLUMN stock_quantity INT DEFAULT 0 NOT NULL");
+        Long legacyId = saveFruit("한라봉");
+        jdbcTemplate.update("UPDATE fruit SET stock_quantity = 7 WHERE fruit_id = ?", legacyId);
+        Long migratedId = saveFruit("레드향");
+        jdbcTemplate.update("UPDATE fruit SET stock_quantity = 3 WHERE fruit_id = ?", migratedId);
+        fruitInventoryRepository.save(FruitInventory.builder()
+                .fruitId(migratedId)
+                .quantity(20)
+                .build());
+        assertThat(fruitLegacyStockRepository.hasLegacyStockColumn()).isTrue();
+
+        fruitInventoryBackfill.backfill();
+
+        assertThat(fruitInventoryRepository.findById(legacyId)).get()
+                .extracting(FruitInventory::getQuantity).isEqualTo(7);
+        assertThat(fruitInventoryRepository.findById(migratedId)).get()
+                .extracting(FruitInventory::getQuantity).isEqualTo(20);
+
+        // 이전이 끝나면 기존 컬럼이 삭제되어 다음 시작에서는 오래된 수량을 다시 복사하지 않음
+        assertThat(fruitLegacyStockRepository.hasLegacyStockColumn()).isFalse();
+        fruitInventoryRepository.deleteById(legacyId);
+        fruitInventoryBackfill.backfill();
+        assertThat(fruitInventoryRepository.findById(legacyId)).get()
+                .extracting(FruitInventory::getQuantity).isEqualTo(0);
+    }
+
+    @Test
+    void 재고_행이_없는_상품은_수량_0으로_채워진다() {
+        Long fruitId = saveFruit("천혜향");
+        assertThat(fruitInventoryRepository.findById(fruitId)).isEmpty();
+
+        fruitInventoryBackfill.backfill();
+
+        assertThat(fruitInventoryRepository.findById(fruitId)).get()
+                .extracting(FruitInventory::getQuantity).isEqualTo(0);
+    }
+
+    private Long saveFruit(String fruitName) {
+        return fruitRepository.save(Fruit.builder()
+                .fruitName(fruitName)
+                .price(new BigDecimal("12000"))
+                .category(category)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,127 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.application.dto.FruitLowestPriceDto;
+import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
+import com.fruitmall.domain.fruit.application.dto.FruitUpdateDto;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.global.error.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FruitPriceServiceTest {
+
+    @Autowired
+    private FruitPriceService fruitPriceService;
+
+    @Autowired
+    private FruitPriceSeries fruitPriceSeries;
+
+    @Autowired
+    private FruitService fruitService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitPriceHistoryBackfill fruitPriceHistoryBackfill;
+
+    @Test
+    void 가격을_바꿀_때마다_이력이_쌓이고_최저가를_계산한다() {
+        Long categoryId = categoryRepository.save(Category.builder()
+                .name("가격-" + UUID.randomUUID().toString().substring(0, 8))
+                .build()).getId();
+        LocalDateTime beforeRegister = LocalDateTime.now().minusSeconds(5);
+        FruitDto fruit = fruitService.register(FruitRegisterDto.builder()
+                .fruitName("샤인머스캣")
+                .origin("김천")
+                .stockQuantity(10)
+                .price(new BigDecimal("8000"))
+                .categoryId(categoryId)
+                .build());
+
+        update(fruit, categoryId, "6000");
+        update(fruit, categoryId, "7000");
+        // 가격이 그대로면 이력을 남기지 않음
+        update(fruit, categoryId, "7000.00");
+
+        FruitLowestPriceDto lowest = fruitPriceService.lowestPrice(fruit.getId(), 30);
+        assertThat(lowest.getCurrentPrice()).isEqualByComparingTo("7000");
+        assertThat(lowest.getLowestPrice()).isEqualByComparingTo("6000");
+        assertThat(lowest.isLowestNow()).isFalse();
+
+        assertThat(fruitPriceService.priceAt(fruit.getId(), LocalDateTime.now()).getPrice())
+                .isEqualByComparingTo("7000");
+        assertThatThrownBy(() -> fruitPriceService.priceAt(fruit.getId(), beforeRegister))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void 시계열은_시점_사이의_가격과_기간_최저가를_돌려준다() {
+        Long fruitId = -1L;
+        LocalDateTime now = LocalDateTime.now();
+        fruitPriceSeries.append(fruitId, now.minusDays(40), new BigDecimal("5000"));
+        fruitPriceSeries.append(fruitId, now.minusDays(10), new BigDecimal("9000"));
+        // 순서가 뒤바뀌어 도착해도 시각 순으로 보관
+        fruitPriceSeries.append(fruitId, now.minusDays(20), new BigDecimal("8000"));
+        fruitPriceSeries.append(fruitId, now.minusDays(1), new BigDecimal("8500"));
+
+        assertThat(fruitPriceSeries.priceAt(fruitId, now.minusDays(30))).contains(new BigDecimal("5000.00"));
+        assertThat(fruitPriceSeries.priceAt(fruitId, now.minusDays(15))).contains(new BigDecimal("8000.00"));
+        assertThat(fruitPriceSeries.priceAt(fruitId, now.minusDays(50))).isEmpty();
+        assertThat(fruitPriceSeries.lowestSince(fruitId, now.minusDays(30))).contains(new BigDecimal("5000.00"));
+        assertThat(fruitPriceSeries.lowestSince(fruitId, now.minusDays(15))).contains(new BigDecimal("8000.00"));
+        assertThat(fruitPriceSeries.latest(fruitId)).contains(new BigDecimal("8500.00"));
+    }
+
+    @Test
+    void 이력이_없는_기존_상품은_현재_가격으로_이력이_채워진다() {
+        Category category = categoryRepository.save(Category.builder()
+                .name("가격이전-" + UUID.randomUUID().toString().substring(0, 8))
+                .build());
+        // 가격 이력 도입 이전에 등록된 상품
+        Long fruitId = fruitRepository.save(Fruit.builder()
+                .fruitName("레드향")
+                .price(new BigDecimal("9000"))
+                .category(category)
+                .build()).getId();
+        assertThatThrownBy(() -> fruitPriceService.priceAt(fruitId, LocalDateTime.now()))
+                .isInstanceOf(BusinessException.class);
+
+        fruitPriceHistoryBackfill.backfill();
+        fruitPriceSeries.reload();
+
+        assertThat(fruitPriceSeries.priceAt(fruitId, LocalDateTime.now())).get()
+                .satisfies(price -> assertThat(price).isEqualByComparingTo("9000"));
+        assertThat(fruitPriceService.lowestPrice(fruitId, 30).getLowestPrice()).isEqualByComparingTo("9000");
+        // 첫 기록은 서버 기동 시각이 아니라 고정된 과거 시각이라 보관 기간 밖의 시점도 조회됨
+        assertThat(fruitPriceService.priceAt(fruitId, LocalDateTime.now().minusYears(10)).getPrice())
+                .isEqualByComparingTo("9000");
+    }
+
+    private void update(FruitDto fruit, Long categoryId, String price) {
+        fruitService.update(fruit.getId(), FruitUpdateDto.builder()
+                .fruitName(fruit.getFruitName())
+                .origin(fruit.getOrigin())
+                .price(new BigDecimal(price))
+                .categoryId(categoryId)
+                .build());
+    }
+}
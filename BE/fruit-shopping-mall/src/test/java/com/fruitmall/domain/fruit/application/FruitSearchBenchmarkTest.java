@@ -0,0 +1,117 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 검색 SQL(LIKE '%kw%') 경로와 메모리 색인 경로 비교, 자동완성 지연 시간 측정.
+ * 기본 빌드에서는 건너뛰며 mvn test -Dtest=FruitSearchBenchmarkTest -Dbenchmark=true 로 실행합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FruitSearchBenchmarkTest {
+
+    private static final int FRUIT_COUNT = 20_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+    private static final List<String> NAMES = List.of("사과", "배", "감귤", "한라봉", "샤인머스캣", "복숭아", "딸기", "포도");
+    private static final List<String> ORIGINS = List.of("경북 청송", "충북 충주", "제주", "전남 나주", "경북 김천");
+    private static final List<String> QUERIES = List.of("머스캣", "한라", "사과", "딸기 제주", "복숭아");
+    private static final List<String> SUGGEST_QUERIES = List.of("ㅅ", "ㅅㅇ", "샤인", "ㅎㄹㅂ", "복", "딸기1");
+
+    private static boolean seeded;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private FruitSearchIndex fruitSearchIndex;
+
+    @Autowired
+    private FruitSuggestIndex fruitSuggestIndex;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        Category category = categoryRepository.save(Category.builder()
+                .name("벤치마크-" + UUID.randomUUID().toString().substring(0, 8))
+                .build());
+        for (int i = 0; i < FRUIT_COUNT; i++) {
+            fruitRepository.save(Fruit.builder()
+                    .fruitName(NAMES.get(i % NAMES.size()) + " " + i)
+                    .origin(ORIGINS.get(i % ORIGINS.size()))
+                    .price(new BigDecimal("10000"))
+                    .category(category)
+                    .season(i % 2 == 0 ? "여름" : "겨울")
+                    .description("산지 직송 " + NAMES.get((i + 3) % NAMES.size()))
+                    .build());
+        }
+        fruitSearchIndex.rebuild();
+        fruitSuggestIndex.rebuild();
+        seeded = true;
+    }
+
+    @Test
+    void SQL_검색과_색인_검색_비교() {
+        double sqlMicros = measure(query -> fruitRepository.findByFruitNameContaining(query));
+        double indexMicros = measure(query -> fruitSearchIndex.search(query, 0, 20));
+
+        System.out.printf("상품 %d건, 검색 %d회 평균: SQL %.1fus, 색인 %.1fus (%.1f배)%n",
+                FRUIT_COUNT, ITERATIONS, sqlMicros, indexMicros, sqlMicros / indexMicros);
+        assertThat(indexMicros).isLessThan(sqlMicros);
+    }
+
+    @Test
+    void 자동완성_p99_지연_시간() {
+        for (int i = 0; i < WARMUP * 10; i++) {
+            fruitSuggestIndex.suggest(SUGGEST_QUERIES.get(i % SUGGEST_QUERIES.size()), 10);
+        }
+        long[] nanos = new long[ITERATIONS * 10];
+        for (int i = 0; i < nanos.length; i++) {
+            long start = System.nanoTime();
+            fruitSuggestIndex.suggest(SUGGEST_QUERIES.get(i % SUGGEST_QUERIES.size()), 10);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        long p50 = nanos[nanos.length / 2];
+        long p99 = nanos[(int) (nanos.length * 0.99)];
+
+        System.out.printf("상품 %d건, 자동완성 %d회: p50 %.1fus, p99 %.1fus%n",
+                FRUIT_COUNT, nanos.length, p50 / 1000.0, p99 / 1000.0);
+        assertThat(p99).isLessThan(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private double measure(Consumer<String> search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.accept(QUERIES.get(i % QUERIES.size()));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search.accept(QUERIES.get(i % QUERIES.size()));
+        }
+        return (double) TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,116 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
+import com.fruitmall.domain.fruit.application.dto.FruitSearchResultDto;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FruitSearchIndexTest {
+
+    @Autowired
+    private FruitService fruitService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        categoryId = categoryRepository.save(Category.builder()
+                .name("검색-" + UUID.randomUUID().toString().substring(0, 8))
+                .build()).getId();
+    }
+
+    @Test
+    void 상품명이_일치하는_상품이_설명만_일치하는_상품보다_앞에_온다() {
+        FruitDto juice = register("꿀사과주스", "경북", "청송꿀사과로 만든 주스");
+        FruitDto apple = register("청송꿀사과", "경북 청송", "아삭한 사과");
+
+        List<Long> ids = search("청송꿀사과", 0, 100).getContent().stream()
+                .map(FruitDto::getId)
+                .filter(id -> id.equals(juice.getId()) || id.equals(apple.getId()))
+                .toList();
+
+        assertThat(ids).containsExactly(apple.getId(), juice.getId());
+    }
+
+    @Test
+    void 한_글자와_띄어쓰기가_다른_검색어도_찾는다() {
+        FruitDto grape = register("샤인 머스캣 특품", "경북 김천", "당도 높은 포도");
+
+        assertThat(ids(search("샤인머스캣특품", 0, 100))).contains(grape.getId());
+        assertThat(ids(search("김천", 0, 100))).contains(grape.getId());
+        assertThat(ids(search("캣", 0, 100))).contains(grape.getId());
+    }
+
+    @Test
+    void 여러_단어를_검색하면_더_많이_일치하는_상품이_앞에_온다() {
+        String keyword = "검색어" + UUID.randomUUID().toString().substring(0, 6);
+        FruitDto both = register(keyword + " 홍시", "충북 영동", "가을 " + keyword);
+        FruitDto one = register(keyword + " 곶감", "경북 상주", "겨울 간식");
+
+        List<Long> ids = ids(search(keyword + " 영동", 0, 100));
+
+        assertThat(ids).containsSubsequence(both.getId(), one.getId());
+    }
+
+    @Test
+    void 페이지_크기만큼_조회하고_전체_건수를_함께_반환한다() {
+        String keyword = "페이지" + UUID.randomUUID().toString().substring(0, 6);
+        for (int i = 0; i < 5; i++) {
+            register(keyword + i, "제주", null);
+        }
+
+        FruitSearchResultDto firstPage = search(keyword, 0, 2);
+        FruitSearchResultDto lastPage = search(keyword, 2, 2);
+
+        assertThat(firstPage.getTotalCount()).isEqualTo(5);
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(lastPage.getContent()).hasSize(1);
+    }
+
+    @Test
+    void 삭제한_상품은_검색되지_않는다() {
+        String keyword = "삭제" + UUID.randomUUID().toString().substring(0, 6);
+        FruitDto fruit = register(keyword, "제주", null);
+        assertThat(ids(search(keyword, 0, 100))).contains(fruit.getId());
+
+        fruitService.delete(fruit.getId());
+
+        assertThat(ids(search(keyword, 0, 100))).doesNotContain(fruit.getId());
+    }
+
+    private FruitSearchResultDto search(String keyword, int page, int size) {
+        return fruitService.searchByKeyword(keyword, page, size);
+    }
+
+    private List<Long> ids(FruitSearchResultDto result) {
+        return result.getContent().stream().map(FruitDto::getId).toList();
+    }
+
+    private FruitDto register(String name, String origin, String description) {
+        return fruitService.register(FruitRegisterDto.builder()
+                .fruitName(name)
+                .origin(origin)
+                .stockQuantity(10)
+                .price(new BigDecimal("5000"))
+                .categoryId(categoryId)
+                .description(description)
+                .build());
+    }
+}
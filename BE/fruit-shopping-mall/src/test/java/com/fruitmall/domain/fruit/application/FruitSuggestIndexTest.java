@@ -0,0 +1,133 @@
+package com.fruitmall.domain.fruit.application;
+
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
+import com.fruitmall.domain.fruit.application.dto.FruitSuggestionDto;
+import com.fruitmall.domain.fruit.application.dto.FruitUpdateDto;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.OrderService;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FruitSuggestIndexTest {
+
+    @Autowired
+    private FruitService fruitService;
+
+    @Autowired
+    private FruitSuggestIndex fruitSuggestIndex;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Long categoryId;
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        categoryId = categoryRepository.save(Category.builder()
+                .name("자동완성-" + UUID.randomUUID().toString().substring(0, 8))
+                .build()).getId();
+        prefix = randomHangul(4);
+    }
+
+    @Test
+    void 초성으로_상품명을_찾는다() {
+        FruitDto fruit = register(prefix + "사과");
+
+        assertThat(ids(fruitService.suggest(FruitSuggestIndex.chosung(prefix) + "ㅅㄱ", 10)))
+                .containsExactly(fruit.getId());
+        assertThat(ids(fruitService.suggest(prefix + "사", 10))).containsExactly(fruit.getId());
+    }
+
+    @Test
+    void 두_번째_단어로도_찾는다() {
+        FruitDto fruit = register("샤인 " + prefix + "머스캣");
+
+        assertThat(ids(fruitService.suggest(prefix + "머스", 10))).containsExactly(fruit.getId());
+    }
+
+    @Test
+    void 판매량이_많은_상품이_먼저_추천된다() {
+        FruitDto lessPopular = register(prefix + "귤");
+        FruitDto morePopular = register(prefix + "감");
+        orderService.createOrder(createMember().getId(), new CreateOrderRequestDto(
+                List.of(new OrderItemRequestDto(morePopular.getId(), 3)), "CARD"));
+
+        fruitSuggestIndex.rebuild();
+
+        assertThat(ids(fruitService.suggest(prefix, 10)))
+                .containsExactly(morePopular.getId(), lessPopular.getId());
+    }
+
+    @Test
+    void 상품명_변경과_삭제가_바로_반영된다() {
+        FruitDto fruit = register(prefix + "복숭아");
+
+        fruitService.update(fruit.getId(), FruitUpdateDto.builder()
+                .fruitName(prefix + "천도")
+                .price(new BigDecimal("5000"))
+                .categoryId(categoryId)
+                .build());
+        assertThat(ids(fruitService.suggest(prefix + "복", 10))).isEmpty();
+        assertThat(ids(fruitService.suggest(prefix + "천", 10))).containsExactly(fruit.getId());
+
+        fruitService.delete(fruit.getId());
+        assertThat(ids(fruitService.suggest(prefix, 10))).isEmpty();
+    }
+
+    private List<Long> ids(List<FruitSuggestionDto> suggestions) {
+        return suggestions.stream().map(FruitSuggestionDto::getId).toList();
+    }
+
+    // 다른 테스트 상품과 겹치지 않는 임의의 한글 음절
+    private String randomHangul(int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ThreadLocalRandom.current().nextInt('가', '힣' + 1));
+        }
+        return builder.toString();
+    }
+
+    private FruitDto register(String name) {
+        return fruitService.register(FruitRegisterDto.builder()
+                .fruitName(name)
+                .stockQuantity(10)
+                .price(new BigDecimal("5000"))
+                .categoryId(categoryId)
+                .build());
+    }
+
+    private Member createMember() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return memberRepository.save(Member.builder()
+                .username("buyer-" + suffix)
+                .email("buyer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("구매자")
+                .build());
+    }
+}
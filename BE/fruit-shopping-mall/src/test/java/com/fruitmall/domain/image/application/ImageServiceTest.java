@@ -0,0 +1,89 @@
+package com.fruitmall.domain.image.application;
+
+import com.fruitmall.domain.image.application.dto.ImageFileDto;
+import com.fruitmall.domain.image.application.dto.ImageUploadDto;
+import com.fruitmall.domain.image.domain.ImageVariant;
+import com.fruitmall.global.error.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ImageServiceTest {
+
+    @Autowired
+    private ImageService imageService;
+
+    @Test
+    void 업로드하면_내용_해시로_저장하고_축소본을_비율대로_만든다() throws Exception {
+        byte[] png = png(800, 400);
+
+        ImageUploadDto uploaded = imageService.upload(new MockMultipartFile("file", "fruit.png", "image/png", png));
+        ImageUploadDto again = imageService.upload(new MockMultipartFile("file", "copy.png", "image/png", png));
+
+        assertThat(uploaded.getImageId()).matches("[0-9a-f]{64}\\.png");
+        assertThat(again.getImageId()).isEqualTo(uploaded.getImageId());
+        assertThat(uploaded.getThumbnailUrl()).isEqualTo("/api/images/" + uploaded.getImageId() + "/thumbnail");
+        assertThat(ImageUrls.variantUrl(uploaded.getUrl(), ImageVariant.CARD)).isEqualTo(uploaded.getCardUrl());
+
+        ImageFileDto thumbnail = awaitVariant(uploaded.getImageId(), ImageVariant.THUMBNAIL);
+        BufferedImage image = ImageIO.read(thumbnail.getPath().toFile());
+        assertThat(image.getWidth()).isEqualTo(200);
+        assertThat(image.getHeight()).isEqualTo(100);
+        assertThat(thumbnail.getContentType()).isEqualTo("image/png");
+    }
+
+    @Test
+    void 이미지가_아닌_파일은_거부한다() {
+        MockMultipartFile text = new MockMultipartFile("file", "a.png", "image/png",
+                "not an image".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> imageService.upload(text)).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void 외부_이미지_URL은_그대로_둔다() {
+        assertThat(ImageUrls.variantUrl("https://cdn.example.com/apple.jpg", ImageVariant.THUMBNAIL))
+                .isEqualTo("https://cdn.example.com/apple.jpg");
+        assertThat(ImageUrls.variantUrl(null, ImageVariant.THUMBNAIL)).isNull();
+    }
+
+    // 축소본은 백그라운드에서 만들어지므로 생성될 때까지 대기
+    private ImageFileDto awaitVariant(String imageId, ImageVariant variant) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            ImageFileDto file = imageService.load(imageId, variant);
+            if (file.isImmutable()) {
+                return file;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("축소본이 생성되지 않았습니다: " + imageId);
+    }
+
+    // 매번 다른 내용이 되도록 임의의 색으로 채운 PNG
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(ThreadLocalRandom.current().nextInt(0xFFFFFF)));
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,222 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.delivery.application.DeliveryService;
+import com.fruitmall.domain.delivery.application.dto.AddressRequestDto;
+import com.fruitmall.domain.delivery.application.dto.CreateDeliveryRequestDto;
+import com.fruitmall.domain.delivery.application.dto.UpdateDeliveryRequestDto;
+import com.fruitmall.domain.delivery.application.dto.UpdateDeliveryStatusRequestDto;
+import com.fruitmall.domain.delivery.domain.DeliveryStatus;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.dto.BulkUpdateOrderStatusRequestDto;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.domain.order.application.dto.UpdateOrderStatusRequestDto;
+import com.fruitmall.domain.order.domain.OrderStatus;
+import com.fruitmall.global.error.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class InventoryRestorerTest {
+
+    private static final int INITIAL_STOCK = 10;
+    private static final int ORDER_QUANTITY = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private DeliveryService deliveryService;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+    private Long fruitId;
+
+    @BeforeEach
+    void setUp() {
+        member = createMember();
+        fruitId = createFruit().getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 회원이_주문을_취소하면_재고가_복구된다() {
+        Long orderId = createOrder();
+        loginAs(member.getUsername(), "ROLE_USER");
+
+        orderService.updateOrderStatus(orderId, new UpdateOrderStatusRequestDto(OrderStatus.CANCELLED));
+
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    void 관리자가_취소_상태로_변경하면_재고가_복구된다() {
+        Long orderId = createOrder();
+        loginAsAdmin();
+
+        orderService.updateOrderStatus(orderId, new UpdateOrderStatusRequestDto(OrderStatus.CANCELLED));
+
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    void 일괄_취소하면_여러_주문의_재고가_함께_복구된다() {
+        Long firstOrderId = createOrder();
+        Long secondOrderId = createOrder();
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK - ORDER_QUANTITY * 2);
+        loginAsAdmin();
+
+        orderService.updateOrderStatusBulk(BulkUpdateOrderStatusRequestDto.builder()
+                .orderStatus(OrderStatus.CANCELLED)
+                .orderIds(List.of(firstOrderId, secondOrderId))
+                .build());
+
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    void 배송_상태를_취소로_변경하면_재고가_복구된다() {
+        Long deliveryId = createDelivery(createOrder());
+
+        deliveryService.updateDeliveryStatus(deliveryId, new UpdateDeliveryStatusRequestDto(DeliveryStatus.CANCELLED));
+
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    void 배송_정보를_취소_상태로_수정하면_재고가_복구된다() {
+        Long deliveryId = createDelivery(createOrder());
+
+        deliveryService.updateDelivery(deliveryId, UpdateDeliveryRequestDto.builder()
+                .deliveryStatus(DeliveryStatus.CANCELLED)
+                .expectedDeliveryDate(LocalDate.now().plusDays(2))
+                .courier("과일택배")
+                .trackingNumber("1234567890")
+                .build());
+
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    void 배송을_취소하면_재고가_복구된다() {
+        Long deliveryId = createDelivery(createOrder());
+
+        deliveryService.cancelDelivery(deliveryId);
+
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    void 같은_주문을_여러_번_취소해도_재고는_한_번만_복구된다() {
+        Long orderId = createOrder();
+        loginAsAdmin();
+
+        orderService.updateOrderStatus(orderId, new UpdateOrderStatusRequestDto(OrderStatus.CANCELLED));
+        assertThatThrownBy(() -> orderService.updateOrderStatus(
+                orderId, new UpdateOrderStatusRequestDto(OrderStatus.CANCELLED)))
+                .isInstanceOf(BusinessException.class);
+
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK);
+    }
+
+    private Long createOrder() {
+        CreateOrderRequestDto request = new CreateOrderRequestDto(
+                List.of(new OrderItemRequestDto(fruitId, ORDER_QUANTITY)), "CARD");
+        return orderService.createOrder(member.getId(), request).getId();
+    }
+
+    // 결제 완료 처리 후 배송 정보 생성
+    private Long createDelivery(Long orderId) {
+        loginAsAdmin();
+        orderService.updateOrderStatus(orderId, new UpdateOrderStatusRequestDto(OrderStatus.PAID));
+
+        return deliveryService.createDelivery(CreateDeliveryRequestDto.builder()
+                .orderId(orderId)
+                .deliveryStatus(DeliveryStatus.PREPARING)
+                .expectedDeliveryDate(LocalDate.now().plusDays(2))
+                .address(AddressRequestDto.builder()
+                        .recipient("구매자")
+                        .zipCode("12345")
+                        .address1("서울시 강남구")
+                        .phoneNumber("010-1234-5678")
+                        .build())
+                .build()).getId();
+    }
+
+    private int currentStock() {
+        return fruitInventoryRepository.findById(fruitId).orElseThrow().getQuantity();
+    }
+
+    private void loginAsAdmin() {
+        loginAs("admin", "ROLE_ADMIN");
+    }
+
+    private void loginAs(String username, String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority(role))));
+    }
+
+    private Member createMember() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return memberRepository.save(Member.builder()
+                .username("buyer-" + suffix)
+                .email("buyer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("구매자")
+                .build());
+    }
+
+    private Fruit createFruit() {
+        Category category = categoryRepository.save(Category.builder()
+                .name("재고복구-" + UUID.randomUUID().toString().substring(0, 8))
+                .build());
+        Fruit fruit = fruitRepository.save(Fruit.builder()
+                .fruitName("한라봉")
+                .price(new BigDecimal("8000"))
+                .category(category)
+                .build());
+        fruitInventoryRepository.save(FruitInventory.builder()
+                .fruitId(fruit.getId())
+                .quantity(INITIAL_STOCK)
+                .build());
+        return fruit;
+    }
+}
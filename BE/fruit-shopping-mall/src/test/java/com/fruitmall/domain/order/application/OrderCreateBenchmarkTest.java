@@ -0,0 +1,170 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 상품 수에 따른 DB 왕복 횟수와 지연 시간 측정.
+ * 주문 상품을 상품마다 따로 조회하는 경로와 fruit_id 순 한 번의 쿼리로 조회하는 경로를 비교하고,
+ * 주문 생성 전체의 상품 수별 SQL 문 수를 출력합니다.
+ * 상품 조회는 잠금 없이 실행되고, 재고 행 잠금은 fruit_id 순서로 실행되는 조건부 차감 UPDATE가 잡습니다.
+ * 기본 빌드에서는 건너뛰며 mvn test -Dtest=OrderCreateBenchmarkTest -Dbenchmark=true 로 실행합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderCreateBenchmarkTest {
+
+    private static final int[] LINE_COUNTS = {1, 5, 20, 50};
+    private static final int MAX_LINES = 50;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+    private static final int ORDER_ITERATIONS = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long memberId;
+    private List<Long> fruitIds;
+
+    @BeforeEach
+    void seed() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        memberId = memberRepository.save(Member.builder()
+                .username("bench-" + suffix)
+                .email("bench-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("구매자")
+                .build()).getId();
+        Category category = categoryRepository.save(Category.builder()
+                .name("주문벤치마크-" + suffix)
+                .build());
+        fruitIds = new ArrayList<>(MAX_LINES);
+        for (int i = 0; i < MAX_LINES; i++) {
+            Long fruitId = fruitRepository.save(Fruit.builder()
+                    .fruitName("사과 " + i)
+                    .price(new BigDecimal("3000"))
+                    .category(category)
+                    .build()).getId();
+            fruitInventoryRepository.save(FruitInventory.builder()
+                    .fruitId(fruitId)
+                    .quantity(1_000_000)
+                    .build());
+            fruitIds.add(fruitId);
+        }
+    }
+
+    @Test
+    void 상품별_조회와_한_번의_조회_왕복_횟수_비교() {
+        for (int lines : LINE_COUNTS) {
+            List<Long> ids = fruitIds.subList(0, lines);
+            Result perLine = measure(ITERATIONS, ids, batch -> batch.forEach(id -> fruitRepository.findById(id)));
+            Result batched = measure(ITERATIONS, ids, fruitRepository::findAllByIdsOrderById);
+
+            System.out.printf("주문 상품 %d개: 상품별 조회 %d문/%.1fus, 한 번의 조회 %d문/%.1fus%n",
+                    lines, perLine.statements(), perLine.micros(), batched.statements(), batched.micros());
+            assertThat(perLine.statements()).isEqualTo(lines);
+            assertThat(batched.statements()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void 주문_상품_수별_주문_생성_SQL_문_수와_지연_시간() {
+        for (int lines : LINE_COUNTS) {
+            CreateOrderRequestDto request = new CreateOrderRequestDto(fruitIds.subList(0, lines).stream()
+                    .map(id -> new OrderItemRequestDto(id, 1))
+                    .toList(), "CARD");
+            for (int i = 0; i < WARMUP; i++) {
+                orderService.createOrder(memberId, request);
+            }
+
+            Statistics statistics = statistics();
+            statistics.clear();
+            long start = System.nanoTime();
+            for (int i = 0; i < ORDER_ITERATIONS; i++) {
+                orderService.createOrder(memberId, request);
+            }
+            double micros = (double) TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / ORDER_ITERATIONS;
+
+            System.out.printf("주문 상품 %d개: 주문당 SQL %d문, 평균 %.1fus%n",
+                    lines, statistics.getPrepareStatementCount() / ORDER_ITERATIONS, micros);
+        }
+    }
+
+    // 트랜잭션마다 영속성 컨텍스트가 비어 있으므로 매번 DB에서 조회
+    private Result measure(int iterations, List<Long> ids, Consumer<List<Long>> load) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        for (int i = 0; i < WARMUP; i++) {
+            transactionTemplate.executeWithoutResult(status -> load.accept(ids));
+        }
+
+        Statistics statistics = statistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            transactionTemplate.executeWithoutResult(status -> load.accept(ids));
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result(statistics.getPrepareStatementCount() / iterations,
+                (double) TimeUnit.NANOSECONDS.toMicros(elapsed) / iterations);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private record Result(long statements, double micros) {
+    }
+}
@@ -0,0 +1,264 @@
+package com.fruitmall.domain.order.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import com.fruitmall.interfaces.web.order.OrderController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderExportTest {
+
+    // 스트리밍 조회의 fetch size (OrderRepository.streamExportRows)
+    private static final int FETCH_SIZE = 500;
+    private static final String MEMBER_NAME = "김, \"큰손\"\n과일";
+    private static final List<String> FRUIT_NAMES = List.of(
+            "사과, 배", "=HYPERLINK(\"http://evil\")", "+1", "-1+2", "@SUM(A1)", "한라봉");
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderController orderController;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LocalDate today = LocalDate.now();
+    private Member member;
+    private List<Long> fruitIds;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        member = memberRepository.save(Member.builder()
+                .username("buyer-" + suffix)
+                .email("buyer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name(MEMBER_NAME)
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("주문내보내기-" + suffix)
+                .build());
+        fruitIds = new ArrayList<>();
+        for (String fruitName : FRUIT_NAMES) {
+            Long fruitId = fruitRepository.save(Fruit.builder()
+                    .fruitName(fruitName)
+                    .price(new BigDecimal("1000"))
+                    .category(category)
+                    .build()).getId();
+            fruitInventoryRepository.save(FruitInventory.builder()
+                    .fruitId(fruitId)
+                    .quantity(1000)
+                    .build());
+            fruitIds.add(fruitId);
+        }
+        loginAs(member.getUsername(), "ROLE_USER");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void CSV는_쉼표_따옴표_줄바꿈을_감싸고_수식으로_시작하는_값은_작은따옴표를_붙인다() throws IOException {
+        Long orderId = createOrders(1).get(0);
+
+        List<List<String>> records = parseCsv(export(OrderExportFormat.CSV));
+
+        assertThat(String.join(",", records.get(0))).isEqualTo("order_id,order_date,member_id,member_name,"
+                + "order_status,payment_method,order_total,fruit_id,fruit_name,quantity,unit_price,line_total");
+        List<List<String>> rows = ownRows(records);
+        assertThat(rows).hasSize(FRUIT_NAMES.size());
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row).hasSize(12);
+            assertThat(row.get(0)).isEqualTo(String.valueOf(orderId));
+            assertThat(row.get(3)).isEqualTo(MEMBER_NAME);
+        });
+        assertThat(rows).extracting(row -> row.get(8)).containsExactlyInAnyOrder(
+                "사과, 배", "'=HYPERLINK(\"http://evil\")", "'+1", "'-1+2", "'@SUM(A1)", "한라봉");
+    }
+
+    @Test
+    void NDJSON은_주문_상세마다_한_줄에_JSON_객체_하나를_쓴다() throws IOException {
+        Long orderId = createOrders(1).get(0);
+
+        String body = export(OrderExportFormat.NDJSON);
+
+        assertThat(body).endsWith("\n");
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            JsonNode node = objectMapper.readTree(line);
+            assertThat(node.isObject()).isTrue();
+            if (node.get("memberId").asLong() == member.getId()) {
+                rows.add(node);
+            }
+        }
+        assertThat(rows).hasSize(FRUIT_NAMES.size());
+        assertThat(rows).allSatisfy(node -> {
+            assertThat(node.get("orderId").asLong()).isEqualTo(orderId);
+            assertThat(node.get("memberName").asText()).isEqualTo(MEMBER_NAME);
+            assertThat(node.get("lineTotal").decimalValue()).isEqualByComparingTo("1000");
+        });
+        // JSON 문자열은 원래 값을 그대로 담음
+        assertThat(rows).extracting(node -> node.get("fruitName").asText())
+                .containsExactlyInAnyOrderElementsOf(FRUIT_NAMES);
+    }
+
+    @Test
+    void fetch_size보다_많은_행도_빠짐없이_주문_순서대로_내보낸다() throws IOException {
+        int orderCount = FETCH_SIZE / FRUIT_NAMES.size() + 10;
+        List<Long> orderIds = createOrders(orderCount);
+
+        List<List<String>> rows = ownRows(parseCsv(export(OrderExportFormat.CSV)));
+
+        assertThat(rows).hasSizeGreaterThan(FETCH_SIZE).hasSize(orderCount * FRUIT_NAMES.size());
+        assertThat(rows).extracting(row -> Long.valueOf(row.get(0))).isSorted()
+                .containsAll(orderIds);
+    }
+
+    @Test
+    void 컨트롤러는_스트리밍을_시작하기_전에_요청을_검증한다() {
+        LocalDate yesterday = today.minusDays(1);
+
+        // 관리자가 아니면 본문을 만들기 전에 거절
+        assertThatThrownBy(() -> orderController.exportOrders(today, today, "csv"))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> orderExportService.validate(today, today))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ACCESS_DENIED);
+
+        loginAs("admin", "ROLE_ADMIN");
+        assertThatThrownBy(() -> orderController.exportOrders(today, yesterday, "csv"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> orderController.exportOrders(yesterday, today, "xml"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+
+        ResponseEntity<StreamingResponseBody> response = orderController.exportOrders(yesterday, today, "ndjson");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .isEqualTo("attachment; filename=\"orders_" + yesterday + "_" + today + ".ndjson\"");
+        assertThat(response.getHeaders().getContentType()).hasToString("application/x-ndjson");
+        assertThat(response.getBody()).isNotNull();
+    }
+
+    private String export(OrderExportFormat format) throws IOException {
+        loginAs("admin", "ROLE_ADMIN");
+        orderExportService.validate(today, today);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        orderExportService.export(today, today, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    // 같은 컨텍스트의 다른 테스트가 만든 주문은 제외
+    private List<List<String>> ownRows(List<List<String>> records) {
+        return records.subList(1, records.size()).stream()
+                .filter(row -> row.get(2).equals(String.valueOf(member.getId())))
+                .toList();
+    }
+
+    // RFC 4180 형식 파싱 (따옴표 안의 쉼표·줄바꿈과 두 번 쓴 따옴표 처리)
+    private List<List<String>> parseCsv(String body) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < body.length() && body.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                record.add(field.toString());
+                field.setLength(0);
+                records.add(record);
+                record = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        assertThat(quoted).isFalse();
+        assertThat(field).isEmpty();
+        return records;
+    }
+
+    private List<Long> createOrders(int count) {
+        CreateOrderRequestDto request = new CreateOrderRequestDto(fruitIds.stream()
+                .map(fruitId -> new OrderItemRequestDto(fruitId, 1))
+                .toList(), "CARD");
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orderIds.add(orderService.createOrder(member.getId(), request).getId());
+        }
+        return orderIds;
+    }
+
+    private void loginAs(String username, String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority(role))));
+    }
+}
@@ -0,0 +1,119 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderIdempotencyTest {
+
+    private static final int INITIAL_STOCK = 10;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private Long fruitId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        memberId = memberRepository.save(Member.builder()
+                .username("buyer-" + suffix)
+                .email("buyer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("구매자")
+                .build()).getId();
+        Category category = categoryRepository.save(Category.builder()
+                .name("멱등-" + suffix)
+                .build());
+        fruitId = fruitRepository.save(Fruit.builder()
+                .fruitName("샤인머스캣")
+                .price(new BigDecimal("15000"))
+                .category(category)
+                .build()).getId();
+        fruitInventoryRepository.save(FruitInventory.builder()
+                .fruitId(fruitId)
+                .quantity(INITIAL_STOCK)
+                .build());
+    }
+
+    @Test
+    void 같은_키로_다시_요청하면_기존_주문을_반환하고_내용이_다르면_거절한다() {
+        String idempotencyKey = UUID.randomUUID().toString();
+        OrderDto created = orderService.createOrder(memberId, request(2), idempotencyKey);
+
+        OrderDto replayed = orderService.createOrder(memberId, request(2), idempotencyKey);
+        assertThat(replayed.getId()).isEqualTo(created.getId());
+
+        assertThatThrownBy(() -> orderService.createOrder(memberId, request(5), idempotencyKey))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.IDEMPOTENCY_KEY_MISMATCH);
+        assertThat(fruitInventoryRepository.findById(fruitId).orElseThrow().getQuantity())
+                .isEqualTo(INITIAL_STOCK - 2);
+    }
+
+    @Test
+    void 정리되지_않은_만료된_키는_조회에서_삭제하지_않고_새_주문에_다시_사용한다() {
+        String idempotencyKey = UUID.randomUUID().toString();
+        // 메모리 캐시에는 없고 DB에만 남아 있는 만료된 키
+        Long oldOrderId = orderService.createOrder(memberId, request(1)).getId();
+        jdbcTemplate.update("INSERT INTO order_idempotency_key "
+                        + "(member_id, idempotency_key, request_hash, order_id, expires_at) VALUES (?, ?, ?, ?, ?)",
+                memberId, idempotencyKey, "expired", oldOrderId, LocalDateTime.now().minusHours(1));
+
+        OrderDto created = orderService.createOrder(memberId, request(2), idempotencyKey);
+
+        assertThat(created.getId()).isNotEqualTo(oldOrderId);
+        assertThat(orderService.createOrder(memberId, request(2), idempotencyKey).getId()).isEqualTo(created.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT order_id FROM order_idempotency_key "
+                + "WHERE member_id = ? AND idempotency_key = ?", Long.class, memberId, idempotencyKey))
+                .isEqualTo(created.getId());
+        assertThat(fruitInventoryRepository.findById(fruitId).orElseThrow().getQuantity())
+                .isEqualTo(INITIAL_STOCK - 3);
+    }
+
+    private CreateOrderRequestDto request(int quantity) {
+        return new CreateOrderRequestDto(List.of(new OrderItemRequestDto(fruitId, quantity)), "CARD");
+    }
+}
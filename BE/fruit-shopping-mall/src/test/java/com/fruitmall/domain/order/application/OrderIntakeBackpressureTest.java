@@ -0,0 +1,198 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.domain.order.domain.OrderRepository;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커밋 스레드가 재고 행 잠금을 기다리는 동안의 접수 큐 동작 (큐 가득 참, 호출자 타임아웃).
+ */
+@SpringBootTest(properties = {
+        "order.intake.group-commit.enabled=true",
+        "order.intake.group-commit.batch-size=1",
+        "order.intake.group-commit.queue-capacity=1",
+        "order.intake.group-commit.submit-timeout-ms=1000"
+})
+@ActiveProfiles("test")
+class OrderIntakeBackpressureTest {
+
+    private static final int INITIAL_STOCK = 10;
+
+    @Autowired
+    private OrderIntakePipeline orderIntakePipeline;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch releaseLock = new CountDownLatch(1);
+
+    private Long lockedFruitId;
+    private Long freeFruitId;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        lockedFruitId = createFruit();
+        freeFruitId = createFruit();
+
+        // 다른 트랜잭션이 재고 행을 잠가 커밋 스레드가 첫 주문에서 멈추도록 함
+        CountDownLatch locked = new CountDownLatch(1);
+        executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            fruitInventoryRepository.findAllByIdsForUpdate(List.of(lockedFruitId));
+            locked.countDown();
+            try {
+                releaseLock.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseLock.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void 접수_큐가_가득_차면_ORDER_INTAKE_BUSY로_거절한다() throws Exception {
+        Future<OrderDto> inBatch = submitUntilCommitting(createMember(), lockedFruitId);
+        Future<OrderDto> queued = executor.submit(() ->
+                orderIntakePipeline.submit(createMember().getId(), request(freeFruitId)));
+        awaitUntil(this::queueDepth, 1);
+
+        assertThatThrownBy(() -> orderIntakePipeline.submit(createMember().getId(), request(freeFruitId)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ORDER_INTAKE_BUSY);
+
+        releaseLock.countDown();
+        assertThat(inBatch.get(10, TimeUnit.SECONDS)).isNotNull();
+        assertThat(queued.get(10, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void 대기_시간이_지나_거절된_주문은_나중에도_커밋되지_않는다() throws Exception {
+        Future<OrderDto> inBatch = submitUntilCommitting(createMember(), lockedFruitId);
+
+        Member timedOutMember = createMember();
+        assertThatThrownBy(() -> orderIntakePipeline.submit(timedOutMember.getId(), request(freeFruitId)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ORDER_INTAKE_TIMEOUT);
+
+        // 이미 커밋 스레드가 가져간 주문은 대기 시간이 지나도 커밋 결과를 받음
+        releaseLock.countDown();
+        assertThat(inBatch.get(10, TimeUnit.SECONDS)).isNotNull();
+
+        // 뒤에 들어온 주문이 커밋될 때까지 기다린 뒤에도 타임아웃된 주문은 저장되지 않음
+        assertThat(orderIntakePipeline.submit(createMember().getId(), request(freeFruitId))).isNotNull();
+        assertThat(orderRepository.findByMember(timedOutMember)).isEmpty();
+        assertThat(fruitInventoryRepository.findById(freeFruitId).orElseThrow().getQuantity())
+                .isEqualTo(INITIAL_STOCK - 1);
+    }
+
+    // 잠긴 상품 주문을 접수하고 커밋 스레드가 그 주문의 트랜잭션을 시작할 때까지 대기
+    private Future<OrderDto> submitUntilCommitting(Member member, Long fruitId) throws InterruptedException {
+        long transactionsBefore = transactions();
+        Future<OrderDto> future = executor.submit(() -> orderIntakePipeline.submit(member.getId(), request(fruitId)));
+        awaitUntil(this::transactions, transactionsBefore + 1);
+        return future;
+    }
+
+    private void awaitUntil(LongSupplier actual, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (actual.getAsLong() != expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private long transactions() {
+        return meterRegistry.get("order.intake.batch.size").summary().count();
+    }
+
+    private long queueDepth() {
+        return (long) meterRegistry.get("order.intake.queue.depth").gauge().value();
+    }
+
+    private CreateOrderRequestDto request(Long fruitId) {
+        return new CreateOrderRequestDto(List.of(new OrderItemRequestDto(fruitId, 1)), "CARD");
+    }
+
+    private Member createMember() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return memberRepository.save(Member.builder()
+                .username("buyer-" + suffix)
+                .email("buyer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("구매자")
+                .build());
+    }
+
+    private Long createFruit() {
+        Category category = categoryRepository.save(Category.builder()
+                .name("접수큐-" + UUID.randomUUID().toString().substring(0, 8))
+                .build());
+        Long fruitId = fruitRepository.save(Fruit.builder()
+                .fruitName("샤인머스캣")
+                .price(new BigDecimal("15000"))
+                .category(category)
+                .build()).getId();
+        fruitInventoryRepository.save(FruitInventory.builder()
+                .fruitId(fruitId)
+                .quantity(INITIAL_STOCK)
+                .build());
+        return fruitId;
+    }
+}
@@ -0,0 +1,194 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.domain.order.domain.OrderRepository;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "order.intake.group-commit.enabled=true",
+        "order.intake.group-commit.batch-size=50",
+        "order.intake.group-commit.max-linger-ms=200"
+})
+@ActiveProfiles("test")
+class OrderIntakePipelineTest {
+
+    private static final int INITIAL_STOCK = 100;
+    private static final int ORDER_COUNT = 20;
+
+    @Autowired
+    private OrderIntakePipeline orderIntakePipeline;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Member member;
+    private Long fruitId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        member = memberRepository.save(Member.builder()
+                .username("buyer-" + suffix)
+                .email("buyer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("구매자")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("그룹커밋-" + suffix)
+                .build());
+        fruitId = fruitRepository.save(Fruit.builder()
+                .fruitName("샤인머스캣")
+                .price(new BigDecimal("15000"))
+                .category(category)
+                .build()).getId();
+        fruitInventoryRepository.save(FruitInventory.builder()
+                .fruitId(fruitId)
+                .quantity(INITIAL_STOCK)
+                .build());
+    }
+
+    @Test
+    void 동시_주문을_주문_수보다_적은_트랜잭션으로_커밋한다() throws Exception {
+        long transactionsBefore = committedTransactions();
+        List<CreateOrderRequestDto> requests = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            requests.add(request(1, "CARD"));
+        }
+
+        List<Object> results = submitConcurrently(requests, null);
+
+        assertThat(results).allMatch(OrderDto.class::isInstance);
+        assertThat(committedTransactions() - transactionsBefore).isLessThan(ORDER_COUNT);
+        assertThat(orderRepository.findByMember(member)).hasSize(ORDER_COUNT);
+        assertThat(stock()).isEqualTo(INITIAL_STOCK - ORDER_COUNT);
+    }
+
+    @Test
+    void 재고_부족_주문은_그_주문만_실패하고_나머지는_커밋한다() throws Exception {
+        List<CreateOrderRequestDto> requests = new ArrayList<>();
+        requests.add(request(INITIAL_STOCK + 1, "CARD"));
+        for (int i = 1; i < ORDER_COUNT; i++) {
+            requests.add(request(1, "CARD"));
+        }
+
+        List<Object> results = submitConcurrently(requests, null);
+
+        assertThat(results.get(0)).isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.OUT_OF_STOCK);
+        assertThat(results.subList(1, ORDER_COUNT)).allMatch(OrderDto.class::isInstance);
+        assertThat(orderRepository.findByMember(member)).hasSize(ORDER_COUNT - 1);
+        assertThat(stock()).isEqualTo(INITIAL_STOCK - (ORDER_COUNT - 1));
+    }
+
+    @Test
+    void DB_오류가_난_주문은_배치를_롤백하고_나머지_주문을_다시_커밋한다() throws Exception {
+        List<CreateOrderRequestDto> requests = new ArrayList<>();
+        // payment_method 컬럼 길이를 넘겨 INSERT 시점에 DB 오류 발생
+        requests.add(request(1, "C".repeat(300)));
+        for (int i = 1; i < ORDER_COUNT; i++) {
+            requests.add(request(1, "CARD"));
+        }
+
+        List<Object> results = submitConcurrently(requests, null);
+
+        assertThat(results.get(0)).isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(results.subList(1, ORDER_COUNT)).allMatch(OrderDto.class::isInstance);
+        assertThat(orderRepository.findByMember(member)).hasSize(ORDER_COUNT - 1);
+        assertThat(stock()).isEqualTo(INITIAL_STOCK - (ORDER_COUNT - 1));
+    }
+
+    @Test
+    void 같은_배치의_같은_멱등_키_주문은_한_번만_저장하고_같은_주문을_반환한다() throws Exception {
+        List<CreateOrderRequestDto> requests = List.of(request(2, "CARD"), request(2, "CARD"), request(2, "CARD"));
+
+        List<Object> results = submitConcurrently(requests, UUID.randomUUID().toString());
+
+        assertThat(results).allMatch(OrderDto.class::isInstance);
+        assertThat(results).extracting("id").containsOnly(((OrderDto) results.get(0)).getId());
+        assertThat(orderRepository.findByMember(member)).hasSize(1);
+        assertThat(stock()).isEqualTo(INITIAL_STOCK - 2);
+    }
+
+    // 모든 요청을 동시에 접수하고 요청 순서대로 주문 또는 예외를 반환
+    private List<Object> submitConcurrently(List<CreateOrderRequestDto> requests, String idempotencyKey)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(requests.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (CreateOrderRequestDto request : requests) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return orderIntakePipeline.submit(member.getId(), request, idempotencyKey);
+                } catch (RuntimeException e) {
+                    return e;
+                }
+            }));
+        }
+
+        start.countDown();
+        List<Object> results = new ArrayList<>();
+        for (Future<Object> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        return results;
+    }
+
+    private long committedTransactions() {
+        return meterRegistry.get("order.intake.batch.size").summary().count();
+    }
+
+    private int stock() {
+        return fruitInventoryRepository.findById(fruitId).orElseThrow().getQuantity();
+    }
+
+    private CreateOrderRequestDto request(int quantity, String paymentMethod) {
+        return new CreateOrderRequestDto(List.of(new OrderItemRequestDto(fruitId, quantity)), paymentMethod);
+    }
+}
@@ -0,0 +1,192 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.global.common.CursorPageDto;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class OrderPageTest {
+
+    // 회원 확인, 주문 페이지, 주문 상세·상품 조회 (페이지 크기와 무관)
+    private static final long STATEMENTS_PER_PAGE = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Member member;
+    private List<Long> fruitIds;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        member = memberRepository.save(Member.builder()
+                .username("buyer-" + suffix)
+                .email("buyer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("구매자")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("주문페이지-" + suffix)
+                .build());
+        fruitIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Long fruitId = fruitRepository.save(Fruit.builder()
+                    .fruitName("사과 " + i)
+                    .price(new BigDecimal("3000"))
+                    .category(category)
+                    .build()).getId();
+            fruitInventoryRepository.save(FruitInventory.builder()
+                    .fruitId(fruitId)
+                    .quantity(1000)
+                    .build());
+            fruitIds.add(fruitId);
+        }
+        loginAs(member.getUsername());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 같은_주문일의_주문을_빠짐없이_중복없이_최신순으로_넘긴다() {
+        // 같은 날 생성된 주문은 order_date가 모두 같아 order_id로만 구분됨
+        List<Long> orderIds = createOrders(7);
+        Collections.reverse(orderIds);
+
+        List<CursorPageDto<OrderDto>> pages = readAllPages(3);
+
+        assertThat(pages).extracting(page -> page.getContent().size()).containsExactly(3, 3, 1);
+        assertThat(pages).extracting(CursorPageDto::isHasNext).containsExactly(true, true, false);
+        assertThat(pages.get(2).getNextCursor()).isNull();
+        assertThat(pages.stream().flatMap(page -> page.getContent().stream()).map(OrderDto::getId))
+                .containsExactlyElementsOf(orderIds);
+        assertThat(pages.get(0).getContent().get(0).getOrderDetails()).hasSize(fruitIds.size());
+    }
+
+    @Test
+    void 주문_수가_페이지_크기의_배수면_마지막_페이지에서_다음_페이지가_없다() {
+        createOrders(4);
+
+        List<CursorPageDto<OrderDto>> pages = readAllPages(2);
+
+        assertThat(pages).extracting(page -> page.getContent().size()).containsExactly(2, 2);
+        assertThat(pages.get(1).isHasNext()).isFalse();
+        assertThat(pages.get(1).getNextCursor()).isNull();
+    }
+
+    @Test
+    void 페이지마다_조회_쿼리_수가_페이지_크기와_무관하게_일정하다() {
+        createOrders(12);
+
+        CursorPageDto<OrderDto> first = orderService.findByMember(member.getId(), null, 2);
+        assertThat(statementsFor(() -> orderService.findByMember(member.getId(), null, 2)))
+                .isEqualTo(STATEMENTS_PER_PAGE);
+        assertThat(statementsFor(() -> orderService.findByMember(member.getId(), null, 10)))
+                .isEqualTo(STATEMENTS_PER_PAGE);
+        assertThat(statementsFor(() -> orderService.findByMember(member.getId(), first.getNextCursor(), 10)))
+                .isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void 잘못되거나_변조된_커서는_INVALID_INPUT_VALUE로_거절한다() {
+        createOrders(1);
+
+        for (String cursor : List.of("not-base64!", encode("2026-01-01"), encode("2026-13-40:1"),
+                encode("2026-01-01:abc"), encode(":1"), encode("2026-01-01:99999999999999999999"))) {
+            assertThatThrownBy(() -> orderService.findByMember(member.getId(), cursor, 10))
+                    .as(cursor)
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private List<CursorPageDto<OrderDto>> readAllPages(int size) {
+        List<CursorPageDto<OrderDto>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDto<OrderDto> page = orderService.findByMember(member.getId(), cursor, size);
+            pages.add(page);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+
+    private long statementsFor(Runnable query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Long> createOrders(int count) {
+        CreateOrderRequestDto request = new CreateOrderRequestDto(fruitIds.stream()
+                .map(fruitId -> new OrderItemRequestDto(fruitId, 1))
+                .toList(), "CARD");
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orderIds.add(orderService.createOrder(member.getId(), request).getId());
+        }
+        return orderIds;
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void loginAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
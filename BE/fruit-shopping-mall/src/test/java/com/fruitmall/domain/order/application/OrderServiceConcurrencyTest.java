@@ -0,0 +1,144 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.fruit.application.FruitService;
+import com.fruitmall.domain.fruit.application.dto.StockShardingUpdateDto;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderServiceConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 10;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private FruitService fruitService;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void 동시_주문시_재고를_초과해서_판매하지_않는다() throws InterruptedException {
+        Long fruitId = createFruit(INITIAL_STOCK).getId();
+
+        orderConcurrently(fruitId);
+    }
+
+    @Test
+    void 분할_재고_상품도_동시_주문시_재고를_초과해서_판매하지_않는다() throws InterruptedException {
+        Long fruitId = createFruit(INITIAL_STOCK).getId();
+        fruitService.updateStockSharding(fruitId, new StockShardingUpdateDto(4));
+
+        orderConcurrently(fruitId);
+    }
+
+    private void orderConcurrently(Long fruitId) throws InterruptedException {
+        Long memberId = createMember().getId();
+
+        CreateOrderRequestDto request = new CreateOrderRequestDto(
+                List.of(new OrderItemRequestDto(fruitId, 1)), "CARD");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    orderService.createOrder(memberId, request);
+                    succeeded.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.OUT_OF_STOCK) {
+                        outOfStock.incrementAndGet();
+                    } else {
+                        unexpected.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    unexpected.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(unexpected.get()).isZero();
+        assertThat(succeeded.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(outOfStock.get()).isEqualTo(THREAD_COUNT - INITIAL_STOCK);
+        assertThat(fruitInventoryRepository.findStockQuantities(List.of(fruitId)).get(0).getQuantity()).isZero();
+    }
+
+    private Member createMember() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return memberRepository.save(Member.builder()
+                .username("buyer-" + suffix)
+                .email("buyer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("구매자")
+                .build());
+    }
+
+    private Fruit createFruit(int stockQuantity) {
+        Category category = categoryRepository.save(Category.builder()
+                .name("한정판매-" + UUID.randomUUID().toString().substring(0, 8))
+                .build());
+        Fruit fruit = fruitRepository.save(Fruit.builder()
+                .fruitName("샤인머스캣")
+                .price(new BigDecimal("15000"))
+                .category(category)
+                .build());
+        fruitInventoryRepository.save(FruitInventory.builder()
+                .fruitId(fruit.getId())
+                .quantity(stockQuantity)
+                .build());
+        return fruit;
+    }
+}
@@ -0,0 +1,120 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.dto.BulkUpdateOrderStatusRequestDto;
+import com.fruitmall.domain.order.application.dto.BulkUpdateOrderStatusResponseDto;
+import com.fruitmall.domain.order.application.dto.UpdateOrderStatusRequestDto;
+import com.fruitmall.domain.order.domain.OrderStatus;
+import com.fruitmall.global.error.BusinessException;
+import com.fruitmall.global.error.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderStatusUpdateTest {
+
+    private static final int MAX_BULK_SIZE = 1000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        member = memberRepository.save(Member.builder()
+                .username("buyer-" + suffix)
+                .email("buyer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("구매자")
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 관리자도_허용되지_않은_상태로는_변경할_수_없다() {
+        LocalDate orderDate = LocalDate.of(2001, 1, 1);
+        insertOrders(1, orderDate, OrderStatus.DELIVERED);
+        Long orderId = jdbcTemplate.queryForObject(
+                "SELECT order_id FROM orders WHERE member_id = ?", Long.class, member.getId());
+
+        assertThatThrownBy(() -> orderService.updateOrderStatus(
+                orderId, new UpdateOrderStatusRequestDto(OrderStatus.PENDING)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT order_status FROM orders WHERE order_id = ?", String.class, orderId))
+                .isEqualTo(OrderStatus.DELIVERED.name());
+    }
+
+    @Test
+    void 기간_조건의_대상이_최대_건수를_넘으면_일부만_변경하지_않고_거절한다() {
+        LocalDate orderDate = LocalDate.of(2000, 1, 1);
+        insertOrders(MAX_BULK_SIZE + 1, orderDate, OrderStatus.PAID);
+        BulkUpdateOrderStatusRequestDto request = BulkUpdateOrderStatusRequestDto.builder()
+                .orderStatus(OrderStatus.PREPARING)
+                .fromStatus(OrderStatus.PAID)
+                .startDate(orderDate)
+                .endDate(orderDate)
+                .build();
+
+        assertThatThrownBy(() -> orderService.updateOrderStatusBulk(request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        assertThat(countByStatus(OrderStatus.PAID)).isEqualTo(MAX_BULK_SIZE + 1);
+
+        // 최대 건수 이내면 모두 변경
+        jdbcTemplate.update("DELETE FROM orders WHERE member_id = ? AND order_id = " +
+                "(SELECT MAX(order_id) FROM orders WHERE member_id = ?)", member.getId(), member.getId());
+        BulkUpdateOrderStatusResponseDto response = orderService.updateOrderStatusBulk(request);
+        assertThat(response.getUpdatedCount()).isEqualTo(MAX_BULK_SIZE);
+        assertThat(countByStatus(OrderStatus.PREPARING)).isEqualTo(MAX_BULK_SIZE);
+    }
+
+    private void insertOrders(int count, LocalDate orderDate, OrderStatus status) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{member.getId(), Date.valueOf(orderDate), new BigDecimal("1000"), status.name()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO orders (member_id, order_date, total_price, payment_method, " +
+                "order_status, stock_restored) VALUES (?, ?, ?, 'CARD', ?, FALSE)", rows);
+    }
+
+    private int countByStatus(OrderStatus status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE member_id = ? AND order_status = ?",
+                Integer.class, member.getId(), status.name());
+    }
+}
@@ -0,0 +1,267 @@
+package com.fruitmall.domain.order.application;
+
+import com.fruitmall.domain.delivery.application.DeliveryService;
+import com.fruitmall.domain.delivery.application.dto.AddressRequestDto;
+import com.fruitmall.domain.delivery.application.dto.CreateDeliveryRequestDto;
+import com.fruitmall.domain.delivery.application.dto.UpdateDeliveryRequestDto;
+import com.fruitmall.domain.delivery.application.dto.UpdateDeliveryStatusRequestDto;
+import com.fruitmall.domain.delivery.domain.DeliveryStatus;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.dto.BulkUpdateOrderStatusRequestDto;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderSummaryDto;
+import com.fruitmall.domain.order.application.dto.UpdateOrderStatusRequestDto;
+import com.fruitmall.domain.order.domain.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문을 바꾸는 경로마다 주문 요약(order_summary)이 orders 테이블과 같은지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderSummaryTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private DeliveryService deliveryService;
+
+    @Autowired
+    private OrderSummaryBackfill orderSummaryBackfill;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+    private Long appleId;
+    private Long pearId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        member = memberRepository.save(Member.builder()
+                .username("buyer-" + suffix)
+                .email("buyer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("구매자")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("주문요약-" + suffix)
+                .build());
+        appleId = createFruit(category, "사과", "3000");
+        pearId = createFruit(category, "배", "5000");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 주문을_생성하면_요약이_같은_내용으로_저장된다() {
+        Long orderId = createOrder();
+
+        assertSummaryMatchesOrders();
+        assertThat(summary(orderId).getItemCount()).isEqualTo(2);
+        assertThat(summary(orderId).getTotalPrice()).isEqualByComparingTo("11000");
+    }
+
+    @Test
+    void 주문_상태를_변경하거나_회원이_취소하면_요약_상태도_바뀐다() {
+        Long paidOrderId = createOrder();
+        Long cancelledOrderId = createOrder();
+
+        loginAs("admin", "ROLE_ADMIN");
+        orderService.updateOrderStatus(paidOrderId, new UpdateOrderStatusRequestDto(OrderStatus.PAID));
+        loginAs(member.getUsername(), "ROLE_USER");
+        orderService.updateOrderStatus(cancelledOrderId, new UpdateOrderStatusRequestDto(OrderStatus.CANCELLED));
+
+        assertSummaryMatchesOrders();
+        assertThat(summary(paidOrderId).getOrderStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(summary(cancelledOrderId).getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void 일괄_상태_변경은_허용된_주문의_요약만_바꾼다() {
+        Long firstOrderId = createOrder();
+        Long secondOrderId = createOrder();
+        Long cancelledOrderId = createOrder();
+        loginAs("admin", "ROLE_ADMIN");
+        orderService.updateOrderStatus(cancelledOrderId, new UpdateOrderStatusRequestDto(OrderStatus.CANCELLED));
+
+        orderService.updateOrderStatusBulk(BulkUpdateOrderStatusRequestDto.builder()
+                .orderStatus(OrderStatus.PAID)
+                .orderIds(List.of(firstOrderId, secondOrderId, cancelledOrderId))
+                .build());
+
+        assertSummaryMatchesOrders();
+        assertThat(summary(firstOrderId).getOrderStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(summary(secondOrderId).getOrderStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(summary(cancelledOrderId).getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void 배송_생성과_상태_변경_취소가_요약에_반영된다() {
+        Long shippedOrderId = createOrder();
+        Long updatedOrderId = createOrder();
+        Long cancelledOrderId = createOrder();
+        Long shippedDeliveryId = createDelivery(shippedOrderId);
+        Long updatedDeliveryId = createDelivery(updatedOrderId);
+        Long cancelledDeliveryId = createDelivery(cancelledOrderId);
+        assertSummaryMatchesOrders();
+        assertThat(summary(shippedOrderId).getOrderStatus()).isEqualTo(OrderStatus.PREPARING);
+
+        deliveryService.updateDeliveryStatus(shippedDeliveryId,
+                new UpdateDeliveryStatusRequestDto(DeliveryStatus.SHIPPING));
+        deliveryService.updateDelivery(updatedDeliveryId, UpdateDeliveryRequestDto.builder()
+                .deliveryStatus(DeliveryStatus.DELIVERED)
+                .expectedDeliveryDate(LocalDate.now().plusDays(2))
+                .courier("과일택배")
+                .trackingNumber("1234567890")
+                .build());
+        deliveryService.cancelDelivery(cancelledDeliveryId);
+
+        assertSummaryMatchesOrders();
+        assertThat(summary(shippedOrderId).getOrderStatus()).isEqualTo(OrderStatus.SHIPPED);
+        assertThat(summary(updatedOrderId).getOrderStatus()).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(summary(cancelledOrderId).getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void 주문을_삭제하면_요약도_삭제된다() {
+        Long deletedOrderId = createOrder();
+        createOrder();
+        loginAs("admin", "ROLE_ADMIN");
+
+        orderService.deleteOrder(deletedOrderId);
+
+        assertSummaryMatchesOrders();
+        assertThat(orderService.findSummariesByMember(member.getId()))
+                .extracting(OrderSummaryDto::getId).doesNotContain(deletedOrderId);
+    }
+
+    @Test
+    void 요약_행이_없는_기존_주문은_백필로_채워진다() {
+        Long orderId = createOrder();
+        loginAs("admin", "ROLE_ADMIN");
+        orderService.updateOrderStatus(orderId, new UpdateOrderStatusRequestDto(OrderStatus.PAID));
+        jdbcTemplate.update("DELETE FROM order_summary WHERE order_id = ?", orderId);
+        assertThat(orderService.findSummariesByMember(member.getId())).isEmpty();
+
+        orderSummaryBackfill.backfill();
+
+        assertSummaryMatchesOrders();
+        assertThat(summary(orderId).getOrderStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(summary(orderId).getItemCount()).isEqualTo(2);
+    }
+
+    // 회원의 주문 요약 목록이 주문 목록과 같은 주문·순서·값인지 확인
+    private void assertSummaryMatchesOrders() {
+        loginAs("admin", "ROLE_ADMIN");
+        List<OrderDto> orders = orderService.findByMember(member.getId()).stream()
+                .sorted((a, b) -> Long.compare(b.getId(), a.getId()))
+                .toList();
+        List<OrderSummaryDto> summaries = orderService.findSummariesByMember(member.getId());
+
+        assertThat(summaries).hasSameSizeAs(orders);
+        for (int i = 0; i < orders.size(); i++) {
+            OrderDto order = orders.get(i);
+            OrderSummaryDto summary = summaries.get(i);
+            assertThat(summary.getId()).isEqualTo(order.getId());
+            assertThat(summary.getMemberId()).isEqualTo(member.getId());
+            assertThat(summary.getOrderDate()).isEqualTo(order.getOrderDate());
+            assertThat(summary.getOrderStatus()).isEqualTo(order.getOrderStatus());
+            assertThat(summary.getTotalPrice()).isEqualByComparingTo(order.getTotalPrice());
+            assertThat(summary.getItemCount()).isEqualTo(order.getOrderDetails().size());
+        }
+    }
+
+    private OrderSummaryDto summary(Long orderId) {
+        loginAs("admin", "ROLE_ADMIN");
+        return orderService.findSummariesByMember(member.getId()).stream()
+                .filter(summary -> summary.getId().equals(orderId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Long createOrder() {
+        CreateOrderRequestDto request = new CreateOrderRequestDto(List.of(
+                new OrderItemRequestDto(appleId, 2),
+                new OrderItemRequestDto(pearId, 1)), "CARD");
+        return orderService.createOrder(member.getId(), request).getId();
+    }
+
+    // 결제 완료 처리 후 배송 정보 생성
+    private Long createDelivery(Long orderId) {
+        loginAs("admin", "ROLE_ADMIN");
+        orderService.updateOrderStatus(orderId, new UpdateOrderStatusRequestDto(OrderStatus.PAID));
+
+        return deliveryService.createDelivery(CreateDeliveryRequestDto.builder()
+                .orderId(orderId)
+                .deliveryStatus(DeliveryStatus.PREPARING)
+                .expectedDeliveryDate(LocalDate.now().plusDays(2))
+                .address(AddressRequestDto.builder()
+                        .recipient("구매자")
+                        .zipCode("12345")
+                        .address1("서울시 강남구")
+                        .phoneNumber("010-1234-5678")
+                        .build())
+                .build()).getId();
+    }
+
+    private void loginAs(String username, String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority(role))));
+    }
+
+    private Long createFruit(Category category, String fruitName, String price) {
+        Long fruitId = fruitRepository.save(Fruit.builder()
+                .fruitName(fruitName)
+                .price(new BigDecimal(price))
+                .category(category)
+                .build()).getId();
+        fruitInventoryRepository.save(FruitInventory.builder()
+                .fruitId(fruitId)
+                .quantity(100)
+                .build());
+        return fruitId;
+    }
+}
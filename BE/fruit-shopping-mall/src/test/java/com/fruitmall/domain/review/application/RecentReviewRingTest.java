@@ -0,0 +1,142 @@
+package com.fruitmall.domain.review.application;
+
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.OrderService;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.domain.order.domain.OrderRepository;
+import com.fruitmall.domain.order.domain.OrderStatus;
+import com.fruitmall.domain.review.application.dto.CreateReviewRequestDto;
+import com.fruitmall.domain.review.application.dto.ReviewDto;
+import com.fruitmall.domain.review.application.dto.UpdateReviewRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "review.recent.capacity=3")
+@ActiveProfiles("test")
+class RecentReviewRingTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private RecentReviewRing recentReviewRing;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member member;
+    private Long fruitId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        member = memberRepository.save(Member.builder()
+                .username("reviewer-" + suffix)
+                .email("reviewer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("리뷰어")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("최근리뷰-" + suffix)
+                .build());
+        fruitId = fruitRepository.save(Fruit.builder()
+                .fruitName("천혜향")
+                .price(new BigDecimal("12000"))
+                .category(category)
+                .build()).getId();
+        fruitInventoryRepository.save(FruitInventory.builder()
+                .fruitId(fruitId)
+                .quantity(10)
+                .build());
+    }
+
+    @Test
+    void 작성_수정_삭제가_최근_리뷰에_바로_반영된다() {
+        Long first = createReview(3, null);
+        Long second = createReview(4, null);
+        Long third = createReview(5, null);
+
+        assertThat(recentIds(3)).containsExactly(third, second, first);
+        assertThat(recentReviewRing.recent(3)).isPresent();
+
+        reviewService.updateReview(second, member.getId(), new UpdateReviewRequestDto(1, "수정한 리뷰", null));
+        ReviewDto updated = reviewService.findRecentReviews(3).get(1);
+        assertThat(updated.getContent()).isEqualTo("수정한 리뷰");
+        assertThat(updated.getRating()).isEqualTo(1);
+
+        Long fourth = createReview(2, null);
+        assertThat(recentIds(3)).containsExactly(fourth, third, second);
+
+        // 삭제로 링이 모자라면 DB에서 채움
+        reviewService.deleteReview(third, member.getId());
+        assertThat(recentIds(3)).containsExactly(fourth, second, first);
+    }
+
+    @Test
+    void 링보다_많이_요청하면_DB에서_조회한다() {
+        Long first = createReview(1, null);
+        Long second = createReview(2, null);
+        Long third = createReview(3, null);
+        Long fourth = createReview(4, null);
+
+        assertThat(recentReviewRing.recent(4)).isEmpty();
+        assertThat(recentIds(4)).containsExactly(fourth, third, second, first);
+    }
+
+    private List<Long> recentIds(int limit) {
+        return reviewService.findRecentReviews(limit).stream().map(ReviewDto::getId).toList();
+    }
+
+    // 배송 완료된 주문 상세에 리뷰 작성
+    private Long createReview(int rating, String imageUrl) {
+        OrderDto order = orderService.createOrder(member.getId(), new CreateOrderRequestDto(
+                List.of(new OrderItemRequestDto(fruitId, 1)), "CARD"));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderRepository.findById(order.getId()).orElseThrow().updateOrderStatus(OrderStatus.DELIVERED));
+
+        return reviewService.createReview(member.getId(), CreateReviewRequestDto.builder()
+                .orderDetailId(order.getOrderDetails().get(0).getId())
+                .rating(rating)
+                .content("향이 좋아요")
+                .imageUrl(imageUrl)
+                .build()).getId();
+    }
+}
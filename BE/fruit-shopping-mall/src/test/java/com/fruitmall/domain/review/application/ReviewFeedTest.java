@@ -0,0 +1,156 @@
+package com.fruitmall.domain.review.application;
+
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.OrderService;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.domain.order.domain.OrderRepository;
+import com.fruitmall.domain.order.domain.OrderStatus;
+import com.fruitmall.domain.review.application.dto.CreateReviewRequestDto;
+import com.fruitmall.domain.review.application.dto.ReviewDto;
+import com.fruitmall.domain.review.application.dto.ReviewFeedDto;
+import com.fruitmall.global.error.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewFeedTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member member;
+    private Long fruitId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        member = memberRepository.save(Member.builder()
+                .username("reviewer-" + suffix)
+                .email("reviewer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("리뷰어")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("리뷰피드-" + suffix)
+                .build());
+        fruitId = fruitRepository.save(Fruit.builder()
+                .fruitName("천혜향")
+                .price(new BigDecimal("12000"))
+                .category(category)
+                .build()).getId();
+        fruitInventoryRepository.save(FruitInventory.builder()
+                .fruitId(fruitId)
+                .quantity(10)
+                .build());
+    }
+
+    @Test
+    void 평점순_피드를_커서로_끝까지_넘기면_모든_리뷰를_한_번씩_반환한다() {
+        Long first = createReview(3, null);
+        Long second = createReview(5, null);
+        Long third = createReview(3, "https://cdn.fruitmall.com/review.jpg");
+        Long fourth = createReview(1, null);
+        Long fifth = createReview(5, null);
+
+        assertThat(readAll(ReviewSort.HIGHEST)).containsExactly(fifth, second, third, first, fourth);
+        assertThat(readAll(ReviewSort.LOWEST)).containsExactly(fourth, first, third, second, fifth);
+        assertThat(readAll(ReviewSort.NEWEST)).containsExactly(fifth, fourth, third, second, first);
+        assertThat(readAll(ReviewSort.PHOTO)).containsExactly(third);
+    }
+
+    @Test
+    void 피드_합계는_리뷰_집계에서_가져오고_작성자_이름을_함께_반환한다() {
+        createReview(4, null);
+        createReview(2, null);
+
+        ReviewFeedDto feed = reviewService.findFeedByFruitId(fruitId, ReviewSort.NEWEST, null, 1);
+
+        assertThat(feed.getReviewCount()).isEqualTo(2);
+        assertThat(feed.getAverageRating()).isEqualTo(3.0);
+        assertThat(feed.getRatingCounts()).containsExactly(0L, 1L, 0L, 1L, 0L);
+        assertThat(feed.getContent()).hasSize(1);
+        assertThat(feed.isHasNext()).isTrue();
+        ReviewDto review = feed.getContent().get(0);
+        assertThat(review.getMemberName()).isEqualTo("리뷰어");
+        assertThat(review.getFruitName()).isEqualTo("천혜향");
+        assertThat(review.getRating()).isEqualTo(2);
+    }
+
+    @Test
+    void 잘못된_커서는_거부한다() {
+        assertThatThrownBy(() -> reviewService.findFeedByFruitId(fruitId, ReviewSort.NEWEST, "not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    // 2건씩 끝까지 넘기며 리뷰 ID 수집
+    private List<Long> readAll(ReviewSort sort) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            ReviewFeedDto page = reviewService.findFeedByFruitId(fruitId, sort, cursor, 2);
+            page.getContent().forEach(review -> ids.add(review.getId()));
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+        return ids;
+    }
+
+    // 배송 완료된 주문 상세에 리뷰 작성
+    private Long createReview(int rating, String imageUrl) {
+        OrderDto order = orderService.createOrder(member.getId(), new CreateOrderRequestDto(
+                List.of(new OrderItemRequestDto(fruitId, 1)), "CARD"));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderRepository.findById(order.getId()).orElseThrow().updateOrderStatus(OrderStatus.DELIVERED));
+
+        return reviewService.createReview(member.getId(), CreateReviewRequestDto.builder()
+                .orderDetailId(order.getOrderDetails().get(0).getId())
+                .rating(rating)
+                .content("향이 좋아요")
+                .imageUrl(imageUrl)
+                .build()).getId();
+    }
+}
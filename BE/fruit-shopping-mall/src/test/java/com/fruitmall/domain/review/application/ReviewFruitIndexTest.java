@@ -0,0 +1,186 @@
+package com.fruitmall.domain.review.application;
+
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.OrderService;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.domain.order.domain.OrderRepository;
+import com.fruitmall.domain.order.domain.OrderStatus;
+import com.fruitmall.domain.review.application.dto.CreateReviewRequestDto;
+import com.fruitmall.domain.review.application.dto.ReviewSummaryDto;
+import com.fruitmall.domain.review.application.dto.UpdateReviewRequestDto;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewFruitIndexTest {
+
+    private static final String ORDER_DETAIL_TABLE = "\"PUBLIC\".\"ORDER_DETAIL\"";
+    private static final String[] FRUIT_INDEXES = {"IDX_REVIEW_FRUIT_ID", "IDX_REVIEW_FRUIT_RATING"};
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewFruitBackfill reviewFruitBackfill;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member member;
+    private Long fruitId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        member = memberRepository.save(Member.builder()
+                .username("reviewer-" + suffix)
+                .email("reviewer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("리뷰어")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("리뷰인덱스-" + suffix)
+                .build());
+        fruitId = fruitRepository.save(Fruit.builder()
+                .fruitName("천혜향")
+                .price(new BigDecimal("12000"))
+                .category(category)
+                .build()).getId();
+        fruitInventoryRepository.save(FruitInventory.builder()
+                .fruitId(fruitId)
+                .quantity(10)
+                .build());
+    }
+
+    @Test
+    void 리뷰_작성_시_상품이_저장되고_기존_리뷰는_백필된다() {
+        Long reviewId = createReview(4);
+        assertThat(reviewFruitId(reviewId)).isEqualTo(fruitId);
+
+        // 비정규화 이전에 작성된 리뷰
+        jdbcTemplate.update("UPDATE review SET fruit_id = NULL WHERE review_id = ?", reviewId);
+        // 백필 전에도 주문 상세의 상품으로 수정·집계 가능
+        reviewService.updateReview(reviewId, member.getId(), new UpdateReviewRequestDto(5, "다시 먹어도 맛있어요", null));
+        assertThat(reviewService.findStatsByFruitId(fruitId).getAverageRating()).isEqualTo(5.0);
+        reviewFruitBackfill.backfill();
+
+        assertThat(reviewFruitId(reviewId)).isEqualTo(fruitId);
+        ReviewSummaryDto summary = reviewService.findByFruitIdOrderByRatingDesc(fruitId);
+        assertThat(summary.getReviews()).extracting("id").containsExactly(reviewId);
+        assertThat(summary.getReviews().get(0).getFruitName()).isEqualTo("천혜향");
+    }
+
+    @Test
+    void 상품별_리뷰_조회는_주문_상세를_거치지_않고_상품_인덱스를_탄다() {
+        createReview(5);
+        createReview(2);
+
+        String before = explain("SELECT r.* FROM review r " +
+                "JOIN order_detail od ON od.order_detail_id = r.order_detail_id " +
+                "JOIN fruit f ON f.fruit_id = od.fruit_id " +
+                "WHERE f.fruit_id = " + fruitId + " ORDER BY r.rating DESC");
+        // 높은 평점순 피드의 키셋 조건 (findFeedHighest와 같은 형태)
+        String after = explain("SELECT r.* FROM review r WHERE r.fruit_id = " + fruitId +
+                " AND r.rating <= 6 AND (r.rating < 6 OR r.review_id < " + Long.MAX_VALUE + ") " +
+                "ORDER BY r.rating DESC, r.review_id DESC");
+        // 최신순 피드 (findFeedNewest와 같은 형태)
+        String newest = explain("SELECT r.* FROM review r WHERE r.fruit_id = " + fruitId +
+                " AND r.review_id < " + Long.MAX_VALUE + " ORDER BY r.review_id DESC");
+        String count = explain("SELECT COUNT(*), AVG(r.rating) FROM review r WHERE r.fruit_id = " + fruitId);
+        log.info("변경 전 실행 계획: {}", before);
+        log.info("변경 후 실행 계획: {}", after);
+        log.info("집계 실행 계획: {}", count);
+
+        // 선택 컬럼에는 ORDER_DETAIL_ID가 있으므로 테이블 참조 여부로 조인 확인
+        assertThat(before).contains(ORDER_DETAIL_TABLE);
+        assertThat(after).doesNotContain(ORDER_DETAIL_TABLE)
+                .containsAnyOf(FRUIT_INDEXES);
+        assertThat(newest).contains("IDX_REVIEW_FRUIT_ID");
+        assertThat(count).doesNotContain(ORDER_DETAIL_TABLE)
+                .containsAnyOf(FRUIT_INDEXES);
+    }
+
+    @Test
+    void 백필은_사용하지_않는_작성일_인덱스를_삭제한다() {
+        // 이전 버전 스키마에 남아 있는 인덱스
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_review_fruit_created ON review (fruit_id, created_at)");
+        assertThat(reviewIndexes()).contains("IDX_REVIEW_FRUIT_CREATED");
+
+        reviewFruitBackfill.backfill();
+        reviewFruitBackfill.backfill();
+
+        assertThat(reviewIndexes()).doesNotContain("IDX_REVIEW_FRUIT_CREATED").contains(FRUIT_INDEXES);
+    }
+
+    private List<String> reviewIndexes() {
+        return jdbcTemplate.queryForList("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES "
+                + "WHERE TABLE_NAME = 'REVIEW'", String.class);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    private Long reviewFruitId(Long reviewId) {
+        return jdbcTemplate.queryForObject("SELECT fruit_id FROM review WHERE review_id = ?", Long.class, reviewId);
+    }
+
+    // 배송 완료된 주문 상세에 리뷰 작성
+    private Long createReview(int rating) {
+        OrderDto order = orderService.createOrder(member.getId(), new CreateOrderRequestDto(
+                List.of(new OrderItemRequestDto(fruitId, 1)), "CARD"));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderRepository.findById(order.getId()).orElseThrow().updateOrderStatus(OrderStatus.DELIVERED));
+
+        return reviewService.createReview(member.getId(), CreateReviewRequestDto.builder()
+                .orderDetailId(order.getOrderDetails().get(0).getId())
+                .rating(rating)
+                .content("향이 좋아요")
+                .build()).getId();
+    }
+}
@@ -0,0 +1,195 @@
+package com.fruitmall.domain.review.application;
+
+import com.fruitmall.domain.fruit.application.FruitService;
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import com.fruitmall.domain.fruit.domain.Fruit;
+import com.fruitmall.domain.fruit.domain.FruitInventory;
+import com.fruitmall.domain.fruit.domain.FruitInventoryRepository;
+import com.fruitmall.domain.fruit.domain.FruitRepository;
+import com.fruitmall.domain.member.domain.Member;
+import com.fruitmall.domain.member.domain.MemberRepository;
+import com.fruitmall.domain.order.application.OrderService;
+import com.fruitmall.domain.order.application.dto.CreateOrderRequestDto;
+import com.fruitmall.domain.order.application.dto.OrderDto;
+import com.fruitmall.domain.order.application.dto.OrderItemRequestDto;
+import com.fruitmall.domain.order.domain.OrderRepository;
+import com.fruitmall.domain.order.domain.OrderStatus;
+import com.fruitmall.domain.review.application.dto.CreateReviewRequestDto;
+import com.fruitmall.domain.review.application.dto.ReviewRatingDto;
+import com.fruitmall.domain.review.application.dto.ReviewStatsDto;
+import com.fruitmall.domain.review.application.dto.ReviewStatsReconcileResultDto;
+import com.fruitmall.domain.review.application.dto.ReviewSummaryDto;
+import com.fruitmall.domain.review.application.dto.UpdateReviewRequestDto;
+import com.fruitmall.domain.review.domain.ReviewStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewStatsTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewStatsReconciler reviewStatsReconciler;
+
+    @Autowired
+    private ReviewRatingService reviewRatingService;
+
+    @Autowired
+    private FruitService fruitService;
+
+    @Autowired
+    private ReviewStatsRepository reviewStatsRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private FruitRepository fruitRepository;
+
+    @Autowired
+    private FruitInventoryRepository fruitInventoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+    private Long fruitId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        member = memberRepository.save(Member.builder()
+                .username("reviewer-" + suffix)
+                .email("reviewer-" + suffix + "@fruitmall.com")
+                .password("password")
+                .name("리뷰어")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("리뷰집계-" + suffix)
+                .build());
+        fruitId = fruitRepository.save(Fruit.builder()
+                .fruitName("샤인머스캣")
+                .price(new BigDecimal("15000"))
+                .category(category)
+                .build()).getId();
+        fruitInventoryRepository.save(FruitInventory.builder()
+                .fruitId(fruitId)
+                .quantity(10)
+                .build());
+    }
+
+    @Test
+    void 리뷰_작성_수정_삭제가_집계에_반영된다() {
+        Long firstReviewId = createReview(5);
+        Long secondReviewId = createReview(3);
+
+        assertStats(reviewService.findStatsByFruitId(fruitId), 2, 4.0, List.of(0L, 0L, 1L, 0L, 1L));
+
+        reviewService.updateReview(secondReviewId, member.getId(), new UpdateReviewRequestDto(1, "다시 먹어보니 별로", null));
+        assertStats(reviewService.findStatsByFruitId(fruitId), 2, 3.0, List.of(1L, 0L, 0L, 0L, 1L));
+
+        reviewService.deleteReview(firstReviewId, member.getId());
+        ReviewSummaryDto summary = reviewService.findByFruitId(fruitId);
+        assertThat(summary.getReviewCount()).isEqualTo(1);
+        assertThat(summary.getAverageRating()).isEqualTo(1.0);
+        assertThat(summary.getRatingCounts()).containsExactly(1L, 0L, 0L, 0L, 0L);
+        assertThat(summary.getReviews()).hasSize(1);
+    }
+
+    @Test
+    void 보정_작업이_어긋난_집계를_다시_계산한다() {
+        createReview(4);
+        createReview(2);
+        // 집계 행을 일부러 틀어 둠
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                reviewStatsRepository.overwrite(fruitId, 7, 30, 0, 0, 0, 7, 0));
+
+        ReviewStatsReconcileResultDto result = reviewStatsReconciler.reconcile();
+
+        assertThat(result.getDriftedFruitIds()).contains(fruitId);
+        assertStats(reviewService.findStatsByFruitId(fruitId), 2, 3.0, List.of(0L, 1L, 0L, 1L, 0L));
+        assertThat(reviewStatsReconciler.reconcile().getDriftedFruitIds()).doesNotContain(fruitId);
+    }
+
+    @Test
+    void 집계_테이블이_비어_있으면_기존_리뷰로_채운다() {
+        createReview(5);
+        createReview(3);
+        // 집계 도입 이전 데이터: 리뷰만 있고 집계 행은 없음
+        jdbcTemplate.update("DELETE FROM review_stats");
+
+        reviewStatsReconciler.backfillIfEmpty();
+
+        assertStats(reviewService.findStatsByFruitId(fruitId), 2, 4.0, List.of(0L, 0L, 1L, 0L, 1L));
+    }
+
+    @Test
+    void 여러_상품의_평점을_한_번에_조회한다() {
+        createReview(5);
+        createReview(4);
+        Long unreviewedFruitId = Long.MAX_VALUE;
+
+        List<ReviewRatingDto> ratings = reviewRatingService.findRatings(List.of(fruitId, unreviewedFruitId, fruitId));
+
+        assertThat(ratings).extracting(ReviewRatingDto::getFruitId).containsExactly(fruitId, unreviewedFruitId);
+        assertThat(ratings.get(0).getAverageRating()).isEqualTo(4.5);
+        assertThat(ratings.get(0).getReviewCount()).isEqualTo(2);
+        assertThat(ratings.get(1).getReviewCount()).isZero();
+
+        FruitDto fruit = fruitService.findById(fruitId);
+        assertThat(fruit.getAverageRating()).isNull();
+        FruitDto rated = reviewRatingService.withRatings(List.of(fruit)).get(0);
+        assertThat(rated.getAverageRating()).isEqualTo(4.5);
+        assertThat(rated.getReviewCount()).isEqualTo(2);
+        assertThat(rated.getStockQuantity()).isEqualTo(fruit.getStockQuantity());
+    }
+
+    private void assertStats(ReviewStatsDto stats, long count, double average, List<Long> ratingCounts) {
+        assertThat(stats.getReviewCount()).isEqualTo(count);
+        assertThat(stats.getAverageRating()).isEqualTo(average);
+        assertThat(stats.getRatingCounts()).isEqualTo(ratingCounts);
+    }
+
+    // 배송 완료된 주문 상세에 리뷰 작성
+    private Long createReview(int rating) {
+        OrderDto order = orderService.createOrder(member.getId(), new CreateOrderRequestDto(
+                List.of(new OrderItemRequestDto(fruitId, 1)), "CARD"));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderRepository.findById(order.getId()).orElseThrow().updateOrderStatus(OrderStatus.DELIVERED));
+
+        return reviewService.createReview(member.getId(), CreateReviewRequestDto.builder()
+                .orderDetailId(order.getOrderDetails().get(0).getId())
+                .rating(rating)
+                .content("맛있어요")
+                .build()).getId();
+    }
+}
@@ -0,0 +1,154 @@
+package com.fruitmall.interfaces.web.fruit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fruitmall.domain.fruit.application.FruitCatalogSnapshot;
+import com.fruitmall.domain.fruit.application.FruitService;
+import com.fruitmall.domain.fruit.application.dto.FruitDto;
+import com.fruitmall.domain.fruit.application.dto.FruitRegisterDto;
+import com.fruitmall.domain.fruit.application.dto.StockShardingUpdateDto;
+import com.fruitmall.domain.fruit.domain.Category;
+import com.fruitmall.domain.fruit.domain.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FruitCatalogResponseTest {
+
+    @Autowired
+    private FruitController fruitController;
+
+    @Autowired
+    private FruitCatalogSnapshot catalogSnapshot;
+
+    @Autowired
+    private FruitService fruitService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long categoryId;
+    private FruitDto fruit;
+
+    @BeforeEach
+    void setUp() {
+        categoryId = categoryRepository.save(Category.builder()
+                .name("목록응답-" + UUID.randomUUID().toString().substring(0, 8))
+                .build()).getId();
+        fruit = fruitService.register(FruitRegisterDto.builder()
+                .fruitName("한라봉")
+                .origin("제주")
+                .stockQuantity(10)
+                .price(new BigDecimal("8000"))
+                .categoryId(categoryId)
+                .season("겨울")
+                .build());
+        catalogSnapshot.rebuild();
+    }
+
+    @Test
+    void 목록_항목은_상품_정보만_담고_재고_필드는_없다() throws IOException {
+        ResponseEntity<byte[]> response = fruitController.getFruitsByCategory(categoryId, null, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        JsonNode items = objectMapper.readTree(response.getBody());
+        assertThat(items).hasSize(1);
+        JsonNode item = items.get(0);
+        assertThat(item.get("id").asLong()).isEqualTo(fruit.getId());
+        assertThat(item.get("fruitName").asText()).isEqualTo("한라봉");
+        assertThat(item.get("origin").asText()).isEqualTo("제주");
+        assertThat(item.get("price").decimalValue()).isEqualByComparingTo("8000");
+        assertThat(item.get("categoryId").asLong()).isEqualTo(categoryId);
+        assertThat(item.get("season").asText()).isEqualTo("겨울");
+        assertThat(item.has("stockQuantity")).isFalse();
+        assertThat(item.has("stockShardCount")).isFalse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 분할_재고_행_수는_관리자_재고_응답에만_있다() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+        JsonNode admin = objectMapper.valueToTree(fruitController.updateStockSharding(
+                fruit.getId(), new StockShardingUpdateDto(2)).getBody());
+        JsonNode detail = objectMapper.valueToTree(fruitController.getFruit(fruit.getId()).getBody());
+
+        assertThat(admin.get("stockShardCount").asInt()).isEqualTo(2);
+        assertThat(admin.get("id").asLong()).isEqualTo(fruit.getId());
+        assertThat(admin.get("stockQuantity").asInt()).isEqualTo(10);
+        assertThat(admin.has("fruit")).isFalse();
+        assertThat(detail.get("stockQuantity").asInt()).isEqualTo(10);
+        assertThat(detail.has("stockShardCount")).isFalse();
+    }
+
+    @Test
+    void 같은_ETag면_304를_응답하고_약한_비교와_여러_값도_일치로_본다() {
+        String etag = fruitController.getFruitsByCategory(categoryId, null, null).getHeaders().getETag();
+
+        assertThat(status(null, etag)).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(status(null, "W/" + etag)).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(status(null, "\"other\", " + etag)).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(status(null, "*")).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(status(null, "\"other\"")).isEqualTo(HttpStatus.OK);
+
+        // gzip 응답은 ETag가 달라 비압축 ETag로는 304가 되지 않음
+        assertThat(status("gzip", etag)).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void gzip은_q_값이_0보다_클_때만_압축해서_응답한다() throws IOException {
+        ResponseEntity<byte[]> plain = fruitController.getFruitsByCategory(categoryId, null, null);
+
+        ResponseEntity<byte[]> gzip = fruitController.getFruitsByCategory(categoryId, "br, gzip;q=0.5", null);
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getHeaders().getETag()).isNotEqualTo(plain.getHeaders().getETag());
+        assertThat(gzip.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))) {
+            assertThat(input.readAllBytes()).isEqualTo(plain.getBody());
+        }
+        assertThat(status("gzip", gzip.getHeaders().getETag())).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        assertThat(contentEncoding("gzip;q=0")).isNull();
+        assertThat(contentEncoding("*;q=0.1, gzip;q=0")).isNull();
+        assertThat(contentEncoding("*")).isEqualTo("gzip");
+        assertThat(contentEncoding("identity")).isNull();
+    }
+
+    private HttpStatus status(String acceptEncoding, String ifNoneMatch) {
+        return (HttpStatus) fruitController.getFruitsByCategory(categoryId, acceptEncoding, ifNoneMatch)
+                .getStatusCode();
+    }
+
+    private String contentEncoding(String acceptEncoding) {
+        return fruitController.getFruitsByCategory(categoryId, acceptEncoding, null)
+                .getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+    }
+}
@@ -17,7 +17,6 @@ CREATE TABLE FRUIT (
     fruit_id INT AUTO_INCREMENT PRIMARY KEY,
     fruit_name VARCHAR(100) NOT NULL,
     origin VARCHAR(100),
-    stock_quantity INT NOT NULL,
     price DECIMAL(10, 2) NOT NULL,
     category VARCHAR(50),
     season VARCHAR(50),
@@ -25,6 +24,13 @@ CREATE TABLE FRUIT (
     image_url VARCHAR(255)
 );
 
+-- 상품 재고 테이블 (상품당 1행, 재고 수량은 상품 테이블이 아닌 이 테이블에 저장)
+CREATE TABLE FRUIT_INVENTORY (
+    fruit_id INT PRIMARY KEY,
+    quantity INT NOT NULL,
+    FOREIGN KEY (fruit_id) REFERENCES FRUIT(fruit_id)
+);
+
 -- 주문 테이블
 CREATE TABLE `ORDER` (
     order_id INT AUTO_INCREMENT PRIMARY KEY,